@@ -0,0 +1,106 @@
+package com.example.sessionauth.global.config;
+
+import com.example.sessionauth.domains.auth.dto.request.LoginRequest;
+import com.example.sessionauth.domains.auth.dto.request.SignupRequest;
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.global.response.ApiResponse;
+import com.example.sessionauth.global.response.ErrorResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 엔드포인트 요청/응답 본문 처리량 (초당 처리 횟수)
+ * - plain: 이전 JacksonConfig 설정 (new ObjectMapper() + JavaTimeModule, 호출마다 readValue/writeValueAsBytes)
+ * - tuned: JacksonConfig.objectMapper() (Blackbird, 공유 버퍼 풀) + 미리 만든 ObjectReader/ObjectWriter
+ * - readLogin/readSignup: POST /api/auth/login, /signup 요청 본문, writeMe: GET /api/auth/me 응답, writeError: 로그인 실패 응답
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonEndpointBenchmark {
+
+    private static final byte[] LOGIN_BODY = """
+            {"email":"user@example.com","password":"password1234"}"""
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIGNUP_BODY = """
+            {"email":"user@example.com","password":"password1234","nickname":"user"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"plain", "tuned"})
+    public String mapper;
+
+    private ObjectReader loginReader;
+    private ObjectReader signupReader;
+    private ObjectWriter meWriter;
+    private ObjectWriter errorWriter;
+
+    private ApiResponse<AppUserResponse> meResponse;
+    private ErrorResponse errorResponse;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        meResponse = ApiResponse.ok(new AppUserResponse("user@example.com", "user")).getBody();
+        errorResponse = ErrorResponse.of(AuthErrorCode.INVALID_PASSWORD);
+
+        if ("tuned".equals(mapper)) {
+            ObjectMapper tuned = JacksonConfig.objectMapper();
+            loginReader = tuned.readerFor(LoginRequest.class);
+            signupReader = tuned.readerFor(SignupRequest.class);
+            meWriter = tuned.writerFor(new TypeReference<ApiResponse<AppUserResponse>>() {
+            });
+            errorWriter = tuned.writerFor(ErrorResponse.class);
+        } else {
+            objectMapper = new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+    }
+
+    @Benchmark
+    public LoginRequest readLogin() throws IOException {
+        return loginReader != null
+                ? loginReader.readValue(LOGIN_BODY)
+                : objectMapper.readValue(LOGIN_BODY, LoginRequest.class);
+    }
+
+    @Benchmark
+    public SignupRequest readSignup() throws IOException {
+        return signupReader != null
+                ? signupReader.readValue(SIGNUP_BODY)
+                : objectMapper.readValue(SIGNUP_BODY, SignupRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeMe() throws IOException {
+        return meWriter != null
+                ? meWriter.writeValueAsBytes(meResponse)
+                : objectMapper.writeValueAsBytes(meResponse);
+    }
+
+    @Benchmark
+    public byte[] writeError() throws IOException {
+        return errorWriter != null
+                ? errorWriter.writeValueAsBytes(errorResponse)
+                : objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+}
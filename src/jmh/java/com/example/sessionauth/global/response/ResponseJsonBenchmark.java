@@ -0,0 +1,66 @@
+package com.example.sessionauth.global.response;
+
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.global.config.JacksonConfig;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 응답 본문 JSON 쓰기 (JacksonConfig 의 ObjectMapper 사용)
+ */
+@State(Scope.Benchmark)
+public class ResponseJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseWriter errorResponseWriter;
+
+    private ApiResponse<AppUserResponse> meResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JacksonConfig.objectMapper();
+        errorResponseWriter = new ErrorResponseWriter(objectMapper, new ErrorCodeMetrics(new SimpleMeterRegistry()));
+        meResponse = ApiResponse.ok(new AppUserResponse("user@example.com", "user")).getBody();
+    }
+
+    /**
+     * GET /api/auth/me 응답
+     */
+    @Benchmark
+    public byte[] apiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(meResponse);
+    }
+
+    /**
+     * 로그인 실패 응답 (GlobalExceptionHandler)
+     */
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ErrorResponse.of(AuthErrorCode.INVALID_PASSWORD));
+    }
+
+    /**
+     * 인증 실패 응답 (SecurityConfig authenticationEntryPoint)
+     */
+    @Benchmark
+    public byte[] unauthorizedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ErrorResponse.of(CommonErrorCode.UNAUTHORIZED));
+    }
+
+    /**
+     * 인증 실패 응답 (ErrorResponseWriter, 미리 인코딩한 본문에 timestamp 만 끼워 넣음)
+     */
+    @Benchmark
+    public byte[] unauthorizedResponsePreEncoded() {
+        return errorResponseWriter.toBytes(CommonErrorCode.UNAUTHORIZED);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.example.sessionauth.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.SingleResultAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+/**
+ * 요청당 URL 인가 규칙 선택 + 판단 (SecurityConfig 의 규칙과 같은 규칙)
+ * - matchers: requestMatchers 체인 (규칙을 선언 순서대로 PathPattern 과 비교)
+ * - trie: PathAuthorizationManager (경로 세그먼트 trie)
+ * - path: 앞쪽 규칙에 일치하는 경로(/api/auth/login)부터 모든 규칙을 지나치는 경로(/other/path)까지
+ */
+@State(Scope.Benchmark)
+public class AuthorizationMatcherBenchmark {
+
+    private static final String[] SWAGGER = {
+            "/v3/api-docs/**", "/api/v3/api-docs/**", "/api/swagger-ui/**",
+            "/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**"
+    };
+
+    @Param({"matchers", "trie"})
+    public String implementation;
+
+    @Param({"/api/auth/login", "/api/users/me", "/api/admin/sessions", "/other/path"})
+    public String path;
+
+    private PathAuthorizationManager trie;
+    private AuthorizationManager<HttpServletRequest> matchers;
+    private HttpServletRequest request;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        if ("trie".equals(implementation)) {
+            trie = trie();
+        } else {
+            matchers = matchers();
+        }
+        request = new MockHttpServletRequest("GET", path);
+        authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "user", null, AuthorityUtils.createAuthorityList("ROLE_USER")
+        );
+    }
+
+    @Benchmark
+    public AuthorizationResult authorize() {
+        if (trie != null) {
+            // AuthorizationFilter 처럼 요청을 RequestAuthorizationContext 로 감싸서 전달
+            return trie.authorize(() -> authentication, new RequestAuthorizationContext(request));
+        }
+        return matchers.authorize(() -> authentication, request);
+    }
+
+    private static PathAuthorizationManager trie() {
+        return PathAuthorizationManager.builder()
+                .permitAll("/public/**", "/favicon.ico")
+                .permitAll(SWAGGER)
+                .permitAll("/actuator/**")
+                .permitAll("/api/auth/**")
+                .permitAll("/external/**")
+                .hasRole("ADMIN", "/api/admin/**")
+                .hasRole("USER", "/api/**")
+                .anyRequest(AuthenticatedAuthorizationManager.authenticated(), "authenticated")
+                .build();
+    }
+
+    private static AuthorizationManager<HttpServletRequest> matchers() {
+        RequestMatcherDelegatingAuthorizationManager.Builder builder = RequestMatcherDelegatingAuthorizationManager.builder();
+        add(builder, SingleResultAuthorizationManager.permitAll(), "/public/**", "/favicon.ico");
+        add(builder, SingleResultAuthorizationManager.permitAll(), SWAGGER);
+        add(builder, SingleResultAuthorizationManager.permitAll(), "/actuator/**");
+        add(builder, SingleResultAuthorizationManager.permitAll(), "/api/auth/**");
+        add(builder, SingleResultAuthorizationManager.permitAll(), "/external/**");
+        add(builder, AuthorityAuthorizationManager.hasRole("ADMIN"), "/api/admin/**");
+        add(builder, AuthorityAuthorizationManager.hasRole("USER"), "/api/**");
+        builder.add(AnyRequestMatcher.INSTANCE, AuthenticatedAuthorizationManager.authenticated());
+        return builder.build();
+    }
+
+    private static void add(RequestMatcherDelegatingAuthorizationManager.Builder builder,
+                            AuthorizationManager<RequestAuthorizationContext> access, String... patterns) {
+        for (String pattern : patterns) {
+            builder.add(PathPatternRequestMatcher.withDefaults().matcher(pattern), access);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.example.sessionauth.global.security;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.csrf.CsrfTokenRequestHandler;
+import org.springframework.security.web.csrf.DeferredCsrfToken;
+import org.springframework.security.web.csrf.XorCsrfTokenRequestAttributeHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+/**
+ * CsrfFilter 가 요청마다 수행하는 토큰 처리 (app.security.csrf.mode)
+ * - cookie: CookieCsrfTokenRepository + XOR 마스킹 (기존 설정)
+ * - hmac: HmacCsrfTokenRepository + 마스킹 없음
+ * - safeRequest: GET 등 검증하지 않는 요청, protectedRequest: 토큰 검증까지 (상수 시간 비교)
+ */
+@State(Scope.Benchmark)
+public class CsrfTokenBenchmark {
+
+    @Param({"cookie", "hmac"})
+    public String mode;
+
+    private CsrfTokenRepository repository;
+    private CsrfTokenRequestHandler requestHandler;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("POST", "/api/users");
+        request.setSession(new MockHttpSession(null, UUID.randomUUID().toString()));
+        response = new MockHttpServletResponse();
+
+        String cookieValue;
+        String headerValue;
+        if ("hmac".equals(mode)) {
+            HmacCsrfTokenRepository hmac = new HmacCsrfTokenRepository(
+                    "benchmark-secret".getBytes(StandardCharsets.UTF_8), "XSRF-TOKEN", "X-XSRF-TOKEN"
+            );
+            repository = hmac;
+            requestHandler = new CsrfTokenRequestAttributeHandler();
+            cookieValue = hmac.token(request.getSession().getId());
+            headerValue = cookieValue;
+        } else {
+            repository = CookieCsrfTokenRepository.withHttpOnlyFalse();
+            requestHandler = new XorCsrfTokenRequestAttributeHandler();
+            cookieValue = UUID.randomUUID().toString();
+            // 클라이언트가 받는 마스킹된 토큰
+            CsrfToken token = new org.springframework.security.web.csrf.DefaultCsrfToken("X-XSRF-TOKEN", "_csrf", cookieValue);
+            requestHandler.handle(request, response, () -> token);
+            headerValue = ((CsrfToken) request.getAttribute(CsrfToken.class.getName())).getToken();
+        }
+        request.setCookies(new Cookie("XSRF-TOKEN", cookieValue));
+        request.addHeader("X-XSRF-TOKEN", headerValue);
+    }
+
+    @Benchmark
+    public DeferredCsrfToken safeRequest() {
+        DeferredCsrfToken deferredCsrfToken = repository.loadDeferredToken(request, response);
+        requestHandler.handle(request, response, deferredCsrfToken::get);
+        return deferredCsrfToken;
+    }
+
+    @Benchmark
+    public boolean protectedRequest() {
+        DeferredCsrfToken deferredCsrfToken = repository.loadDeferredToken(request, response);
+        requestHandler.handle(request, response, deferredCsrfToken::get);
+        CsrfToken csrfToken = deferredCsrfToken.get();
+        String actualToken = requestHandler.resolveCsrfTokenValue(request, csrfToken);
+        return actualToken != null && MessageDigest.isEqual(
+                csrfToken.getToken().getBytes(StandardCharsets.UTF_8),
+                actualToken.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+}
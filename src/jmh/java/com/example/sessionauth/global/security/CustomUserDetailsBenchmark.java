@@ -0,0 +1,38 @@
+package com.example.sessionauth.global.security;
+
+import com.example.sessionauth.domains.auth.model.AppUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 로그인 시 엔티티 → 인증 주체 변환 (CustomUserDetailsService.loadUserByUsername)
+ */
+@State(Scope.Benchmark)
+public class CustomUserDetailsBenchmark {
+
+    private AppUser user;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = AppUser.builder()
+                .id(UUID.randomUUID())
+                .email("user@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuM4Ec6qkwF3rF8C4j5zV9eO6O7Ddy0Wa")
+                .nickname("user")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public CustomUserDetails from() {
+        return CustomUserDetails.from(user);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.sessionauth.global.session.codec;
+
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 세션 SecurityContext 직렬화/역직렬화 (요청마다 세션 로드/저장 시 수행)
+ * - compact: 운영 기본 코덱 (app.session.codec=compact)
+ * - jdk: Spring Session 기본 JDK 직렬화
+ */
+@State(Scope.Benchmark)
+public class SessionCodecBenchmark {
+
+    private RedisSerializer<Object> compact;
+    private RedisSerializer<Object> jdk;
+
+    private SecurityContext context;
+    private byte[] compactBytes;
+    private byte[] jdkBytes;
+
+    @Setup
+    public void setUp() {
+        jdk = new JdkSerializationRedisSerializer();
+        compact = new CompactSessionRedisSerializer(
+                List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()),
+                jdk
+        );
+
+        CustomUserDetails principal = CustomUserDetails.builder()
+                .userId(UUID.randomUUID())
+                .email("user@example.com")
+                .nickname("user")
+                .authorities(Set.of(Role.USER.toGrantedAuthority()))
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+        context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+        );
+
+        compactBytes = compact.serialize(context);
+        jdkBytes = jdk.serialize(context);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() {
+        return compact.serialize(context);
+    }
+
+    @Benchmark
+    public Object deserializeCompact() {
+        return compact.deserialize(compactBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeJdk() {
+        return jdk.serialize(context);
+    }
+
+    @Benchmark
+    public Object deserializeJdk() {
+        return jdk.deserialize(jdkBytes);
+    }
+
+}
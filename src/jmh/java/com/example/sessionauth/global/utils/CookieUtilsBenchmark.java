@@ -0,0 +1,52 @@
+package com.example.sessionauth.global.utils;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+
+/**
+ * 쿠키 조회/생성 (브라우저가 보내는 일반적인 쿠키 개수 기준)
+ */
+@State(Scope.Benchmark)
+public class CookieUtilsBenchmark {
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest();
+        request.setCookies(
+                new Cookie("_ga", "GA1.1.123456789.1700000000"),
+                new Cookie("_gid", "GA1.1.987654321.1700000000"),
+                new Cookie("XSRF-TOKEN", "5f0b6c1e-3d0a-4b9e-9d6a-2c8f1e7a4b3d"),
+                new Cookie("theme", "dark"),
+                new Cookie("SESSION", "ZjY3ZDU2NjItYjE5Ni00NjZlLWE0YjMtNDI2YjM3ZWYzNmI2")
+        );
+    }
+
+    @Benchmark
+    public Optional<Cookie> getCookie() {
+        return CookieUtils.getCookie(request, "SESSION");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse addCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CookieUtils.addCookie(response, "theme", "dark", 3600, true, true, "/", "example.com");
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse addSameSiteCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CookieUtils.addSameSiteCookie(response, "theme", "dark", 3600, true, true, "/", "Lax");
+        return response;
+    }
+
+}
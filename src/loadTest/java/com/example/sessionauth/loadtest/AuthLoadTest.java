@@ -0,0 +1,164 @@
+package com.example.sessionauth.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 인증 API 부하 테스트 (./gradlew loadTest)
+ * - 내장 Redis 와 H2(MySQL 모드)로 애플리케이션을 실제 HTTP 서버(Undertow, reactive 모드는 Netty)로 기동
+ * - 가상 사용자마다 회원가입 → 로그인 → /me × N → 로그아웃 시나리오를 반복
+ * - 처리량, 엔드포인트별 p50/p99/p999 응답 시간, 요청당 Redis 명령/DB 쿼리 수를 리포트
+ * - threadModes=platform,virtual,reactive 이면 요청 처리 스레드 모드마다 애플리케이션을 새로 띄워 같은 시나리오를 비교
+ *   (reactive: 같은 API 계약의 WebFlux 애플리케이션, ReactiveAuthApplication)
+ * - 실패한 요청이 있으면 종료 코드 1
+ */
+public class AuthLoadTest {
+
+    private static final Duration JFR_FLUSH_GRACE = Duration.ofSeconds(2);
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final OperationCounters operationCounters;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    AuthLoadTest(LoadTestOptions options, URI baseUri, OperationCounters operationCounters) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.operationCounters = operationCounters;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        List<LoadTestReport> reports = new ArrayList<>();
+        try {
+            for (LoadTestOptions.ThreadMode threadMode : options.threadModes()) {
+                String[] arguments = withArguments(args, "--spring.data.redis.port=" + redisPort, threadMode.argument());
+                try (ConfigurableApplicationContext context = new SpringApplicationBuilder(threadMode.application())
+                        .profiles(threadMode.profiles())
+                        .run(arguments)) {
+                    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                    reports.add(new AuthLoadTest(options, URI.create("http://localhost:" + port), new OperationCounters(context)).run(threadMode));
+                }
+            }
+        } finally {
+            redisServer.stop();
+        }
+
+        reports.forEach(report -> report.print(System.out));
+        if (reports.size() > 1) {
+            LoadTestReport.printComparison(System.out, reports);
+        }
+        LoadTestReport.write(options.report(), reports);
+        System.exit(reports.stream().allMatch(report -> report.errors() == 0) ? 0 : 1);
+    }
+
+    LoadTestReport run(LoadTestOptions.ThreadMode threadMode) throws Exception {
+        // JIT/커넥션 풀 워밍업 (집계하지 않음)
+        runUsers("warmup", options.warmupIterations(), (endpoint, elapsedNanos, success) -> {
+        });
+
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        calibrate(stats);
+
+        OperationCounters.Snapshot before = operationCounters.snapshot();
+        long start = System.nanoTime();
+        runUsers("user", options.iterations(), (endpoint, elapsedNanos, success) -> stats.get(endpoint).record(elapsedNanos, success));
+        long elapsed = System.nanoTime() - start;
+        OperationCounters.Snapshot after = operationCounters.snapshot();
+
+        // pinning 이벤트는 JFR 스트림에서 비동기로 전달되므로 잠시 기다린 뒤 집계
+        long pinnedEvents = 0;
+        if (threadMode == LoadTestOptions.ThreadMode.VIRTUAL) {
+            Thread.sleep(JFR_FLUSH_GRACE.toMillis());
+            pinnedEvents = before.until(operationCounters.snapshot()).pinnedEvents();
+        }
+
+        return LoadTestReport.of(options, threadMode, elapsed, stats, before.until(after), pinnedEvents);
+    }
+
+    /**
+     * 단일 사용자로 요청 하나씩 실행하며 엔드포인트별 Redis 명령/DB 쿼리 수 측정
+     * (동시 실행 중에는 서버 측 카운터를 요청 단위로 나눌 수 없음)
+     */
+    private void calibrate(Map<Endpoint, EndpointStats> stats) throws IOException, InterruptedException {
+        VirtualUser user = new VirtualUser(client, baseUri, "calibration", options.meCalls());
+        VirtualUser.Listener listener = new VirtualUser.Listener() {
+
+            private OperationCounters.Snapshot before;
+
+            @Override
+            public void beforeRequest(Endpoint endpoint) {
+                before = operationCounters.snapshot();
+            }
+
+            @Override
+            public void afterRequest(Endpoint endpoint, long elapsedNanos, boolean success) {
+                stats.get(endpoint).calibrate(before.until(operationCounters.snapshot()));
+            }
+        };
+
+        for (int i = 0; i < options.calibrationRuns(); i++) {
+            user.runScenario(i, listener);
+        }
+    }
+
+    private void runUsers(String prefix, int iterations, VirtualUser.Listener listener) throws InterruptedException, ExecutionException {
+        List<Callable<Void>> tasks = new ArrayList<>(options.users());
+        for (int u = 0; u < options.users(); u++) {
+            VirtualUser user = new VirtualUser(client, baseUri, prefix + u, options.meCalls());
+            tasks.add(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    user.runScenario(i, listener);
+                }
+                return null;
+            });
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.users())) {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+    }
+
+    private static String[] withArguments(String[] args, String... arguments) {
+        String[] result = Arrays.copyOf(args, args.length + arguments.length);
+        System.arraycopy(arguments, 0, result, args.length, arguments.length);
+        return result;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
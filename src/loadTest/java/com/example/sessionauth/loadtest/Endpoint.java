@@ -0,0 +1,26 @@
+package com.example.sessionauth.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시나리오에서 호출하는 AuthController 엔드포인트
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+
+    SIGNUP("POST", "/api/auth/signup", 201),
+    LOGIN("POST", "/api/auth/login", 200),
+    ME("GET", "/api/auth/me", 200),
+    LOGOUT("POST", "/api/auth/logout", 204);
+
+    private final String method;
+    private final String path;
+    private final int expectedStatus;
+
+    public String label() {
+        return method + " " + path;
+    }
+
+}
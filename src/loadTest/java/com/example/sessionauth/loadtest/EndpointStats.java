@@ -0,0 +1,70 @@
+package com.example.sessionauth.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간 분포(µs)와 실패 횟수
+ */
+class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    // 단일 사용자 보정 실행에서 측정한 요청당 연산 수 합계
+    private final LongAdder calibratedRequests = new LongAdder();
+    private final LongAdder calibratedRedisCommands = new LongAdder();
+    private final LongAdder calibratedDbStatements = new LongAdder();
+
+    void record(long elapsedNanos, boolean success) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void calibrate(OperationCounters.Snapshot operations) {
+        calibratedRequests.increment();
+        calibratedRedisCommands.add(operations.redisCommands());
+        calibratedDbStatements.add(operations.dbStatements());
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double meanMillis() {
+        return latency.getMean() / 1000.0;
+    }
+
+    double maxMillis() {
+        return latency.getMaxValue() / 1000.0;
+    }
+
+    double redisCommandsPerRequest() {
+        return perCalibratedRequest(calibratedRedisCommands.sum());
+    }
+
+    double dbStatementsPerRequest() {
+        return perCalibratedRequest(calibratedDbStatements.sum());
+    }
+
+    private double perCalibratedRequest(long total) {
+        long requests = calibratedRequests.sum();
+        return requests == 0 ? 0 : (double) total / requests;
+    }
+
+}
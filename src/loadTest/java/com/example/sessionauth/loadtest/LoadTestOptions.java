@@ -0,0 +1,77 @@
+package com.example.sessionauth.loadtest;
+
+import com.example.sessionauth.SessionAuthExamApplication;
+import com.example.sessionauth.reactive.ReactiveAuthApplication;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 설정 (Gradle -PloadTest.* 속성 → 시스템 속성)
+ *
+ * @param users            동시 사용자 수
+ * @param iterations       사용자당 측정 시나리오 반복 횟수
+ * @param meCalls          시나리오당 /me 호출 횟수
+ * @param warmupIterations 사용자당 측정 전 워밍업 반복 횟수
+ * @param calibrationRuns  엔드포인트별 Redis/DB 연산 수를 재는 단일 사용자 반복 횟수
+ * @param threadModes      요청 처리 스레드 모드 (platform: Undertow XNIO 워커 풀, virtual: 가상 스레드, reactive: WebFlux 애플리케이션의 Netty 이벤트 루프), 여러 개면 모드마다 애플리케이션을 새로 띄워 비교
+ * @param report           JSON 리포트 경로
+ */
+public record LoadTestOptions(
+        int users,
+        int iterations,
+        int meCalls,
+        int warmupIterations,
+        int calibrationRuns,
+        List<ThreadMode> threadModes,
+        Path report
+) {
+
+    private static final String PREFIX = "loadTest.";
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.getInteger(PREFIX + "users", 32),
+                Integer.getInteger(PREFIX + "iterations", 20),
+                Integer.getInteger(PREFIX + "meCalls", 10),
+                Integer.getInteger(PREFIX + "warmupIterations", 2),
+                Integer.getInteger(PREFIX + "calibrationRuns", 5),
+                Arrays.stream(System.getProperty(PREFIX + "threadModes", "platform").split(","))
+                        .map(mode -> ThreadMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                        .toList(),
+                Path.of(System.getProperty(PREFIX + "report", "build/reports/load-test/report.json"))
+        );
+    }
+
+    public enum ThreadMode {
+        PLATFORM,
+        VIRTUAL,
+        REACTIVE;
+
+        /**
+         * 기동할 애플리케이션 (reactive: 같은 API 계약의 WebFlux + R2DBC 애플리케이션)
+         */
+        Class<?> application() {
+            return this == REACTIVE ? ReactiveAuthApplication.class : SessionAuthExamApplication.class;
+        }
+
+        /**
+         * 기동 프로필 (reactive 는 reactive 프로필 위에 loadtest 프로필)
+         */
+        String[] profiles() {
+            return this == REACTIVE
+                    ? new String[]{ReactiveAuthApplication.PROFILE, "loadtest"}
+                    : new String[]{"loadtest"};
+        }
+
+        /**
+         * 애플리케이션 기동 인자 (VirtualThreadConfig 적용 여부)
+         */
+        String argument() {
+            return "--spring.threads.virtual.enabled=" + (this == VIRTUAL);
+        }
+    }
+
+}
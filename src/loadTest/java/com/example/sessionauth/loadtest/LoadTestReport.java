@@ -0,0 +1,135 @@
+package com.example.sessionauth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 스레드 모드 하나의 부하 테스트 결과 (콘솔 표 + JSON 리포트)
+ * - 엔드포인트별 Redis/DB 연산 수는 단일 사용자 보정 실행 기준, 전체 값은 측정 구간 합계를 요청 수로 나눈 값
+ */
+record LoadTestReport(
+        String threadMode,
+        int users,
+        int iterations,
+        int meCalls,
+        double durationSeconds,
+        long requests,
+        long errors,
+        double requestsPerSecond,
+        double scenariosPerSecond,
+        double redisCommandsPerRequest,
+        double dbStatementsPerRequest,
+        long virtualThreadPinnedEvents,
+        List<EndpointResult> endpoints
+) {
+
+    static LoadTestReport of(
+            LoadTestOptions options,
+            LoadTestOptions.ThreadMode threadMode,
+            long elapsedNanos,
+            Map<Endpoint, EndpointStats> stats,
+            OperationCounters.Snapshot operations,
+            long pinnedEvents
+    ) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long requests = stats.values().stream().mapToLong(EndpointStats::count).sum();
+        long errors = stats.values().stream().mapToLong(EndpointStats::errors).sum();
+        long scenarios = stats.get(Endpoint.SIGNUP).count();
+
+        List<EndpointResult> endpoints = stats.entrySet().stream()
+                .map(entry -> EndpointResult.of(entry.getKey(), entry.getValue(), seconds))
+                .toList();
+
+        return new LoadTestReport(
+                threadMode.name().toLowerCase(Locale.ROOT),
+                options.users(),
+                options.iterations(),
+                options.meCalls(),
+                seconds,
+                requests,
+                errors,
+                requests / seconds,
+                scenarios / seconds,
+                (double) operations.redisCommands() / requests,
+                (double) operations.dbStatements() / requests,
+                pinnedEvents,
+                endpoints
+        );
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n[%s] 사용자 %d명 × 시나리오 %d회 (/me %d회), %.1f초, 요청 %d건 (실패 %d건), 가상 스레드 pinning %d건%n",
+                threadMode, users, iterations, meCalls, durationSeconds, requests, errors, virtualThreadPinnedEvents);
+        out.printf("처리량: %.1f req/s, %.1f 시나리오/s, 요청당 Redis 명령 %.2f, DB 쿼리 %.2f%n%n",
+                requestsPerSecond, scenariosPerSecond, redisCommandsPerRequest, dbStatementsPerRequest);
+        out.printf("%-24s %8s %6s %10s %9s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "requests", "errors", "req/s", "mean(ms)", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "redis", "db");
+        for (EndpointResult e : endpoints) {
+            out.printf("%-24s %8d %6d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7.2f %7.2f%n",
+                    e.endpoint, e.requests, e.errors, e.requestsPerSecond, e.meanMillis, e.p50Millis, e.p99Millis, e.p999Millis,
+                    e.maxMillis, e.redisCommandsPerRequest, e.dbStatementsPerRequest);
+        }
+    }
+
+    /**
+     * 스레드 모드별 로그인 / me 응답 시간 비교
+     */
+    static void printComparison(PrintStream out, List<LoadTestReport> reports) {
+        out.printf("%n%-10s %-24s %10s %9s %9s %9s%n", "mode", "endpoint", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (Endpoint endpoint : List.of(Endpoint.LOGIN, Endpoint.ME)) {
+            for (LoadTestReport report : reports) {
+                report.endpoints.stream()
+                        .filter(e -> e.endpoint.equals(endpoint.label()))
+                        .forEach(e -> out.printf("%-10s %-24s %10.1f %9.2f %9.2f %9.2f%n",
+                                report.threadMode, e.endpoint, e.requestsPerSecond, e.p50Millis, e.p99Millis, e.p999Millis));
+            }
+        }
+    }
+
+    static void write(Path path, List<LoadTestReport> reports) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), reports);
+        System.out.println("\n리포트: " + path.toAbsolutePath());
+    }
+
+    record EndpointResult(
+            String endpoint,
+            long requests,
+            long errors,
+            double requestsPerSecond,
+            double meanMillis,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            double redisCommandsPerRequest,
+            double dbStatementsPerRequest
+    ) {
+
+        static EndpointResult of(Endpoint endpoint, EndpointStats stats, double seconds) {
+            return new EndpointResult(
+                    endpoint.label(),
+                    stats.count(),
+                    stats.errors(),
+                    stats.count() / seconds,
+                    stats.meanMillis(),
+                    stats.percentileMillis(50),
+                    stats.percentileMillis(99),
+                    stats.percentileMillis(99.9),
+                    stats.maxMillis(),
+                    stats.redisCommandsPerRequest(),
+                    stats.dbStatementsPerRequest()
+            );
+        }
+    }
+
+}
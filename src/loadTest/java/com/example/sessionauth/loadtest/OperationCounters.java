@@ -0,0 +1,66 @@
+package com.example.sessionauth.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.Properties;
+import java.util.function.LongSupplier;
+
+/**
+ * 서버 측 Redis 명령 수 / DB 쿼리 수 조회
+ * - Redis: INFO stats 의 total_commands_processed (다른 클라이언트가 없는 내장 서버이므로 애플리케이션 명령만 집계)
+ * - DB: Hibernate Statistics 의 prepareStatementCount (loadtest 프로필에서 generate_statistics 활성화),
+ *   reactive 애플리케이션은 R2DBC 쿼리 observation(r2dbc-proxy) 의 r2dbc.query 횟수
+ * - pinning: VirtualThreadPinningMonitor 가 기록한 jvm.threads.virtual.pinned 횟수 (가상 스레드 모드에서만 존재)
+ */
+class OperationCounters {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final LongSupplier dbStatements;
+    private final MeterRegistry meterRegistry;
+
+    OperationCounters(ApplicationContext context) {
+        this.redisConnectionFactory = context.getBean(RedisConnectionFactory.class);
+        this.meterRegistry = context.getBean(MeterRegistry.class);
+        EntityManagerFactory entityManagerFactory = context.getBeanProvider(EntityManagerFactory.class).getIfAvailable();
+        if (entityManagerFactory != null) {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            this.dbStatements = statistics::getPrepareStatementCount;
+        } else {
+            this.dbStatements = () -> count("r2dbc.query");
+        }
+    }
+
+    Snapshot snapshot() {
+        Properties info;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            info = connection.serverCommands().info("stats");
+        }
+        return new Snapshot(
+                Long.parseLong(info.getProperty("total_commands_processed").trim()),
+                dbStatements.getAsLong(),
+                count("jvm.threads.virtual.pinned")
+        );
+    }
+
+    private long count(String timerName) {
+        return meterRegistry.find(timerName).timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    record Snapshot(long redisCommands, long dbStatements, long pinnedEvents) {
+
+        /**
+         * 이후 스냅샷과의 차이 (이 스냅샷을 뜨기 위한 INFO 명령 1회는 제외)
+         */
+        Snapshot until(Snapshot later) {
+            return new Snapshot(later.redisCommands - redisCommands - 1, later.dbStatements - dbStatements, later.pinnedEvents - pinnedEvents);
+        }
+    }
+
+}
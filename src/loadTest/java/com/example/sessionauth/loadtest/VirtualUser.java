@@ -0,0 +1,98 @@
+package com.example.sessionauth.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 브라우저 한 개를 흉내 내는 가상 사용자
+ * - 쿠키 저장소를 사용자별로 유지해 세션 쿠키(SESSION)와 CSRF 쿠키(XSRF-TOKEN)를 다음 요청에 다시 보냄
+ * - XSRF-TOKEN 쿠키가 있으면 상태 변경 요청에 X-XSRF-TOKEN 헤더로 함께 보냄 (CookieCsrfTokenRepository 규칙)
+ */
+class VirtualUser {
+
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final String CSRF_HEADER = "X-XSRF-TOKEN";
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final String name;
+    private final int meCalls;
+
+    private CookieManager cookies = new CookieManager();
+
+    VirtualUser(HttpClient client, URI baseUri, String name, int meCalls) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.name = name;
+        this.meCalls = meCalls;
+    }
+
+    /**
+     * 회원가입 → 로그인 → /me × N → 로그아웃
+     *
+     * @param iteration 시나리오 번호 (가입 이메일/닉네임 구분용)
+     * @param listener  요청마다 호출 (실패 시 시나리오 중단)
+     */
+    void runScenario(int iteration, Listener listener) throws IOException, InterruptedException {
+        cookies = new CookieManager();
+        String email = name + "-" + iteration + "@loadtest.local";
+        String password = "password-" + iteration;
+
+        String signup = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\",\"nickname\":\"" + name + "-" + iteration + "\"}";
+        if (!call(Endpoint.SIGNUP, signup, listener)) return;
+
+        String login = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        if (!call(Endpoint.LOGIN, login, listener)) return;
+
+        for (int i = 0; i < meCalls; i++) {
+            if (!call(Endpoint.ME, null, listener)) return;
+        }
+
+        call(Endpoint.LOGOUT, null, listener);
+    }
+
+    private boolean call(Endpoint endpoint, String body, Listener listener) throws IOException, InterruptedException {
+        URI uri = baseUri.resolve(endpoint.getPath());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .method(endpoint.getMethod(), body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .header("Content-Type", "application/json");
+
+        cookies.get(uri, Map.of()).forEach((header, values) -> values.forEach(value -> builder.header(header, value)));
+        csrfToken().ifPresent(token -> builder.header(CSRF_HEADER, token));
+
+        listener.beforeRequest(endpoint);
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+        long elapsed = System.nanoTime() - start;
+
+        cookies.put(uri, response.headers().map());
+        boolean success = response.statusCode() == endpoint.getExpectedStatus();
+        listener.afterRequest(endpoint, elapsed, success);
+        return success;
+    }
+
+    private Optional<String> csrfToken() {
+        List<HttpCookie> stored = cookies.getCookieStore().getCookies();
+        return stored.stream()
+                .filter(cookie -> cookie.getName().equals(CSRF_COOKIE))
+                .map(HttpCookie::getValue)
+                .findFirst();
+    }
+
+    interface Listener {
+
+        default void beforeRequest(Endpoint endpoint) {
+        }
+
+        void afterRequest(Endpoint endpoint, long elapsedNanos, boolean success);
+    }
+
+}
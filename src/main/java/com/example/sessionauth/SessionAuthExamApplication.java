@@ -2,8 +2,16 @@ package com.example.sessionauth;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+/**
+ * 서블릿 인증 API (Undertow, JPA)
+ * - reactive 애플리케이션(src/reactive, com.example.sessionauth.reactive)과 클래스패스를 공유해도(테스트, 부하 테스트) 그 빈은 스캔하지 않고 R2DBC 자동 설정도 사용하지 않음
+ */
+@SpringBootApplication(
+        scanBasePackages = {"com.example.sessionauth.domains", "com.example.sessionauth.global"},
+        exclude = R2dbcAutoConfiguration.class
+)
 public class SessionAuthExamApplication {
 
     public static void main(String[] args) {
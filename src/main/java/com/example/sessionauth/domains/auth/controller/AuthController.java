@@ -25,8 +25,8 @@ public class AuthController {
      */
     @PostMapping("/signup")
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<ApiResponse<AppUserResponse>> signup(@Valid @RequestBody SignupRequest request) {
-        AppUserResponse signup = appService.signup(request);
+    public ResponseEntity<ApiResponse<AppUserResponse>> signup(HttpServletRequest httpRequest, @Valid @RequestBody SignupRequest request) {
+        AppUserResponse signup = appService.signup(httpRequest, request);
         return ApiResponse.created(signup);
     }
 
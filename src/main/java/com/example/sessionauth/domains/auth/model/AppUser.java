@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.UuidGenerator;
@@ -12,7 +13,10 @@ import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-@Table(name = "USER")
+@Table(name = "USER", uniqueConstraints = {
+        @UniqueConstraint(name = AppUser.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = AppUser.NICKNAME_UNIQUE_CONSTRAINT, columnNames = "nickname")
+})
 @Entity
 @Getter
 @Builder
@@ -21,18 +25,22 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AppUser {
 
+    // 회원가입 시 중복 검사에 사용하는 유니크 제약 이름
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_user_email";
+    public static final String NICKNAME_UNIQUE_CONSTRAINT = "uk_user_nickname";
+
     @Id
     @UuidGenerator(style = UuidGenerator.Style.TIME) // UUID v7 생성 전략
     @Column(columnDefinition = "BINARY(16)")         // MySQL에서 UUID 저장타입
     UUID id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     String email;
 
     @Column(nullable = false)
     String password;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     String nickname;
 
     LocalDateTime createdAt;
@@ -0,0 +1,11 @@
+package com.example.sessionauth.domains.auth.model;
+
+import java.util.UUID;
+
+/**
+ * 사용자 엔티티가 변경/삭제되어 커밋된 뒤 발행되는 도메인 이벤트
+ */
+public record AppUserChangedEvent(
+        UUID userId
+) {
+}
@@ -0,0 +1,70 @@
+package com.example.sessionauth.domains.auth.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 인증 감사 이벤트 (로그인 성공/실패, 로그아웃, 세션 만료, 회원가입)
+ * - 요청 처리 중에는 메모리 버퍼에만 넣고, AuthAuditTrail 이 모아서 배치 INSERT (AuthAuditEventWriter)
+ */
+@Table(name = AuthAuditEvent.TABLE, indexes = {
+        @Index(name = "idx_auth_audit_user", columnList = "userId, occurredAt"),
+        @Index(name = "idx_auth_audit_email", columnList = "email, occurredAt")
+})
+@Entity
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthAuditEvent {
+
+    public static final String TABLE = "auth_audit_event";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    AuthEventType type;
+
+    @Column(columnDefinition = "BINARY(16)")
+    UUID userId;
+
+    String email;
+
+    @Column(length = 45) // IPv6 최대 길이
+    String clientIp;
+
+    // 실패 사유 (에러 코드)
+    @Column(length = 50)
+    String detail;
+
+    @Column(nullable = false)
+    LocalDateTime occurredAt;
+
+    public static AuthAuditEvent of(AuthEventType type, UUID userId, String email, String clientIp, String detail) {
+        return AuthAuditEvent.builder()
+                .type(type)
+                .userId(userId)
+                .email(email)
+                .clientIp(clientIp)
+                .detail(detail)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+}
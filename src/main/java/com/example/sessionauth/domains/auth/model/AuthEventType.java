@@ -0,0 +1,14 @@
+package com.example.sessionauth.domains.auth.model;
+
+/**
+ * 인증 감사 이벤트 종류
+ */
+public enum AuthEventType {
+
+    SIGNUP,
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    LOGOUT,
+    SESSION_EXPIRED
+
+}
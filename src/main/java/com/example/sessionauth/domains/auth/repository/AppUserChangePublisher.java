@@ -0,0 +1,75 @@
+package com.example.sessionauth.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.model.AppUser;
+import com.example.sessionauth.domains.auth.model.AppUserChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 사용자 엔티티 변경/삭제가 커밋되면 {@link AppUserChangedEvent} 발행 (Hibernate post-commit 리스너)
+ * - 엔티티는 리스너/서비스를 알지 못하고, 캐시 무효화 등은 이벤트를 구독하는 쪽에서 처리
+ * - 커밋 이후에만 발행하므로 다른 요청이 커밋 전 값을 다시 캐시하지 않음
+ * - JPQL 일괄 UPDATE(비밀번호 재해시)는 엔티티 이벤트가 없으므로 발행하지 않음 (응답 프로젝션에 비밀번호 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AppUserChangePublisher implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백되면 캐시된 값이 그대로 유효
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백되면 캐시된 값이 그대로 유효
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AppUser.class.equals(persister.getMappedClass());
+    }
+
+    private void publish(Object entity) {
+        if (entity instanceof AppUser user) {
+            UUID userId = user.getId();
+            eventPublisher.publishEvent(new AppUserChangedEvent(userId));
+        }
+    }
+
+}
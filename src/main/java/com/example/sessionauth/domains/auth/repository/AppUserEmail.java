@@ -0,0 +1,12 @@
+package com.example.sessionauth.domains.auth.repository;
+
+import java.util.UUID;
+
+/**
+ * 가입 이메일 목록 조회용 프로젝션 (ID 순 페이지 조회)
+ */
+public record AppUserEmail(
+        UUID id,
+        String email
+) {
+}
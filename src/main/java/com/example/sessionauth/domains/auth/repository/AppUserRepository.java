@@ -1,9 +1,16 @@
 package com.example.sessionauth.domains.auth.repository;
 
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
 import com.example.sessionauth.domains.auth.model.AppUser;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +19,32 @@ public interface AppUserRepository extends JpaRepository<AppUser, UUID> {
 
     boolean existsByEmail(String email);
 
+    boolean existsByNickname(String nickname);
+
+    /**
+     * 로그인 사용자 조회 (조회만 읽기 전용 트랜잭션으로 실행, 로그인 서비스는 트랜잭션을 열지 않음)
+     */
+    @Transactional(readOnly = true)
     Optional<AppUser> findByEmail(String email);
+
+    /**
+     * 응답에 필요한 컬럼만 조회 (엔티티를 로드하지 않음)
+     */
+    @Query("select new com.example.sessionauth.domains.auth.dto.response.AppUserResponse(u.email, u.nickname) from AppUser u where u.id = :id")
+    Optional<AppUserResponse> findResponseById(UUID id);
+
+    /**
+     * ID 순으로 after 다음 이메일 목록 조회 (가입 이메일 필터 재구성용)
+     */
+    @Query("select new com.example.sessionauth.domains.auth.repository.AppUserEmail(u.id, u.email) from AppUser u where u.id > :after order by u.id")
+    List<AppUserEmail> findEmailsAfter(UUID after, Pageable pageable);
+
+    /**
+     * 저장된 비밀번호 해시가 oldPassword 와 같을 때만 변경
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update AppUser u set u.password = :newPassword, u.updatedAt = :updatedAt where u.id = :id and u.password = :oldPassword")
+    int updatePassword(UUID id, String oldPassword, String newPassword, LocalDateTime updatedAt);
 }
@@ -0,0 +1,15 @@
+package com.example.sessionauth.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.model.AuthAuditEvent;
+
+import java.util.List;
+
+/**
+ * 인증 감사 이벤트 배치 저장 (AuthAuditTrail 의 전용 스레드에서 호출)
+ * - 서블릿 애플리케이션: JdbcAuthAuditEventWriter, reactive 애플리케이션: R2DBC 구현
+ */
+public interface AuthAuditEventWriter {
+
+    void insertAll(List<AuthAuditEvent> events);
+
+}
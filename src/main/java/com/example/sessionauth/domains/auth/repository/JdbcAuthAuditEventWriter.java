@@ -0,0 +1,52 @@
+package com.example.sessionauth.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.model.AuthAuditEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인증 감사 이벤트 배치 INSERT (JDBC)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 JDBC 배치 한 번으로 저장 (MySQL rewriteBatchedStatements 사용 시 다건 INSERT 한 번)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcAuthAuditEventWriter implements AuthAuditEventWriter {
+
+    private static final String INSERT = "insert into " + AuthAuditEvent.TABLE
+            + " (type, user_id, email, client_ip, detail, occurred_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<AuthAuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getType().name());
+            if (event.getUserId() != null) {
+                ps.setBytes(2, toBytes(event.getUserId()));
+            } else {
+                ps.setNull(2, Types.BINARY);
+            }
+            ps.setString(3, event.getEmail());
+            ps.setString(4, event.getClientIp());
+            ps.setString(5, event.getDetail());
+            ps.setObject(6, event.getOccurredAt());
+        });
+    }
+
+    /**
+     * Hibernate 의 BINARY(16) UUID 저장 형식과 같은 바이트 순서
+     */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
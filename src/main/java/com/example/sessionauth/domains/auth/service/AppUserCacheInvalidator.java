@@ -0,0 +1,75 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.model.AppUserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 사용자 엔티티가 변경/삭제되면 사용자 정보 캐시를 비움 ({@link AppUserChangedEvent} 구독)
+ * - 이벤트는 커밋 이후에 발행되므로 다른 요청이 커밋 전 값을 다시 캐시하지 않음
+ * - 캐시는 노드 로컬이므로 Redis pub/sub 으로 모든 노드에 전파해 함께 비움
+ * - 전파가 유실되면(Redis 장애, 구독 재연결 중) 다른 노드에는 spring.cache.caffeine.spec 의 만료 시간 이후 반영됨
+ */
+@Slf4j
+@Component
+public class AppUserCacheInvalidator implements MessageListener {
+
+    private static final String CHANNEL = "app:auth:event:user-changed";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+
+    public AppUserCacheInvalidator(
+            CacheManager cacheManager,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("springSessionRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer
+    ) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener
+    public void onChanged(AppUserChangedEvent event) {
+        evict(event.userId());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.userId().toString());
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 무효화 전파에 실패했습니다: {}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)의 변경 전파 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evict(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 사용자 캐시 무효화 메시지를 무시합니다: {}", body);
+        }
+    }
+
+    private void evict(UUID userId) {
+        Cache cache = cacheManager.getCache(AppUserQueryService.CACHE_NAME);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.domains.auth.exception.AuthException;
+import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import com.example.sessionauth.global.jdbc.ReadRouting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 사용자 정보 조회 (캐시)
+ * - 사용자 ID 별로 응답 프로젝션을 캐시하므로, 캐시 적중 시 트랜잭션/DB 커넥션을 사용하지 않음
+ *   (CacheConfig 가 캐시 advisor 를 트랜잭션 advisor 바깥에 둠)
+ * - 사용자 변경/삭제 시 {@link AppUserCacheInvalidator} 가 모든 노드의 캐시를 비움
+ *   (전파가 유실된 노드는 spring.cache.caffeine.spec 의 만료 시간 동안 이전 값을 반환할 수 있음)
+ */
+@Service
+@RequiredArgsConstructor
+public class AppUserQueryService {
+
+    public static final String CACHE_NAME = "appUser";
+
+    private final AppUserRepository appUserRepository;
+    private final RecentSignups recentSignups;
+
+    /**
+     * 사용자 정보 조회 (비밀번호 등 응답에 필요 없는 컬럼은 조회하지 않음)
+     * - 방금 가입한 사용자면 replica 복제 지연을 피해 primary 에서 조회
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#userId")
+    @Transactional(readOnly = true)
+    public AppUserResponse getUser(UUID userId) {
+        return ReadRouting.primaryIf(recentSignups.contains(userId), () -> appUserRepository.findResponseById(userId))
+                .orElseThrow(() -> new AuthException(AuthErrorCode.NOT_FOUND_USER));
+    }
+
+}
@@ -7,20 +7,26 @@ import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
 import com.example.sessionauth.domains.auth.exception.AuthException;
 import com.example.sessionauth.domains.auth.model.AppUser;
 import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import com.example.sessionauth.global.jdbc.ReadRouting;
 import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.PasswordUpgrader;
 import com.example.sessionauth.global.utils.CookieUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.Objects;
 
 @Service
@@ -28,64 +34,130 @@ import java.util.Objects;
 public class AuthApplicationService {
 
     private final AppUserRepository appUserRepository;
+    private final AppUserQueryService appUserQueryService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final LoginThrottle loginThrottle;
+    private final RecentSignups recentSignups;
+    private final AuthAuditTrail authAuditTrail;
 
     // HttpSession 기반 SecurityContext 저장소
     private final SecurityContextRepository securityContextRepository;
+    // 동시 세션 제어 + 세션 고정 방지
+    private final SessionAuthenticationStrategy sessionAuthenticationStrategy;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordUpgrader passwordUpgrader;
+    private final LoginMetrics loginMetrics;
 
     /**
      * 회원가입
+     * - 중복 검사 조회 없이 INSERT 한 번으로 처리하고, 중복은 유니크 제약 위반으로 판단
+     * - 비밀번호 해시는 트랜잭션(DB 커넥션) 밖에서 수행
      */
-    @Transactional
-    public AppUserResponse signup(SignupRequest request) {
-        // 이메일 중복 검사
-        if (appUserRepository.existsByEmail(request.email())) {
-            throw new AuthException(AuthErrorCode.DUPLICATE_EMAIL);
-        }
-
+    public AppUserResponse signup(HttpServletRequest httpRequest, SignupRequest request) {
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(request.password());
 
-        // 사용자 저장
-        AppUser saved = appUserRepository.save(request.toEntity(encodedPassword));
+        // 사용자 저장 (flush 로 제약 위반을 이 자리에서 확인)
+        AppUser saved;
+        try {
+            saved = appUserRepository.saveAndFlush(request.toEntity(encodedPassword));
+        } catch (DataIntegrityViolationException e) {
+            throw new AuthException(resolveDuplicate(request, e));
+        }
+
+        // 가입 이메일 필터에 추가, 복제 지연 동안 primary 에서 조회하도록 기록 (모든 노드)
+        registeredEmailFilter.add(saved.getEmail());
+        recentSignups.add(saved);
+        authAuditTrail.signup(saved.getId(), saved.getEmail(), httpRequest.getRemoteAddr());
         return AppUserResponse.from(saved);
     }
 
     /**
      * 로그인
+     * - 트랜잭션을 열지 않음: 실패 횟수 제한/가입 이메일 필터로 거절하면 DB 커넥션을 사용하지 않고,
+     *   커넥션은 사용자 조회(AppUserRepository.findByEmail 의 읽기 전용 트랜잭션) 동안만 사용
+     * - 비밀번호 검증(해시 대기열 대기 포함), 재해시 요청, 세션 저장은 커넥션을 반납한 뒤 수행
+     *   (로그인이 몰려 해시 대기열이 차도 다른 요청의 커넥션을 가져가지 않음)
      */
-    @Transactional(readOnly = true)
     public AppUserResponse login(
             HttpServletRequest httpRequest,
             HttpServletResponse httpResponse,
             LoginRequest request
     ) {
 
-        // 사용자 조회
-        AppUser user = appUserRepository.findByEmail(request.email())
-                .orElseThrow(() -> new AuthException(AuthErrorCode.NOT_FOUND_USER));
+        // 로드 밸런서 뒤에서는 X-Forwarded-For 의 클라이언트 주소 (server.forward-headers-strategy)
+        String clientIp = httpRequest.getRemoteAddr();
+        AppUser user = loginMetrics.lookup().record(() -> findLoginUser(request, clientIp));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
-            throw new AuthException(AuthErrorCode.INVALID_PASSWORD);
+        boolean matches = loginMetrics.hash().record(() -> passwordEncoder.matches(request.password(), user.getPassword()));
+        if (!matches) {
+            throw loginFailure(request, clientIp, AuthErrorCode.INVALID_PASSWORD);
         }
 
+        // 오래된 해시면 비동기로 재해시
+        CustomUserDetails userDetails = CustomUserDetails.from(user);
+        passwordUpgrader.upgradeIfNeeded(userDetails, request.password());
+
+        loginMetrics.session().record(() -> saveAuthentication(httpRequest, httpResponse, userDetails));
+        authAuditTrail.loginSucceeded(userDetails, clientIp);
+
+        return AppUserResponse.from(user);
+    }
+
+    /**
+     * 로그인 대상 사용자 조회 (실패 횟수 제한, 가입 이메일 필터 포함)
+     * - 실패 횟수 제한과 가입 이메일 필터는 트랜잭션 밖에서 확인 (거절할 요청은 커넥션을 빌리지 않음)
+     */
+    private AppUser findLoginUser(LoginRequest request, String clientIp) {
+        // 로그인 실패 횟수 제한 (이메일, 클라이언트 IP)
+        loginThrottle.checkAllowed(request.email(), clientIp);
+
+        // 가입되지 않은 이메일은 DB 를 조회하지 않고 거절
+        if (!registeredEmailFilter.mightContain(request.email())) {
+            throw loginFailure(request, clientIp, AuthErrorCode.NOT_FOUND_USER);
+        }
+
+        // 사용자 조회 (방금 가입한 이메일이면 replica 복제 지연을 피해 primary 에서 조회)
+        return ReadRouting.primaryIf(recentSignups.contains(request.email()), () -> appUserRepository.findByEmail(request.email()))
+                .orElseThrow(() -> {
+                    registeredEmailFilter.recordFalsePositive();
+                    return loginFailure(request, clientIp, AuthErrorCode.NOT_FOUND_USER);
+                });
+    }
+
+    /**
+     * 인증 정보를 세션에 저장
+     */
+    private void saveAuthentication(HttpServletRequest httpRequest, HttpServletResponse httpResponse, CustomUserDetails userDetails) {
         // 1. 새로운 컨텍스트 생성 및 인증 정보 설정
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        CustomUserDetails userDetails = CustomUserDetails.from(user);
-        context.setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        context.setAuthentication(authentication);
+
+        // 2. 세션 처리 (다른 노드를 포함해 기존 세션이 최대 개수를 넘으면 가장 오래된 세션 만료, 세션 ID 변경)
+        sessionAuthenticationStrategy.onAuthentication(authentication, httpRequest, httpResponse);
         SecurityContextHolder.setContext(context);
 
-        // 2. 저장소(예: 세션)에 명시적으로 저장 (이 코드가 없으면 다음 페이지 이동 시 로그인이 풀림)
+        // 3. 저장소(예: 세션)에 명시적으로 저장 (이 코드가 없으면 다음 페이지 이동 시 로그인이 풀림)
         securityContextRepository.saveContext(context, httpRequest, httpResponse);
+    }
 
-        return AppUserResponse.from(user);
+    private AuthException loginFailure(LoginRequest request, String clientIp, AuthErrorCode errorCode) {
+        loginThrottle.recordFailure(request.email(), clientIp);
+        authAuditTrail.loginFailed(request.email(), clientIp, errorCode);
+        return new AuthException(errorCode);
     }
 
     /**
      * 로그아웃
      */
     public void logout(HttpServletRequest servletRequest, HttpServletResponse servletResponse) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            authAuditTrail.logout(userDetails, servletRequest.getRemoteAddr());
+        }
+
         // 세션 객체를 완전히 제거(무효화)
         HttpSession session = servletRequest.getSession(false);
         if (!Objects.isNull(session)) session.invalidate();
@@ -98,18 +170,36 @@ public class AuthApplicationService {
     }
 
     /**
-     * 현재 로그인된 사용자 정보 조회
+     * 유니크 제약 위반 원인(이메일/닉네임) 판별
+     * - 제약 이름으로 구분할 수 없으면(V1 마이그레이션 전의 자동 생성 제약, 다른 DB 등) 실패한 경우에만 추가 조회 (방금 가입된 행일 수 있으므로 primary 에서)
      */
-    @Transactional(readOnly = true)
-    public AppUserResponse getCurrentUser() {
-        CustomUserDetails userDetails = (CustomUserDetails) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+    private AuthErrorCode resolveDuplicate(SignupRequest request, DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+            if (constraintName.contains(AppUser.EMAIL_UNIQUE_CONSTRAINT)) return AuthErrorCode.DUPLICATE_EMAIL;
+            if (constraintName.contains(AppUser.NICKNAME_UNIQUE_CONSTRAINT)) return AuthErrorCode.DUPLICATE_NICKNAME;
+        }
 
-        AppUser user = appUserRepository.findById(userDetails.getUserId())
-                .orElseThrow(() -> new AuthException(AuthErrorCode.NOT_FOUND_USER));
+        AuthErrorCode duplicate = ReadRouting.primary(() -> {
+            if (appUserRepository.existsByEmail(request.email())) return AuthErrorCode.DUPLICATE_EMAIL;
+            if (appUserRepository.existsByNickname(request.nickname())) return AuthErrorCode.DUPLICATE_NICKNAME;
+            return null;
+        });
+        if (duplicate == null) throw e;
+        return duplicate;
+    }
 
-        return AppUserResponse.from(user);
+    /**
+     * 현재 로그인된 사용자 정보 조회 (캐시)
+     */
+    public AppUserResponse getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            // 익명 사용자 (/api/auth/** 는 permitAll)
+            throw new AuthException(AuthErrorCode.UNAUTHORIZED);
+        }
+
+        return appUserQueryService.getUser(userDetails.getUserId());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.global.security.CustomUserDetails;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.session.HttpSessionDestroyedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서블릿 세션 만료를 인증 감사 기록으로 전달 (reactive 애플리케이션에서 만든 세션도 같은 만료 알림으로 기록됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthAuditSessionListener {
+
+    private final AuthAuditTrail authAuditTrail;
+
+    /**
+     * 세션 만료 (HttpSessionEventPublisher 가 발행, 로그아웃 등으로 삭제된 세션은 제외)
+     */
+    @EventListener
+    public void onSessionDestroyed(HttpSessionDestroyedEvent event) {
+        if (!isExpired(event.getSession())) {
+            return;
+        }
+        event.getSecurityContexts().stream()
+                .map(SecurityContext::getAuthentication)
+                .filter(authentication -> authentication != null && authentication.getPrincipal() instanceof CustomUserDetails)
+                .map(Authentication::getPrincipal)
+                .map(CustomUserDetails.class::cast)
+                .findFirst()
+                .ifPresent(user -> authAuditTrail.sessionExpired(event.getId(), user));
+    }
+
+    private static boolean isExpired(HttpSession session) {
+        long expiresAt = session.getLastAccessedTime() + TimeUnit.SECONDS.toMillis(session.getMaxInactiveInterval());
+        return session.getMaxInactiveInterval() > 0 && expiresAt <= System.currentTimeMillis();
+    }
+
+}
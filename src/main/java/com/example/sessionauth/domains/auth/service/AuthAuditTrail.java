@@ -0,0 +1,211 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.model.AuthAuditEvent;
+import com.example.sessionauth.domains.auth.model.AuthEventType;
+import com.example.sessionauth.domains.auth.repository.AuthAuditEventWriter;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.exception.ErrorCode;
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.utils.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증 감사 기록 (회원가입, 로그인 성공/실패, 로그아웃, 세션 만료)
+ * - 요청 스레드는 lock-free 링 버퍼에 넣기만 하고, 전용 스레드가 flush-size 만큼씩 모아 배치 INSERT
+ * - 버퍼가 가득 차면 요청을 기다리게 하지 않고 버림 (auth.audit.dropped)
+ * - 종료 시 남은 이벤트를 모두 저장한 뒤 멈춤 (웹 서버가 멈춘 뒤)
+ * - 서블릿/reactive 애플리케이션이 함께 사용 (저장은 AuthAuditEventWriter 구현, 서블릿 세션 만료 알림은 AuthAuditSessionListener)
+ * <pre>
+ * auth.audit.buffer.size  : 저장 대기 중인 이벤트 수
+ * auth.audit.events{result} : written, dropped(버퍼 가득 참), failed(INSERT 실패)
+ * auth.audit.flush        : 배치 INSERT 시간
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuthAuditTrail implements SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "auth.audit";
+    // 세션 만료 이벤트는 모든 노드가 받으므로 한 노드만 기록
+    private static final String EXPIRED_KEY_PREFIX = "app:auth:audit:session-expired:";
+    private static final Duration EXPIRED_KEY_TTL = Duration.ofMinutes(1);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AuthAuditEventWriter writer;
+    private final StringRedisTemplate redisTemplate;
+    private final AppSecurityProperties.Audit properties;
+    private final MpscRingBuffer<AuthAuditEvent> buffer;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuthAuditTrail(
+            AuthAuditEventWriter writer,
+            StringRedisTemplate redisTemplate,
+            AppSecurityProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.writer = writer;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties.audit();
+        this.buffer = new MpscRingBuffer<>(this.properties.bufferSize());
+
+        Gauge.builder(METRIC_PREFIX + ".buffer.size", buffer, MpscRingBuffer::size)
+                .description("저장 대기 중인 인증 감사 이벤트 수")
+                .register(meterRegistry);
+        this.written = eventCounter(meterRegistry, "written");
+        this.dropped = eventCounter(meterRegistry, "dropped");
+        this.failed = eventCounter(meterRegistry, "failed");
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("인증 감사 이벤트 배치 INSERT 시간")
+                .register(meterRegistry);
+    }
+
+    /* ===================== 기록 ===================== */
+
+    public void signup(UUID userId, String email, String clientIp) {
+        record(AuthEventType.SIGNUP, userId, email, clientIp, null);
+    }
+
+    public void loginSucceeded(CustomUserDetails user, String clientIp) {
+        record(AuthEventType.LOGIN_SUCCESS, user.getUserId(), user.getEmail(), clientIp, null);
+    }
+
+    public void loginFailed(String email, String clientIp, ErrorCode reason) {
+        record(AuthEventType.LOGIN_FAILURE, null, email, clientIp, reason.getCode());
+    }
+
+    public void logout(CustomUserDetails user, String clientIp) {
+        record(AuthEventType.LOGOUT, user.getUserId(), user.getEmail(), clientIp, null);
+    }
+
+    /**
+     * 세션 만료 (모든 노드가 만료 알림을 받으므로 Redis 로 한 노드만 기록)
+     */
+    public void sessionExpired(String sessionId, CustomUserDetails user) {
+        if (!properties.enabled() || !claimExpiry(sessionId)) {
+            return;
+        }
+        record(AuthEventType.SESSION_EXPIRED, user.getUserId(), user.getEmail(), null, null);
+    }
+
+    private void record(AuthEventType type, UUID userId, String email, String clientIp, String detail) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!buffer.offer(AuthAuditEvent.of(type, userId, email, clientIp, detail))) {
+            dropped.increment();
+        }
+    }
+
+    private boolean claimExpiry(String sessionId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(EXPIRED_KEY_PREFIX + sessionId, "1", EXPIRED_KEY_TTL));
+        } catch (RuntimeException e) {
+            // 중복 기록이 누락보다 나음
+            return true;
+        }
+    }
+
+    /* ===================== 저장 ===================== */
+
+    private void runWriter() {
+        List<AuthAuditEvent> batch = new ArrayList<>(properties.flushSize());
+        long intervalNanos = properties.flushInterval().toNanos();
+        while (running) {
+            // 가득 찬 배치를 저장했으면 쌓인 것이 더 있을 수 있으므로 바로 다시 비움
+            if (flush(batch) < properties.flushSize()) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+        }
+        while (flush(batch) > 0) {
+            // 종료 전 남은 이벤트 저장
+        }
+    }
+
+    private int flush(List<AuthAuditEvent> batch) {
+        int count = buffer.drain(batch::add, properties.flushSize());
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            flushTimer.record(() -> writer.insertAll(batch));
+            written.increment(count);
+        } catch (RuntimeException e) {
+            failed.increment(count);
+            log.warn("인증 감사 이벤트 {}건 저장에 실패했습니다.", count, e);
+        } finally {
+            batch.clear();
+        }
+        return count;
+    }
+
+    /* ===================== SmartLifecycle ===================== */
+
+    @Override
+    public void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("auth-audit-writer")
+                .daemon()
+                .start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            if (!writerThread.join(STOP_TIMEOUT)) {
+                log.warn("인증 감사 이벤트 저장이 {} 안에 끝나지 않았습니다. 남은 이벤트: {}건", STOP_TIMEOUT, buffer.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 멈춤 (종료 중 처리된 요청의 이벤트도 저장)
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".events")
+                .description("인증 감사 이벤트 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.example.sessionauth.domains.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 단계별 시간 (미리 등록한 타이머만 사용하므로 요청마다 조회/생성 비용 없음)
+ * <pre>
+ * auth.login.phase{phase=lookup}  : 실패 횟수 제한 확인 + 가입 이메일 필터 + 사용자 조회
+ * auth.login.phase{phase=hash}    : 비밀번호 검증 (해시 대기열 대기 포함, 대기 시간만은 password.hash.queue)
+ * auth.login.phase{phase=session} : 동시 세션 제어 + 세션 ID 변경 + SecurityContext 저장
+ * </pre>
+ */
+@Getter
+@Accessors(fluent = true)
+@Component
+public class LoginMetrics {
+
+    private final Timer lookup;
+    private final Timer hash;
+    private final Timer session;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.lookup = phaseTimer(meterRegistry, "lookup");
+        this.hash = phaseTimer(meterRegistry, "hash");
+        this.session = phaseTimer(meterRegistry, "session");
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("auth.login.phase")
+                .description("로그인 단계별 처리 시간")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,300 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.exception.RateLimitException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로그인 실패 횟수 제한 (이메일별, 클라이언트 IP 별)
+ * - 슬라이딩 윈도우 근사: 직전 구간 횟수 × 남은 비율 + 현재 구간 횟수
+ * - 요청 경로에서는 노드 로컬 카운터(원자 연산)만 사용하고, sync-interval 마다 Redis 와 합산해 다른 노드의 실패도 반영
+ * - 동기화는 마지막 동기화 이후 실패가 기록된 키만 전송 (Redis 명령 수는 추적 중인 키 수가 아니라 실패 건수에 비례)
+ *   다른 노드의 횟수도 이때 함께 받아오므로, 이 노드에서 실패가 없던 키는 다음 실패 때 합산됨
+ * - Redis 에 연결할 수 없으면 노드 로컬 카운터로만 제한
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final String KEY_PREFIX = "app:auth:login-throttle:";
+
+    private final AppSecurityProperties.LoginThrottle properties;
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    private final long windowMillis;
+    private final Cache<String, SlidingWindow> windows;
+    // 마지막 동기화 이후 실패가 기록된 키
+    private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter emailRejections;
+    private final Counter ipRejections;
+
+    @Autowired
+    public LoginThrottle(AppSecurityProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this(properties, redisTemplate, meterRegistry, Clock.systemUTC());
+    }
+
+    LoginThrottle(AppSecurityProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties.loginThrottle();
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+
+        this.windowMillis = this.properties.window().toMillis();
+        this.windows = Caffeine.newBuilder()
+                .expireAfterAccess(this.properties.window().multipliedBy(2))
+                .maximumSize(this.properties.maximumKeys())
+                .build();
+
+        this.emailRejections = rejectionCounter(meterRegistry, "email");
+        this.ipRejections = rejectionCounter(meterRegistry, "ip");
+    }
+
+    /**
+     * 로그인 시도 전 확인
+     *
+     * @throws RateLimitException 이메일 또는 IP 의 실패 횟수가 한도를 넘은 경우 (Retry-After 포함)
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long now = clock.millis();
+        check(emailKey(email), properties.maxFailuresPerEmail(), now, emailRejections);
+        check(ipKey(clientIp), properties.maxFailuresPerIp(), now, ipRejections);
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    public void recordFailure(String email, String clientIp) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long now = clock.millis();
+        increment(emailKey(email), now);
+        increment(ipKey(clientIp), now);
+    }
+
+    private void increment(String key, long now) {
+        window(key).increment(now);
+        // 증가 이후에 표시해야 동기화가 키를 가져간 뒤의 증가도 다음 동기화에 포함됨
+        dirtyKeys.add(key);
+    }
+
+    /**
+     * 노드 로컬 실패 횟수를 Redis 에 더하고, 합산된 횟수(다른 노드 포함)를 로컬 카운터에 반영
+     * - 마지막 동기화 이후 실패가 기록된 키만 하나의 파이프라인으로 전송 (INCRBY + PEXPIRE)
+     * - 구간이 바뀌기 전에 동기화하지 못한 직전 구간 횟수도 직전 구간 키로 전송
+     */
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.sync-interval:1s}")
+    public void synchronize() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        long now = clock.millis();
+        List<String> keys = new ArrayList<>();
+        List<Delta> deltas = new ArrayList<>();
+        for (Iterator<String> iterator = dirtyKeys.iterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            iterator.remove();
+            SlidingWindow window = windows.getIfPresent(key);
+            if (window == null) {
+                continue;
+            }
+            Bucket current = window.current(now);
+            Bucket retired = window.retired();
+            if (retired != null) {
+                long delta = retired.unsynced().getAndSet(0);
+                if (delta > 0) {
+                    keys.add(key);
+                    deltas.add(new Delta(retired, delta, current.index() == retired.index() + 1 ? current : null));
+                }
+            }
+            long delta = current.unsynced().getAndSet(0);
+            if (delta > 0) {
+                keys.add(key);
+                deltas.add(new Delta(current, delta, null));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (int i = 0; i < deltas.size(); i++) {
+                    String redisKey = KEY_PREFIX + keys.get(i) + ":" + deltas.get(i).bucket().index();
+                    redis.incrBy(redisKey, deltas.get(i).delta());
+                    redis.pExpire(redisKey, windowMillis * 2);
+                }
+                return null;
+            });
+            for (int i = 0; i < deltas.size(); i++) {
+                long total = ((Number) results.get(i * 2)).longValue();
+                Delta delta = deltas.get(i);
+                delta.bucket().count().accumulateAndGet(total, Math::max);
+                if (delta.next() != null) {
+                    // 직전 구간의 합산 횟수를 현재 구간의 가중치 계산에 반영
+                    delta.next().previous().accumulateAndGet(total, Math::max);
+                }
+            }
+        } catch (DataAccessException e) {
+            // 다음 동기화 때 다시 전송
+            for (int i = 0; i < deltas.size(); i++) {
+                deltas.get(i).bucket().unsynced().addAndGet(deltas.get(i).delta());
+                dirtyKeys.add(keys.get(i));
+            }
+            log.debug("로그인 실패 횟수 동기화에 실패했습니다: {}", e.getMessage());
+        }
+    }
+
+    private void check(String key, int limit, long now, Counter rejections) {
+        Duration retryAfter = window(key).retryAfter(now, limit);
+        if (retryAfter != null) {
+            rejections.increment();
+            throw new RateLimitException(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS, retryAfter);
+        }
+    }
+
+    private SlidingWindow window(String key) {
+        return windows.get(key, k -> new SlidingWindow(windowMillis));
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 클라이언트 IP 키
+     * - clientIp 는 컨테이너가 결정한 원격 주소 (prod 프로필은 server.forward-headers-strategy=native 로 로드 밸런서의 X-Forwarded-For 사용)
+     * - 로드 밸런서만 노드에 접근할 수 있고 클라이언트가 보낸 X-Forwarded-For 를 덮어쓴다고 가정
+     *   (로드 밸런서 뒤에서 forwarded 헤더 처리를 끄면 모든 클라이언트가 로드 밸런서 IP 하나를 공유)
+     */
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("auth.login-throttle.rejections")
+                .description("로그인 실패 횟수 초과로 거절된 요청 수")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 하나의 슬라이딩 윈도우 (현재 구간 + 직전 구간 횟수)
+     */
+    private static final class SlidingWindow {
+
+        private final long windowMillis;
+        private final AtomicReference<Bucket> bucket = new AtomicReference<>(new Bucket(-1, 0));
+        // 교체된 직전 구간 (동기화되지 않은 횟수를 전송하기 위해 다음 교체까지 보관)
+        private volatile Bucket retired;
+
+        SlidingWindow(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        void increment(long now) {
+            Bucket current = current(now);
+            current.count().incrementAndGet();
+            current.unsynced().incrementAndGet();
+        }
+
+        /**
+         * 한도 이내면 null, 넘었으면 한도 아래로 내려갈 때까지 남은 시간
+         */
+        Duration retryAfter(long now, int limit) {
+            Bucket current = current(now);
+            long elapsed = now - current.index() * windowMillis;
+            long count = current.count().get();
+            long previous = current.previous().get();
+            double estimate = previous * (1 - (double) elapsed / windowMillis) + count;
+            if (estimate < limit) {
+                return null;
+            }
+
+            long waitMillis;
+            if (count < limit) {
+                // 현재 구간 안에서 직전 구간 가중치가 줄어들어 한도 아래로 내려가는 시점
+                double until = windowMillis * (1 - (double) (limit - count) / previous);
+                waitMillis = (long) Math.ceil(until) - elapsed;
+            } else {
+                // 다음 구간에서 현재 구간 횟수의 가중치가 줄어들어 한도 아래로 내려가는 시점
+                double until = windowMillis * (1 - (double) limit / count);
+                waitMillis = windowMillis - elapsed + (long) Math.ceil(until);
+            }
+            // 한도와 같아지는 시점 다음부터 허용
+            return Duration.ofMillis(Math.max(1_000, waitMillis + 1));
+        }
+
+        Bucket current(long now) {
+            long index = now / windowMillis;
+            while (true) {
+                Bucket current = bucket.get();
+                if (current.index() == index) {
+                    return current;
+                }
+                long previous = current.index() == index - 1 ? current.count().get() : 0;
+                Bucket next = new Bucket(index, previous);
+                if (bucket.compareAndSet(current, next)) {
+                    // 교체 이후에 들어온 직전 구간 증가분도 버리지 않도록 보관
+                    retired = current;
+                    return next;
+                }
+            }
+        }
+
+        Bucket retired() {
+            return retired;
+        }
+    }
+
+    /**
+     * 동기화할 구간과 전송할 횟수
+     *
+     * @param next bucket 이 직전 구간일 때, 합산 횟수를 previous 에 반영할 현재 구간 (없으면 null)
+     */
+    private record Delta(Bucket bucket, long delta, Bucket next) {
+    }
+
+    /**
+     * 고정 구간 하나의 실패 횟수
+     *
+     * @param index    구간 번호 (epoch millis / window)
+     * @param previous 직전 구간의 최종 횟수 (직전 구간을 동기화하면 다른 노드 횟수를 포함해 갱신)
+     */
+    private record Bucket(long index, AtomicLong previous, AtomicLong count, AtomicLong unsynced) {
+
+        Bucket(long index, long previous) {
+            this(index, new AtomicLong(previous), new AtomicLong(), new AtomicLong());
+        }
+    }
+
+}
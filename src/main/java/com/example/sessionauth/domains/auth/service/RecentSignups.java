@@ -0,0 +1,97 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.model.AppUser;
+import com.example.sessionauth.global.config.AppDataSourceProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 최근 가입한 사용자 (읽기/쓰기 분리 시 read-your-writes 보장용)
+ * - 가입 후 app.datasource.routing.read-your-writes 동안은 해당 사용자의 조회를 primary 에서 수행
+ * - 가입과 로그인이 다른 노드에서 처리될 수 있으므로 Redis pub/sub 으로 모든 노드에 기록
+ * - 라우팅을 사용하지 않으면 아무것도 기록하지 않음
+ */
+@Slf4j
+@Component
+public class RecentSignups implements MessageListener {
+
+    private static final String CHANNEL = "app:auth:event:signup";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+
+    // 이메일(소문자) 또는 사용자 ID
+    private final Cache<String, Boolean> recent;
+
+    public RecentSignups(
+            StringRedisTemplate redisTemplate,
+            @Qualifier("springSessionRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+            AppDataSourceProperties properties
+    ) {
+        AppDataSourceProperties.Routing routing = properties.routing();
+        this.redisTemplate = redisTemplate;
+        this.enabled = routing.active();
+        this.recent = Caffeine.newBuilder()
+                .expireAfterWrite(routing.readYourWrites())
+                .build();
+
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * 가입 완료 기록 (모든 노드에 전파)
+     */
+    public void add(AppUser user) {
+        if (!enabled) {
+            return;
+        }
+        String message = user.getId() + " " + user.getEmail().toLowerCase(Locale.ROOT);
+        put(message);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 다른 노드는 replica 에 반영된 뒤부터 조회 가능
+            log.warn("가입 기록 전파에 실패했습니다.", e);
+        }
+    }
+
+    public boolean contains(String email) {
+        return enabled && recent.getIfPresent(email.toLowerCase(Locale.ROOT)) != null;
+    }
+
+    public boolean contains(UUID userId) {
+        return enabled && recent.getIfPresent(userId.toString()) != null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * "{userId} {email}"
+     */
+    private void put(String message) {
+        String[] parts = message.split(" ", 2);
+        if (parts.length != 2) {
+            return;
+        }
+        recent.put(parts[0], Boolean.TRUE);
+        recent.put(parts[1], Boolean.TRUE);
+    }
+
+}
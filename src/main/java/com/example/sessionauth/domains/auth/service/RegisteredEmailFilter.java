@@ -0,0 +1,318 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.repository.AppUserEmail;
+import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.config.SchedulingConfig;
+import com.example.sessionauth.global.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 가입된 이메일의 Bloom filter
+ * - 로그인 시 DB 조회 전에 확인해, 가입되지 않은 이메일(크리덴셜 스터핑 등)은 DB 를 조회하지 않고 거절
+ * - 주기적으로 DB 에서 다시 만들고, 그 사이 가입한 이메일은 Redis pub/sub 으로 모든 노드에 추가
+ * - false negative 방지: 가입마다 Redis 가입 순번(INCR)을 올려 순번과 함께 전파하고, 필터에 없는 이메일은
+ *   이 노드가 최신 순번까지 빠짐없이 반영했을 때만 거절 (메시지 유실/전파 실패로 뒤처져 있으면 DB 조회)
+ * - 재구성은 기본 스케줄러 스레드를 붙잡지 않도록 전용 스케줄러(email-filter-)에서 실행
+ * - 첫 구성이 끝나기 전이나 비활성화 시에는 항상 "있을 수 있음"으로 응답 (DB 조회)
+ * <pre>
+ * auth.email-filter.size / expected.fpp  : 원소 수, 추정 false positive 확률
+ * auth.email-filter.lookups{result}      : rejected(DB 조회 생략), passed, behind(필터에 없지만 뒤처져 있어 DB 조회),
+ *                                          false-positive(통과했지만 DB 에 없음)
+ * auth.email-filter.rebuild              : 재구성 시간
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter implements MessageListener {
+
+    private static final String METRIC_PREFIX = "auth.email-filter";
+    private static final String CHANNEL = "app:auth:event:email-registered";
+    // 클러스터 전체 가입 순번 (가입 커밋 이후 증가)
+    private static final String SEQUENCE_KEY = "app:auth:email-filter:sequence";
+    // 순번 증가와 전파를 한 번에 (메시지: "순번:이메일")
+    private static final RedisScript<Long> PUBLISH_REGISTERED = new DefaultRedisScript<>("""
+            local sequence = redis.call('INCR', KEYS[1])
+            redis.call('PUBLISH', ARGV[1], sequence .. ':' .. ARGV[2])
+            return sequence
+            """, Long.class);
+    private static final int PAGE_SIZE = 5_000;
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final AppUserRepository appUserRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final AppSecurityProperties.EmailFilter properties;
+
+    // null 이면 아직 구성 전
+    private final AtomicReference<BloomFilter> filter = new AtomicReference<>();
+    // 재구성 중에 추가된 이메일 (새 필터로 옮겨 담음)
+    private final Queue<String> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    // 이 노드가 빠짐없이 반영한 마지막 가입 순번과, 그 뒤로 먼저 도착해 반영한 순번
+    private volatile long appliedSequence;
+    private final TreeSet<Long> appliedAhead = new TreeSet<>();
+    // Redis 장애로 전파하지 못한 가입 이메일 (재시도)
+    private final Queue<String> unpublished = new ConcurrentLinkedQueue<>();
+
+    private final Counter rejected;
+    private final Counter passed;
+    private final Counter behind;
+    private final Counter falsePositives;
+    private final Timer rebuildTimer;
+
+    public RegisteredEmailFilter(
+            AppUserRepository appUserRepository,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("springSessionRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+            AppSecurityProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.appUserRepository = appUserRepository;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties.emailFilter();
+
+        if (this.properties.enabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+
+        Gauge.builder(METRIC_PREFIX + ".size", filter, f -> f.get() != null ? f.get().size() : 0)
+                .description("Bloom filter 에 추가된 이메일 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected.fpp", filter, f -> f.get() != null ? f.get().expectedFalsePositiveRate() : 0)
+                .description("Bloom filter 추정 false positive 확률")
+                .register(meterRegistry);
+        this.rejected = lookupCounter(meterRegistry, "rejected");
+        this.passed = lookupCounter(meterRegistry, "passed");
+        this.behind = lookupCounter(meterRegistry, "behind");
+        this.falsePositives = lookupCounter(meterRegistry, "false-positive");
+        this.rebuildTimer = Timer.builder(METRIC_PREFIX + ".rebuild")
+                .description("Bloom filter 재구성 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가입된 이메일일 수 있는지 여부 (false 면 가입되지 않은 이메일)
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter.get();
+        if (current == null) {
+            return true;
+        }
+        if (current.mightContain(normalize(email))) {
+            passed.increment();
+            return true;
+        }
+        if (isBehind()) {
+            behind.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * 다른 노드의 가입 중 이 노드에 반영되지 않은 것이 있을 수 있는지 여부 (Redis 를 확인할 수 없으면 true)
+     */
+    private boolean isBehind() {
+        try {
+            String latest = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+            // 순번이 줄었으면(Redis 초기화 등) 다음 재구성 전까지 판단할 수 없음
+            return (latest != null ? Long.parseLong(latest) : 0) != appliedSequence;
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 필터를 통과했지만 DB 에 없던 이메일 (false positive 측정용)
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 가입 완료된 이메일 추가 (모든 노드에 전파)
+     */
+    public void add(String email) {
+        if (!properties.enabled()) {
+            return;
+        }
+        String normalized = normalize(email);
+        put(normalized);
+        if (!publish(normalized)) {
+            unpublished.add(normalized);
+        }
+    }
+
+    /**
+     * 전파하지 못한 가입 이메일 재전파
+     * - 재전파 전까지 다른 노드는 순번이 오르지 않아 이 이메일을 거절할 수 있으므로, Redis 가 돌아오는 즉시 재시도
+     */
+    @Scheduled(scheduler = SchedulingConfig.EMAIL_FILTER_SCHEDULER, fixedDelayString = "${app.security.email-filter.republish-interval:1s}")
+    public void republish() {
+        String email;
+        while ((email = unpublished.peek()) != null && publish(email)) {
+            unpublished.poll();
+        }
+    }
+
+    private boolean publish(String normalizedEmail) {
+        try {
+            redisTemplate.execute(PUBLISH_REGISTERED, List.of(SEQUENCE_KEY), CHANNEL, normalizedEmail);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("가입 이메일 전파에 실패했습니다. 재시도합니다.", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        put(body.substring(separator + 1));
+        if (separator > 0) {
+            applied(Long.parseLong(body.substring(0, separator)));
+        }
+    }
+
+    /**
+     * 순번 반영 (이메일을 필터에 넣은 뒤 호출)
+     */
+    private synchronized void applied(long sequence) {
+        if (sequence <= appliedSequence) {
+            return;
+        }
+        appliedAhead.add(sequence);
+        advance();
+    }
+
+    /**
+     * 끊김 없이 이어지는 순번까지 appliedSequence 를 올림
+     */
+    private void advance() {
+        long next = appliedSequence;
+        while (!appliedAhead.isEmpty() && appliedAhead.first() <= next + 1) {
+            next = Math.max(next, appliedAhead.pollFirst());
+        }
+        appliedSequence = next;
+    }
+
+    /**
+     * DB 의 전체 이메일로 필터를 다시 만듦 (기동 직후 및 rebuild-interval 마다)
+     * - 유실된 전파 메시지도 여기서 반영되므로 뒤처진 노드는 재구성 후 다시 DB 조회 없이 거절
+     */
+    @Scheduled(scheduler = SchedulingConfig.EMAIL_FILTER_SCHEDULER, initialDelay = 0, fixedDelayString = "${app.security.email-filter.rebuild-interval:10m}")
+    public void rebuild() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            rebuildTimer.record(this::doRebuild);
+        } catch (RuntimeException e) {
+            log.warn("가입 이메일 필터 재구성에 실패했습니다. 기존 필터를 유지합니다.", e);
+            rebuilding = false;
+        }
+    }
+
+    private void doRebuild() {
+        rebuilding = true;
+        pendingDuringRebuild.clear();
+
+        // 이 순번까지의 가입은 커밋이 끝났으므로 아래 DB 조회에 모두 포함됨 (순번은 커밋 이후 증가)
+        String sequence = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+        long snapshotSequence = sequence != null ? Long.parseLong(sequence) : 0;
+
+        // 재구성 주기 동안의 가입을 고려해 여유 있게 생성
+        long count = appUserRepository.count();
+        BloomFilter rebuilt = new BloomFilter(Math.max(1_024, count * 2), properties.falsePositiveRate());
+
+        UUID after = MIN_ID;
+        List<AppUserEmail> page;
+        do {
+            page = appUserRepository.findEmailsAfter(after, PageRequest.ofSize(PAGE_SIZE));
+            for (AppUserEmail row : page) {
+                rebuilt.put(normalize(row.email()));
+            }
+            if (!page.isEmpty()) {
+                after = page.getLast().id();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        filter.set(rebuilt);
+        drainPending(rebuilt);
+        rebuilding = false;
+        drainPending(rebuilt);
+        rebased(snapshotSequence);
+
+        log.debug("가입 이메일 필터 재구성 완료: {}건", rebuilt.size());
+    }
+
+    /**
+     * 재구성한 필터는 snapshotSequence 까지 모두 포함하므로 그 사이의 끊긴 순번은 반영된 것으로 봄
+     */
+    private synchronized void rebased(long snapshotSequence) {
+        appliedAhead.removeIf(sequence -> sequence <= snapshotSequence);
+        appliedSequence = Math.max(appliedSequence, snapshotSequence);
+        advance();
+    }
+
+    private void put(String normalizedEmail) {
+        BloomFilter current = filter.get();
+        if (current != null) {
+            current.put(normalizedEmail);
+        }
+        if (rebuilding) {
+            pendingDuringRebuild.add(normalizedEmail);
+        }
+    }
+
+    private void drainPending(BloomFilter target) {
+        String email;
+        while ((email = pendingDuringRebuild.poll()) != null) {
+            target.put(email);
+        }
+    }
+
+    /**
+     * DB 비교 규칙(MySQL 기본 collation: 대소문자/악센트 무시)과 맞추기 위한 정규화
+     */
+    private static String normalize(String email) {
+        String decomposed = Normalizer.normalize(email, Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("가입 이메일 필터 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.example.sessionauth.domains.session.controller;
+
+import com.example.sessionauth.domains.session.dto.request.SessionCondition;
+import com.example.sessionauth.domains.session.dto.response.SessionRevokeResponse;
+import com.example.sessionauth.domains.session.service.SessionAdminService;
+import com.example.sessionauth.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 관리자 세션 API (SecurityConfig 에서 ADMIN 권한만 허용)
+ */
+@RestController
+@RequestMapping("/api/admin/sessions")
+@RequiredArgsConstructor
+public class AdminSessionController {
+
+    private final SessionAdminService sessionAdminService;
+
+    /**
+     * 세션 조회 API (NDJSON 스트리밍, 조건 생략 시 전체)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamSessions(@ModelAttribute SessionCondition condition, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        sessionAdminService.stream(condition, response.getOutputStream());
+    }
+
+    /**
+     * 사용자의 모든 세션 만료 API (principal 인덱스 조회)
+     */
+    @DeleteMapping(params = "principal")
+    public ResponseEntity<ApiResponse<SessionRevokeResponse>> revokePrincipal(@RequestParam String principal) {
+        return ApiResponse.ok(sessionAdminService.revoke(SessionCondition.ofPrincipal(principal), false));
+    }
+
+    /**
+     * 조건에 맞는 세션 일괄 만료 API (dryRun=true 면 대상 수만 조회)
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<SessionRevokeResponse>> revoke(
+            @RequestBody SessionCondition condition,
+            @RequestParam(defaultValue = "false") boolean dryRun
+    ) {
+        return ApiResponse.ok(sessionAdminService.revoke(condition, dryRun));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sessionauth.domains.session.dto.request;
+
+import com.example.sessionauth.domains.session.dto.response.SessionSummary;
+
+import java.time.Instant;
+
+/**
+ * 세션 조회/일괄 만료 조건 (지정한 조건을 모두 만족하는 세션)
+ *
+ * @param principal          사용자 (이메일), 지정하면 SCAN 대신 principal 인덱스로 조회
+ * @param authority          권한 (예: ROLE_ADMIN)
+ * @param createdBefore      이 시각 이전에 생성된 세션
+ * @param lastAccessedBefore 이 시각 이후로 접근이 없는 세션
+ */
+public record SessionCondition(
+        String principal,
+        String authority,
+        Instant createdBefore,
+        Instant lastAccessedBefore
+) {
+
+    public static SessionCondition ofPrincipal(String principal) {
+        return new SessionCondition(principal, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return principal == null && authority == null && createdBefore == null && lastAccessedBefore == null;
+    }
+
+    public boolean matches(SessionSummary session) {
+        return (principal == null || principal.equals(session.principal()))
+                && (authority == null || session.authorities().contains(authority))
+                && (createdBefore == null || session.creationTime().isBefore(createdBefore))
+                && (lastAccessedBefore == null || session.lastAccessedTime().isBefore(lastAccessedBefore));
+    }
+}
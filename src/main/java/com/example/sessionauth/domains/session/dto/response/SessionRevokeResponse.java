@@ -0,0 +1,15 @@
+package com.example.sessionauth.domains.session.dto.response;
+
+/**
+ * 세션 일괄 만료 결과
+ *
+ * @param scanned 확인한 세션 수
+ * @param matched 조건에 맞는 세션 수
+ * @param revoked 만료시킨 세션 수 (dryRun 이면 0)
+ */
+public record SessionRevokeResponse(
+        long scanned,
+        long matched,
+        long revoked
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.sessionauth.domains.session.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 세션 조회 결과 (NDJSON 한 줄)
+ *
+ * @param expiresAt 만료 예정 시각 (만료되지 않는 세션이면 null)
+ */
+public record SessionSummary(
+        String id,
+        String principal,
+        List<String> authorities,
+        Instant creationTime,
+        Instant lastAccessedTime,
+        Instant expiresAt
+) {
+}
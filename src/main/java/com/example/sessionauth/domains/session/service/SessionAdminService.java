@@ -0,0 +1,249 @@
+package com.example.sessionauth.domains.session.service;
+
+import com.example.sessionauth.domains.session.dto.request.SessionCondition;
+import com.example.sessionauth.domains.session.dto.response.SessionRevokeResponse;
+import com.example.sessionauth.domains.session.dto.response.SessionSummary;
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.exception.BusinessException;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 관리자용 세션 조회/강제 만료
+ * - 전체 조회는 KEYS 대신 SCAN 커서로 scanCount 개씩 순회하고, 세션은 배치마다 파이프라인 HMGET 으로 필요한 필드만 읽음
+ * - principal 조건이 있으면 SCAN 없이 principal 인덱스(SET)만 조회
+ * - 메모리에는 한 배치만 보관하므로 세션 수와 관계없이 일정한 메모리로 동작
+ * - 만료는 RedisIndexedSessionRepository.deleteById 와 같은 방식으로 배치마다 한 번의 파이프라인으로 처리
+ *   (expires 키 삭제 → 모든 노드가 삭제 이벤트를 받아 near-cache 무효화, 세션 해시는 이벤트 처리를 위해 5분 뒤 만료)
+ * <pre>
+ * session.admin.revoked : 관리자가 만료시킨 세션 수
+ * </pre>
+ */
+@Slf4j
+@Service
+public class SessionAdminService {
+
+    private static final String CREATION_TIME = "creationTime";
+    private static final String LAST_ACCESSED_TIME = "lastAccessedTime";
+    private static final String MAX_INACTIVE_INTERVAL = "maxInactiveInterval";
+    private static final String SECURITY_CONTEXT = "sessionAttr:" + HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
+    private static final List<String> SUMMARY_FIELDS = List.of(CREATION_TIME, LAST_ACCESSED_TIME, MAX_INACTIVE_INTERVAL, SECURITY_CONTEXT);
+
+    // 삭제 이벤트를 받은 노드가 세션을 읽을 수 있도록 남겨두는 시간 (RedisIndexedSessionRepository 와 같음)
+    private static final Duration DELETED_SESSION_RETENTION = Duration.ofMinutes(5);
+
+    private final RedisOperations<String, Object> redisOperations;
+    private final String sessionKeyPrefix;
+    private final String expiresKeyPrefix;
+    private final String principalIndexKeyPrefix;
+    private final int scanCount;
+    private final ObjectWriter ndjsonWriter;
+    private final Counter revokedCounter;
+
+    public SessionAdminService(
+            RedisIndexedSessionRepository sessionRepository,
+            @Value("${spring.session.redis.namespace:spring:session}") String redisNamespace,
+            AppSessionProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisOperations = sessionRepository.getSessionRedisOperations();
+        this.sessionKeyPrefix = redisNamespace + ":sessions:";
+        this.expiresKeyPrefix = sessionKeyPrefix + "expires:";
+        this.principalIndexKeyPrefix = redisNamespace + ":index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":";
+        this.scanCount = properties.admin().scanCount();
+        this.ndjsonWriter = objectMapper.writerFor(SessionSummary.class);
+        this.revokedCounter = Counter.builder("session.admin.revoked")
+                .description("관리자가 만료시킨 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조건에 맞는 세션을 한 줄에 하나씩 JSON 으로 출력 (배치마다 flush)
+     */
+    public void stream(SessionCondition condition, OutputStream out) {
+        forEachBatch(condition, sessions -> {
+            try {
+                for (SessionSummary session : sessions) {
+                    out.write(ndjsonWriter.writeValueAsBytes(session));
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등: 순회 중단
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 조건에 맞는 세션 일괄 만료 (조건 없이 전체 만료는 허용하지 않음)
+     *
+     * @param dryRun true 면 대상 수만 세고 만료시키지 않음
+     */
+    public SessionRevokeResponse revoke(SessionCondition condition, boolean dryRun) {
+        if (condition.isEmpty()) {
+            throw new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE, "만료 조건을 하나 이상 지정해야 합니다.");
+        }
+
+        long[] counts = new long[2];
+        long scanned = forEachBatch(condition, sessions -> {
+            counts[0] += sessions.size();
+            if (!dryRun && !sessions.isEmpty()) {
+                revokeAll(sessions);
+                counts[1] += sessions.size();
+            }
+        });
+        revokedCounter.increment(counts[1]);
+
+        log.info("세션 일괄 만료: condition={}, dryRun={}, scanned={}, matched={}, revoked={}", condition, dryRun, scanned, counts[0], counts[1]);
+        return new SessionRevokeResponse(scanned, counts[0], counts[1]);
+    }
+
+    /**
+     * 대상 세션 ID 를 scanCount 개씩 모아 조건에 맞는 세션만 전달
+     *
+     * @return 확인한 세션 수
+     */
+    private long forEachBatch(SessionCondition condition, Consumer<List<SessionSummary>> consumer) {
+        if (condition.principal() != null) {
+            // principal 인덱스: 사용자당 세션 수는 작으므로 한 번에 조회
+            Set<Object> members = redisOperations.opsForSet().members(principalIndexKeyPrefix + condition.principal());
+            List<String> ids = members == null ? List.of() : members.stream().map(String::valueOf).toList();
+            consumer.accept(load(ids, condition));
+            return ids.size();
+        }
+
+        long scanned = 0;
+        List<String> ids = new ArrayList<>(scanCount);
+        ScanOptions options = ScanOptions.scanOptions().match(sessionKeyPrefix + "*").count(scanCount).build();
+        try (Cursor<String> cursor = redisOperations.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.startsWith(expiresKeyPrefix)) {
+                    continue;
+                }
+                ids.add(key.substring(sessionKeyPrefix.length()));
+                if (ids.size() == scanCount) {
+                    consumer.accept(load(ids, condition));
+                    scanned += ids.size();
+                    ids.clear();
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            consumer.accept(load(ids, condition));
+            scanned += ids.size();
+        }
+        return scanned;
+    }
+
+    /**
+     * 세션 요약 필드를 파이프라인 HMGET 으로 읽고, 만료/삭제된 세션과 조건에 맞지 않는 세션은 제외
+     */
+    @SuppressWarnings("unchecked")
+    private List<SessionSummary> load(List<String> ids, SessionCondition condition) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> rows = redisOperations.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (String id : ids) {
+                    ops.<String, Object>opsForHash().multiGet(sessionKeyPrefix + id, SUMMARY_FIELDS);
+                }
+                return null;
+            }
+        });
+
+        Instant now = Instant.now();
+        List<SessionSummary> sessions = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            SessionSummary session = toSummary(ids.get(i), (List<Object>) rows.get(i), now);
+            if (session != null && condition.matches(session)) {
+                sessions.add(session);
+            }
+        }
+        return sessions;
+    }
+
+    private static SessionSummary toSummary(String id, List<Object> values, Instant now) {
+        if (!(values.get(0) instanceof Long creationTime) || !(values.get(1) instanceof Long lastAccessedTime)) {
+            // SCAN 이후 삭제된 세션
+            return null;
+        }
+
+        Instant lastAccessed = Instant.ofEpochMilli(lastAccessedTime);
+        Instant expiresAt = values.get(2) instanceof Integer maxInactiveInterval && maxInactiveInterval >= 0
+                ? lastAccessed.plusSeconds(maxInactiveInterval)
+                : null;
+        if (expiresAt != null && !expiresAt.isAfter(now)) {
+            // 만료됐지만 아직 정리되지 않은 세션 (삭제 이벤트 처리를 위해 남아 있는 해시 포함)
+            return null;
+        }
+
+        String principal = null;
+        List<String> authorities = List.of();
+        if (values.get(3) instanceof SecurityContext context && context.getAuthentication() != null) {
+            Authentication authentication = context.getAuthentication();
+            principal = authentication.getName();
+            authorities = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        }
+
+        return new SessionSummary(id, principal, authorities, Instant.ofEpochMilli(creationTime), lastAccessed, expiresAt);
+    }
+
+    /**
+     * 한 번의 파이프라인으로 세션 만료
+     * - expires 키 삭제: 모든 노드가 삭제 이벤트(SessionDeletedEvent)를 받아 principal 인덱스/near-cache 정리
+     * - maxInactiveInterval=0: 이벤트 처리 전에도 모든 노드에서 즉시 만료된 세션으로 조회됨
+     */
+    @SuppressWarnings("unchecked")
+    private void revokeAll(List<SessionSummary> sessions) {
+        redisOperations.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (SessionSummary session : sessions) {
+                    String sessionKey = sessionKeyPrefix + session.id();
+                    ops.opsForHash().put(sessionKey, MAX_INACTIVE_INTERVAL, 0);
+                    ops.expire(sessionKey, DELETED_SESSION_RETENTION);
+                    ops.delete(expiresKeyPrefix + session.id());
+                    if (session.principal() != null) {
+                        ops.opsForSet().remove(principalIndexKeyPrefix + session.principal(), session.id());
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 데이터소스 라우팅 설정 (app.datasource.*)
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public record AppDataSourceProperties(
+        @DefaultValue
+        Routing routing
+) {
+
+    /**
+     * 읽기/쓰기 분리 설정
+     * - 읽기 전용 트랜잭션은 replica, 그 외(쓰기)는 spring.datasource(primary) 로 보냄
+     *
+     * @param enabled             사용 여부
+     * @param replicas            replica 목록 (커넥션 풀 설정은 primary 와 같음)
+     * @param readYourWrites      가입 직후 이 시간 동안은 해당 사용자 조회를 primary 에서 수행 (복제 지연 대비)
+     * @param healthCheckInterval replica 상태 확인 주기 (ReplicaRoutingDataSource.checkHealth)
+     * @param healthCheckTimeout  replica 하나의 상태 확인 제한 시간 (커넥션 획득 + 검증, 넘으면 제외)
+     * @param maxLag              이 시간보다 복제가 늦은 replica 는 읽기에서 제외 (0 이면 확인 안 함, MySQL SHOW REPLICA STATUS 사용)
+     */
+    public record Routing(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue List<Replica> replicas,
+            @DefaultValue("10s") Duration readYourWrites,
+            @DefaultValue("5s") Duration healthCheckInterval,
+            @DefaultValue("1s") Duration healthCheckTimeout,
+            @DefaultValue("0s") Duration maxLag
+    ) {
+
+        public boolean active() {
+            return enabled && !replicas.isEmpty();
+        }
+    }
+
+    /**
+     * replica 접속 정보
+     *
+     * @param url      JDBC URL
+     * @param username 사용자 (생략 시 spring.datasource.username)
+     * @param password 비밀번호 (생략 시 spring.datasource.password)
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JPA/JDBC 운영 설정 (app.jpa.*)
+ */
+@ConfigurationProperties(prefix = "app.jpa")
+public record AppJpaProperties(
+        @DefaultValue
+        SlowQuery slowQuery
+) {
+
+    /**
+     * 느린 쿼리 로그 설정 (쿼리마다 남기는 SQL 로그 대신 사용)
+     *
+     * @param threshold  이 시간 이상 걸린 쿼리만 기록 (0 이면 사용 안 함, Hibernate hibernate.log_slow_query 로 전달)
+     * @param sampleRate 느린 쿼리 중 로그로 남길 비율 (0.0 ~ 1.0, 횟수는 샘플링과 관계없이 모두 메트릭으로 집계)
+     */
+    public record SlowQuery(
+            @DefaultValue("0ms") Duration threshold,
+            @DefaultValue("1.0") double sampleRate
+    ) {
+
+        public boolean enabled() {
+            return threshold.isPositive();
+        }
+    }
+}
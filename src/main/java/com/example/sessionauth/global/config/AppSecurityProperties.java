@@ -0,0 +1,112 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 보안 튜닝 설정 (app.security.*)
+ */
+@ConfigurationProperties(prefix = "app.security")
+public record AppSecurityProperties(
+        @DefaultValue
+        PasswordHashing passwordHashing,
+        @DefaultValue
+        EmailFilter emailFilter,
+        @DefaultValue
+        LoginThrottle loginThrottle,
+        @DefaultValue
+        Audit audit,
+        @DefaultValue
+        Csrf csrf
+) {
+
+    /**
+     * 비밀번호 해시 전용 스레드 풀 설정
+     *
+     * @param threads       해시 스레드 수 (0 이면 CPU 코어 수)
+     * @param queueCapacity 대기열 크기 (가득 차면 429 로 즉시 거절)
+     * @param strength      BCrypt strength (0 이면 기동 시 targetLatency 에 맞춰 계산)
+     * @param targetLatency 비밀번호 검증 1회의 목표 시간
+     */
+    public record PasswordHashing(
+            @DefaultValue("0") int threads,
+            @DefaultValue("64") int queueCapacity,
+            @DefaultValue("0") int strength,
+            @DefaultValue("100ms") Duration targetLatency
+    ) {
+
+        public int resolvedThreads() {
+            return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * 가입 이메일 Bloom filter 설정 (로그인 시 가입되지 않은 이메일은 DB 조회 없이 거절)
+     *
+     * @param enabled           사용 여부
+     * @param falsePositiveRate 목표 false positive 확률
+     */
+    public record EmailFilter(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0.01") double falsePositiveRate
+    ) {
+    }
+
+    /**
+     * 로그인 실패 횟수 제한 설정
+     *
+     * @param enabled             사용 여부
+     * @param window              실패 횟수를 세는 기간 (슬라이딩 윈도우)
+     * @param maxFailuresPerEmail 기간 내 이메일별 최대 실패 횟수
+     * @param maxFailuresPerIp    기간 내 클라이언트 IP 별 최대 실패 횟수
+     * @param maximumKeys         노드당 추적할 최대 키(이메일/IP) 수
+     */
+    public record LoginThrottle(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("5m") Duration window,
+            @DefaultValue("10") int maxFailuresPerEmail,
+            @DefaultValue("100") int maxFailuresPerIp,
+            @DefaultValue("100000") int maximumKeys
+    ) {
+    }
+
+    /**
+     * 인증 감사 기록 설정 (메모리 링 버퍼에 모아 백그라운드에서 배치 INSERT)
+     *
+     * @param enabled       사용 여부
+     * @param bufferSize    링 버퍼 크기 (가득 차면 버리고 auth.audit.dropped 증가, 2의 거듭제곱으로 올림)
+     * @param flushSize     INSERT 한 번에 저장할 최대 이벤트 수
+     * @param flushInterval 버퍼를 비우는 주기 (flushSize 만큼 쌓여 있으면 바로 다시 비움)
+     */
+    public record Audit(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("8192") int bufferSize,
+            @DefaultValue("500") int flushSize,
+            @DefaultValue("1s") Duration flushInterval
+    ) {
+    }
+
+    /**
+     * CSRF 토큰 설정
+     *
+     * @param mode           hmac: 세션 ID 의 HMAC 을 토큰으로 사용 (저장/마스킹 없음), cookie: 쿠키 저장 + XOR 마스킹 (Spring Security 기본값)
+     * @param secret         HMAC 키 (비어 있으면 generateSecret 에 따라 Redis 에 한 번 생성해 모든 노드가 공유)
+     * @param generateSecret 키가 비어 있을 때 Redis 에 생성할지 (개발용, 운영은 false 로 두고 키를 설정해야 기동됨)
+     * @param cookieName     토큰 쿠키 이름 (JavaScript 에서 읽어 headerName 헤더로 전송)
+     * @param headerName     토큰 헤더 이름
+     */
+    public record Csrf(
+            @DefaultValue("hmac") String mode,
+            @DefaultValue("") String secret,
+            @DefaultValue("true") boolean generateSecret,
+            @DefaultValue("XSRF-TOKEN") String cookieName,
+            @DefaultValue("X-XSRF-TOKEN") String headerName
+    ) {
+
+        public boolean isHmac() {
+            return "hmac".equalsIgnoreCase(mode);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 세션 저장소 튜닝 설정 (app.session.*)
+ */
+@ConfigurationProperties(prefix = "app.session")
+public record AppSessionProperties(
+        @DefaultValue
+        NearCache nearCache,
+        @DefaultValue
+        WriteBack writeBack,
+        @DefaultValue
+        Admin admin,
+        @DefaultValue
+        Expiry expiry
+) {
+
+    /**
+     * 로컬 near-cache 설정
+     *
+     * @param enabled     사용 여부 (기본값: false)
+     * @param maximumSize 노드당 최대 캐시 세션 수
+     * @param timeToLive  캐시 유지 시간 (무효화 메시지가 유실되더라도 이 시간 이상 오래된 값은 사용하지 않음)
+     */
+    public record NearCache(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10000") int maximumSize,
+            @DefaultValue("10s") Duration timeToLive
+    ) {
+    }
+
+    /**
+     * 요청 단위 세션 write-back 설정
+     *
+     * @param touchGranularity lastAccessedTime 만 바뀐 요청을 저장하지 않는 시간 범위 (0 이면 매 요청 저장)
+     *                         - Redis 의 만료 시각은 최대 이 시간만큼 실제보다 일찍 잡히므로 세션 만료 시간보다 짧아야 함
+     * @param pipeline         세션 저장 명령을 하나의 Redis 파이프라인으로 전송할지 여부
+     */
+    public record WriteBack(
+            @DefaultValue("60s") Duration touchGranularity,
+            @DefaultValue("true") boolean pipeline
+    ) {
+    }
+
+    /**
+     * 관리자 세션 API 설정 (/api/admin/sessions)
+     *
+     * @param scanCount SCAN 한 번에 요청할 키 수이자 세션을 읽고/만료시키는 파이프라인 크기
+     */
+    public record Admin(
+            @DefaultValue("1000") int scanCount
+    ) {
+    }
+
+    /**
+     * 세션 만료 처리 설정 (SessionExpiryEngine)
+     *
+     * @param enabled      사용 여부 (기본값 false: Spring Session 기본 방식, 매분 0초 정리 작업 + 모든 노드가 keyspace expired 알림 처리,
+     *                     true 면 Redis 서버의 만료 알림(x)을 끄므로 같은 Redis 를 쓰는 모든 노드가 함께 켜야 함)
+     * @param shards       만료 인덱스 shard 수 (노드들이 버킷을 shard 단위로 나눠 처리)
+     * @param bucketWidth  버킷 시간 폭 (세션은 만료 후 대략 bucketWidth + tickInterval 안에 처리됨)
+     * @param tickInterval 처리할 버킷이 생겼는지 확인하는 주기
+     * @param batchSize    한 번에 꺼내 읽고 이벤트를 발행하는 세션 수
+     * @param leaseTime    버킷 lease 유지 시간이자 버킷 하나의 최대 처리 시간 (남은 세션은 다음 버킷에서, 중단된 노드가 꺼낸 세션은 lease 종료 후 처리)
+     */
+    public record Expiry(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("16") int shards,
+            @DefaultValue("5s") Duration bucketWidth,
+            @DefaultValue("1s") Duration tickInterval,
+            @DefaultValue("200") int batchSize,
+            @DefaultValue("30s") Duration leaseTime
+    ) {
+    }
+}
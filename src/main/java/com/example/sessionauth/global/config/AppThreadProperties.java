@@ -0,0 +1,31 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 스레드 실행 모드 진단 설정 (app.threads.*)
+ * - 가상 스레드 사용 여부 자체는 Spring Boot 표준 설정 spring.threads.virtual.enabled 를 따름
+ */
+@ConfigurationProperties(prefix = "app.threads")
+public record AppThreadProperties(
+        @DefaultValue
+        Pinning pinning
+) {
+
+    /**
+     * 가상 스레드 pinning(캐리어 스레드 고정) 감지 설정
+     *
+     * @param enabled   사용 여부
+     * @param threshold 이 시간 이상 고정된 경우만 기록 (JFR jdk.VirtualThreadPinned 기본값과 같은 20ms)
+     * @param maxSites  메트릭 태그로 구분할 최대 발생 위치 수 (초과분은 "other")
+     */
+    public record Pinning(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20ms") Duration threshold,
+            @DefaultValue("100") int maxSites
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 로컬 캐시 설정
+ * - 캐시 이름/크기/만료 시간은 spring.cache.* (Caffeine) 로 설정
+ * - 캐시 advisor 를 트랜잭션 advisor(LOWEST_PRECEDENCE)보다 바깥에 두어, 캐시 적중 시 트랜잭션을 시작하지 않음
+ *   (같은 order 면 advisor 등록 순서에 따라 중첩이 정해짐)
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
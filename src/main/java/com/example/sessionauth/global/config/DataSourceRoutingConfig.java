@@ -0,0 +1,83 @@
+package com.example.sessionauth.global.config;
+
+import com.example.sessionauth.global.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 (app.datasource.routing.enabled=true 이고 replica 가 있을 때)
+ * - dataSource: LazyConnectionDataSourceProxy 로 첫 쿼리 시점에 커넥션을 얻어, 읽기 전용 트랜잭션이면 replica, 아니면 primary 사용
+ * - primaryDataSource: spring.datasource / spring.datasource.hikari 로 만든 풀 (자동 설정과 같음)
+ * - replica 풀은 primary 의 Hikari 설정을 복사하고 URL/계정만 바꿈
+ */
+@Configuration
+@EnableConfigurationProperties(AppDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final String ROUTING_ACTIVE =
+            "${app.datasource.routing.enabled:false} and '${app.datasource.routing.replicas[0].url:}' != ''";
+
+    @Bean
+    @ConditionalOnExpression(ROUTING_ACTIVE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnExpression(ROUTING_ACTIVE)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            AppDataSourceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        AppDataSourceProperties.Routing routing = properties.routing();
+        List<AppDataSourceProperties.Replica> replicas = routing.replicas();
+
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            AppDataSourceProperties.Replica replica = replicas.get(i);
+            String name = "replica-" + i;
+
+            HikariDataSource pool = new HikariDataSource();
+            primaryDataSource.copyStateTo(pool);
+            pool.setPoolName(primaryDataSource.getPoolName() + "-" + name);
+            pool.setJdbcUrl(replica.url());
+            if (StringUtils.hasText(replica.username())) pool.setUsername(replica.username());
+            if (StringUtils.hasText(replica.password())) pool.setPassword(replica.password());
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(name, pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, pools, routing.maxLag(), routing.healthCheckTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression(ROUTING_ACTIVE)
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+}
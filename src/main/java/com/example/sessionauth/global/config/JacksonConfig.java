@@ -1,43 +1,62 @@
 package com.example.sessionauth.global.config;
 
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
-
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 전역 ObjectMapper 설정
+ * - ObjectMapper 는 Boot 의 Jackson2ObjectMapperBuilder 로 생성 (spring.jackson.* 설정과 아래 커스터마이저가 모두 적용됨)
+ * - Blackbird: 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 필드/생성자 호출
+ * - 버퍼 재사용: 플랫폼 스레드는 Jackson 기본값(스레드 로컬 풀), 가상 스레드 모드는 모든 스레드가 공유하는 풀
+ *   (가상 스레드는 요청마다 새 스레드이므로 스레드 로컬 풀은 재사용되지 않고, 플랫폼 스레드에서는 공유 풀이 더 느림)
+ */
 @Configuration
 public class JacksonConfig {
 
     /**
-     * 전역 ObjectMapper 설정
+     * Jackson 커스터마이저 설정
      */
     @Bean
-    @Primary
-    public ObjectMapper objectMapper() {
-
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        // Java 8 날짜/시간 모듈 등록
-        objectMapper.registerModule(new JavaTimeModule());
-
-        // 타임스탬프를 읽기 쉬운 문자열 형식으로 출력 (예: "2025-12-07T06:29:00.000+00:00")
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        return objectMapper;
+    public Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer(Environment environment) {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        return builder -> customize(builder, virtualThreads);
     }
 
     /**
-     * Jackson 커스터마이저 설정
+     * 스프링 컨텍스트 밖(테스트, 벤치마크)에서 애플리케이션과 같은 설정으로 만든 ObjectMapper
      */
-    @Bean
-    public Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer() {
-        // 잘못된 Enum 값을 null로 변환하는 설정 활성화
-        return builder -> builder.featuresToEnable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL);
+    public static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        customize(builder, false);
+        return builder.build();
+    }
+
+    private static void customize(Jackson2ObjectMapperBuilder builder, boolean virtualThreads) {
+        if (virtualThreads) {
+            // 요청/응답 버퍼를 스레드와 무관하게 재사용
+            builder.factory(JsonFactory.builder()
+                    .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                    .build());
+        }
+        builder
+                // Java 8 날짜/시간 모듈, 접근자 바이트코드 생성 모듈 등록
+                .modulesToInstall(JavaTimeModule.class, BlackbirdModule.class)
+                // 타임스탬프를 읽기 쉬운 문자열 형식으로 출력 (예: "2025-12-07T06:29:00.000")
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                // 잘못된 Enum 값을 null로 변환하는 설정 활성화
+                .featuresToEnable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL);
     }
 
-}
\ No newline at end of file
+}
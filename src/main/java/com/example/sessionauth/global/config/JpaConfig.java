@@ -0,0 +1,48 @@
+package com.example.sessionauth.global.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.example.sessionauth.global.jdbc.SlowQueryLogSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA/JDBC 운영 설정
+ * - 느린 쿼리 로그: app.jpa.slow-query.threshold 를 Hibernate 의 hibernate.log_slow_query 로 전달하고, 로그는 샘플링
+ * - 실행 중인 풀/드라이버/Hibernate 설정은 기동 시 JdbcSettingsReport 가 검증해 로그로 남김
+ */
+@Configuration
+@EnableConfigurationProperties(AppJpaProperties.class)
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer slowQueryHibernatePropertiesCustomizer(AppJpaProperties properties) {
+        return hibernateProperties -> {
+            AppJpaProperties.SlowQuery slowQuery = properties.slowQuery();
+            if (slowQuery.enabled()) {
+                hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, slowQuery.threshold().toMillis());
+            }
+        };
+    }
+
+    /**
+     * 느린 쿼리 로그 샘플링 필터를 logback 에 등록
+     */
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnClass(LoggerContext.class)
+    public SlowQueryLogSampler slowQueryLogSampler(AppJpaProperties properties, MeterRegistry meterRegistry) {
+        SlowQueryLogSampler sampler = new SlowQueryLogSampler(properties.slowQuery().sampleRate(), meterRegistry);
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext) {
+            sampler.setContext(loggerContext);
+            sampler.start();
+            loggerContext.addTurboFilter(sampler);
+        }
+        return sampler;
+    }
+
+}
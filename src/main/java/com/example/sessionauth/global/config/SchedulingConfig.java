@@ -0,0 +1,48 @@
+package com.example.sessionauth.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업 설정 (@Scheduled)
+ * - 짧은 주기 작업(로그인 실패 횟수 동기화 등)은 Boot 기본 스케줄러(spring.task.scheduling.*)에서 실행
+ * - 오래 걸릴 수 있는 작업은 기본 스케줄러 스레드를 붙잡지 않도록 전용 스케줄러에서 실행 (@Scheduled(scheduler = ...))
+ * - 전용 스케줄러는 defaultCandidate = false 로 등록해 Boot 기본 스케줄러 자동 구성과 타입 기반 주입에 영향을 주지 않음
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 가입 이메일 필터 재구성 (전체 이메일 페이지 조회)
+    public static final String EMAIL_FILTER_SCHEDULER = "emailFilterScheduler";
+    // replica 상태 확인 (커넥션 획득/검증 대기)
+    public static final String REPLICA_HEALTH_SCHEDULER = "replicaHealthScheduler";
+    // 세션 만료 버킷 처리 (버킷 하나에 최대 lease-time 동안 실행)
+    public static final String SESSION_EXPIRY_SCHEDULER = "sessionExpiryScheduler";
+
+    @Bean(name = EMAIL_FILTER_SCHEDULER, defaultCandidate = false)
+    public ThreadPoolTaskScheduler emailFilterScheduler() {
+        return dedicatedScheduler("email-filter-");
+    }
+
+    @Bean(name = REPLICA_HEALTH_SCHEDULER, defaultCandidate = false)
+    public ThreadPoolTaskScheduler replicaHealthScheduler() {
+        return dedicatedScheduler("replica-health-check-");
+    }
+
+    @Bean(name = SESSION_EXPIRY_SCHEDULER, defaultCandidate = false)
+    public ThreadPoolTaskScheduler sessionExpiryScheduler() {
+        return dedicatedScheduler("session-expiry-");
+    }
+
+    private static ThreadPoolTaskScheduler dedicatedScheduler(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+
+}
@@ -1,38 +1,81 @@
 package com.example.sessionauth.global.config;
 
 import com.example.sessionauth.global.exception.CommonErrorCode;
-import com.example.sessionauth.global.response.ErrorResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.http.HttpServletResponse;
+import com.example.sessionauth.global.response.ErrorResponseWriter;
+import com.example.sessionauth.global.security.BCryptStrengthCalibrator;
+import com.example.sessionauth.global.security.BoundedPasswordEncoder;
+import com.example.sessionauth.global.security.HmacCsrfTokenRepository;
+import com.example.sessionauth.global.security.PathAuthorizationManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.authentication.session.ChangeSessionIdAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.CompositeSessionAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.ConcurrentSessionControlAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.RegisterSessionAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.csrf.XorCsrfTokenRequestAttributeHandler;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AppSecurityProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final ObjectMapper objectMapper;
+    // 사용자당 최대 동시 세션 수
+    private static final int MAXIMUM_SESSIONS = 1;
+    // 새 비밀번호 해시에 사용할 인코더 ID ({bcrypt}$2a$...)
+    private static final String PASSWORD_ENCODER_ID = "bcrypt";
+    // app.security.csrf.secret 가 없을 때 노드 간 공유하는 CSRF HMAC 키
+    private static final String CSRF_SECRET_KEY = "app:security:csrf-secret";
+    // 없을 때만 저장하고 저장된 값을 반환 (다른 노드가 먼저 저장했으면 그 값)
+    private static final RedisScript<String> CSRF_SECRET_SET_IF_ABSENT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'NX')
+            return redis.call('GET', KEYS[1])
+            """, String.class);
+
+    private final ErrorResponseWriter errorResponseWriter;
+    private final SessionRegistry sessionRegistry;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            CsrfTokenRepository csrfTokenRepository,
+            AppSecurityProperties properties
+    ) throws Exception {
 
         http
                 // 폼 로그인 비활성화 (REST API 사용)
@@ -44,8 +87,12 @@ public class SecurityConfig {
 
                 // CSRF 보호 설정 (세션 기반 인증에서 필수)
                 .csrf(csrf -> csrf
-                        // CSRF 토큰을 쿠키에 저장 (JavaScript에서 접근 가능)
-                        .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
+                        // CSRF 토큰 저장소 (app.security.csrf.mode, 토큰은 JavaScript 에서 읽을 수 있는 쿠키로 전달)
+                        .csrfTokenRepository(csrfTokenRepository)
+                        // hmac: 토큰이 응답 본문에 노출되지 않으므로 XOR 마스킹(BREACH 대응) 없이 쿠키 값을 그대로 헤더로 받음
+                        .csrfTokenRequestHandler(properties.csrf().isHmac()
+                                ? new CsrfTokenRequestAttributeHandler()
+                                : new XorCsrfTokenRequestAttributeHandler())
                         // 로그인/회원가입 API는 CSRF 검증 제외
                         .ignoringRequestMatchers("/api/auth/**")
                 )
@@ -58,65 +105,66 @@ public class SecurityConfig {
                     // 필요 시 세션 생성
                     session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED);
                     // 동시 세션 제어 (최대 1개, 이전 세션 만료)
-                    session.maximumSessions(1)
+                    session.maximumSessions(MAXIMUM_SESSIONS)
+                            .sessionRegistry(sessionRegistry)
                             .maxSessionsPreventsLogin(false)
                             .expiredUrl("/api/auth/session-expired");
                     // 세션 고정 공격 방지 (로그인 시 세션 ID 변경)
                     session.sessionFixation().changeSessionId();
                 })
 
-                // URL별 접근 권한 설정
-                .authorizeHttpRequests(authorizeRequests -> {
-
-                    // 리소스 접근 허용
-                    authorizeRequests.requestMatchers("/public/**", "/favicon.ico").permitAll(); // 리소스
-                    // 스웨거 접근 허용
-                    authorizeRequests.requestMatchers(
-                            "/v3/api-docs/**",
-                            "/api/v3/api-docs/**",
-                            "/api/swagger-ui/**",
-                            "/swagger-ui/**",
-                            "/swagger-ui.html",
-                            "/swagger-resources/**"
-                    ).permitAll();
-                    // 헬스 체크 접근 허용
-                    authorizeRequests.requestMatchers("/actuator/**").permitAll();
-                    // 인증 API 접근 허용
-                    authorizeRequests.requestMatchers("/api/auth/**").permitAll();
-                    // 커스텀 API
-                    authorizeRequests.requestMatchers("/external/**").permitAll();
-
-                    /* :::::::: 이하 접근 제한 URL :::::::: */
-
-                    // 관리자 전용 URL
-                    authorizeRequests.requestMatchers("/api/admin/**").hasRole("ADMIN");
-                    // 일반 사용자 API
-                    authorizeRequests.requestMatchers("/api/**").hasRole("USER");
-                    // 인증된 사용자만 접근 가능한 상태 조회 API
-                    authorizeRequests.requestMatchers("/api/auth/status").authenticated();
-                    // 그 외 모든 요청은 인증 필요
-                    authorizeRequests.anyRequest().authenticated();
-                })
+                // URL별 접근 권한 설정 (기동 시 경로 trie 로 컴파일, authorizationManager() 참고)
+                .authorizeHttpRequests(authorizeRequests -> authorizeRequests.anyRequest().access(authorizationManager()))
 
                 // 예외 처리 설정
                 .exceptionHandling(configurer -> configurer
-                        // 인증 실패 시 처리 (401 Unauthorized)
-                        .authenticationEntryPoint((request, response, authException) -> {
-                            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                            response.setContentType("application/json;charset=UTF-8");
-                            response.getWriter().write(objectMapper.writeValueAsString(ErrorResponse.of(CommonErrorCode.UNAUTHORIZED)));
-                        })
-                        // 권한 없음 처리 (403 Forbidden)
-                        .accessDeniedHandler((request, response, accessDeniedException) -> {
-                            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                            response.setContentType("application/json;charset=UTF-8");
-                            response.getWriter().write(objectMapper.writeValueAsString(CommonErrorCode.FORBIDDEN));
-                        })
+                        // 인증 실패 시 처리 (401 Unauthorized, 미리 인코딩한 본문)
+                        .authenticationEntryPoint((request, response, authException) ->
+                                errorResponseWriter.write(response, CommonErrorCode.UNAUTHORIZED))
+                        // 권한 없음 처리 (403 Forbidden, CSRF 토큰 검증 실패 포함)
+                        .accessDeniedHandler((request, response, accessDeniedException) ->
+                                errorResponseWriter.write(response, CommonErrorCode.FORBIDDEN))
                 );
 
         return http.build();
     }
 
+    /**
+     * URL별 접근 권한 (선언 순서상 먼저 일치하는 규칙 적용)
+     * - 요청마다 규칙을 순서대로 비교하지 않고 경로 세그먼트 trie 에서 한 번에 찾음
+     * - 앞선 규칙에 가려져 적용되지 않는 규칙은 기동 시 WARN 로그로 알림
+     */
+    private PathAuthorizationManager authorizationManager() {
+        return PathAuthorizationManager.builder()
+                // 리소스 접근 허용
+                .permitAll("/public/**", "/favicon.ico")
+                // 스웨거 접근 허용
+                .permitAll(
+                        "/v3/api-docs/**",
+                        "/api/v3/api-docs/**",
+                        "/api/swagger-ui/**",
+                        "/swagger-ui/**",
+                        "/swagger-ui.html",
+                        "/swagger-resources/**"
+                )
+                // 헬스 체크 접근 허용
+                .permitAll("/actuator/**")
+                // 인증 API 접근 허용 (/api/auth/status 포함)
+                .permitAll("/api/auth/**")
+                // 커스텀 API
+                .permitAll("/external/**")
+
+                /* :::::::: 이하 접근 제한 URL :::::::: */
+
+                // 관리자 전용 URL
+                .hasRole("ADMIN", "/api/admin/**")
+                // 일반 사용자 API
+                .hasRole("USER", "/api/**")
+                // 그 외 모든 요청은 인증 필요
+                .anyRequest(AuthenticatedAuthorizationManager.authenticated(), "authenticated")
+                .build();
+    }
+
     /**
      * 세션 이벤트 발행 빈 (Spring Security 사용 시 필수)
      * Spring Session(Redis)이 세션을 관리하더라도, Spring Security는 서블릿 컨테이너(Undertow) 수준에서 발생하는 세션 이벤트를 감지해야만 다음과 같은 기능을 수행
@@ -136,12 +184,89 @@ public class SecurityConfig {
         return new HttpSessionSecurityContextRepository();
     }
 
+    /**
+     * CSRF 토큰 저장소
+     * - hmac (기본값): 세션 ID 의 HMAC 을 토큰으로 사용, 키가 설정되지 않았으면 Redis 에 한 번 생성해 모든 노드가 공유
+     *   (generate-secret: false 인 운영 프로필은 키가 없으면 기동 실패)
+     * - cookie: 토큰을 쿠키에 저장 (CookieCsrfTokenRepository)
+     */
+    @Bean
+    public CsrfTokenRepository csrfTokenRepository(AppSecurityProperties properties, StringRedisTemplate redisTemplate) {
+        AppSecurityProperties.Csrf csrf = properties.csrf();
+        if (!csrf.isHmac()) {
+            CookieCsrfTokenRepository repository = CookieCsrfTokenRepository.withHttpOnlyFalse();
+            repository.setCookieName(csrf.cookieName());
+            repository.setHeaderName(csrf.headerName());
+            return repository;
+        }
+
+        String secret = csrf.secret();
+        if (secret.isBlank()) {
+            if (!csrf.generateSecret()) {
+                throw new IllegalStateException("CSRF HMAC 키가 없습니다: app.security.csrf.secret (CSRF_SECRET) 를 설정하세요");
+            }
+            byte[] generated = new byte[32];
+            new SecureRandom().nextBytes(generated);
+            secret = redisTemplate.execute(CSRF_SECRET_SET_IF_ABSENT, List.of(CSRF_SECRET_KEY),
+                    Base64.getEncoder().encodeToString(generated));
+            if (secret == null) {
+                throw new IllegalStateException("CSRF HMAC 키를 Redis 에서 읽지 못했습니다: " + CSRF_SECRET_KEY);
+            }
+        }
+        return new HmacCsrfTokenRepository(secret.getBytes(StandardCharsets.UTF_8), csrf.cookieName(), csrf.headerName());
+    }
+
+    /**
+     * 로그인 시 세션 처리 전략 (AuthApplicationService.login 에서 직접 호출)
+     * - 폼 로그인을 사용하지 않으므로 sessionManagement 설정만으로는 로그인 시점에 적용되지 않음
+     * - 동시 세션 제어 (최대 1개, 가장 오래된 세션 만료) → 세션 ID 변경 → CSRF 토큰 갱신 → 레지스트리 등록 순으로 수행
+     */
+    @Bean
+    public SessionAuthenticationStrategy sessionAuthenticationStrategy(CsrfTokenRepository csrfTokenRepository) {
+        ConcurrentSessionControlAuthenticationStrategy concurrentSessionControl = new ConcurrentSessionControlAuthenticationStrategy(sessionRegistry);
+        concurrentSessionControl.setMaximumSessions(MAXIMUM_SESSIONS);
+        concurrentSessionControl.setExceptionIfMaximumExceeded(false);
+
+        return new CompositeSessionAuthenticationStrategy(List.of(
+                concurrentSessionControl,
+                new ChangeSessionIdAuthenticationStrategy(),
+                // 로그인 응답에 새 CSRF 토큰 쿠키를 씀 (hmac: 바뀐/새 세션 ID 기준, cookie: 새 임의 토큰)
+                // 세션이 없던 요청이면 어차피 로그인 직후 생성되므로 먼저 생성
+                (authentication, request, response) -> {
+                    request.getSession();
+                    csrfTokenRepository.saveToken(csrfTokenRepository.generateToken(request), request, response);
+                },
+                new RegisterSessionAuthenticationStrategy(sessionRegistry)
+        ));
+    }
+
     /**
      * 비밀번호 암호화를 위한 인코더
+     * - 새 해시는 {bcrypt} 접두사와 호스트에 맞춰 계산한 strength 로 저장하고, 접두사 없는 기존 해시도 BCrypt 로 검증
+     * - 기존 해시의 strength 가 낮으면 upgradeEncoding 이 true 를 반환하므로 로그인 시 재해시 (PasswordUpgrader)
+     * - 해시 연산은 요청 스레드가 아닌 CPU 코어 수 크기의 전용 스레드 풀에서 수행 (대기열 초과 시 429)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AppSecurityProperties properties, MeterRegistry meterRegistry) {
+        AppSecurityProperties.PasswordHashing passwordHashing = properties.passwordHashing();
+
+        int strength = passwordHashing.strength() > 0
+                ? passwordHashing.strength()
+                : BCryptStrengthCalibrator.calibrate(passwordHashing.targetLatency());
+        log.info("BCrypt strength: {} (목표 검증 시간: {})", strength, passwordHashing.targetLatency());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                PASSWORD_ENCODER_ID,
+                Map.of(PASSWORD_ENCODER_ID, new BCryptPasswordEncoder(strength))
+        );
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder,
+                passwordHashing.resolvedThreads(),
+                passwordHashing.queueCapacity(),
+                meterRegistry
+        );
     }
 
     /**
@@ -167,7 +292,8 @@ public class SecurityConfig {
                 "X-Requested-With",
                 "Content-Type",
                 "Authorization",
-                "X-CSRF-TOKEN"
+                "X-CSRF-TOKEN",
+                "X-XSRF-TOKEN"
         ));
 
         // 클라이언트에서 접근 가능한 응답 헤더
@@ -1,9 +1,229 @@
 package com.example.sessionauth.global.config;
 
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.MeteredRedisSerializer;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import com.example.sessionauth.global.session.codec.SessionAttributeCodec;
+import com.example.sessionauth.global.session.NearCacheSessionRepository;
+import com.example.sessionauth.global.session.SessionExpiryEngine;
+import com.example.sessionauth.global.session.WriteBackSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import org.springframework.session.data.redis.config.ConfigureRedisAction;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisIndexedHttpSession;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
 
+import java.time.Duration;
+
+/**
+ * Redis 세션 설정
+ * - 사용자별 세션 조회(동시 세션 제어)를 위해 principal 인덱스를 유지하는 RedisIndexedSessionRepository 사용
+ * - @EnableRedisIndexedHttpSession 을 사용하면 Boot 의 세션 자동 설정이 적용되지 않으므로 spring.session.* 설정은 여기서 직접 반영
+ */
 @Configuration
-@EnableRedisHttpSession
+@EnableRedisIndexedHttpSession(redisNamespace = "${spring.session.redis.namespace:spring:session}")
+@EnableConfigurationProperties(AppSessionProperties.class)
 public class SessionConfig {
+
+    /**
+     * 세션 레지스트리 (동시 세션 제어용)
+     * - 기본 SessionRegistryImpl 은 JVM 메모리에 세션을 보관하므로 다중 노드에서 동작하지 않음
+     * - Redis 의 principal 인덱스(SET)로 사용자별 세션을 조회하므로 노드 간 일관되고, 노드 메모리를 사용하지 않음
+     */
+    @Bean
+    public <S extends Session> SpringSessionBackedSessionRegistry<S> sessionRegistry(FindByIndexNameSessionRepository<S> sessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
+    /**
+     * 세션 만료 시간 (spring.session.timeout)
+     * - 설정하지 않으면 @EnableRedisIndexedHttpSession 의 기본값(30분)이 적용되고 spring.session.timeout 은 무시됨
+     */
+    @Bean
+    public SessionRepositoryCustomizer<RedisIndexedSessionRepository> sessionTimeoutCustomizer(
+            @Value("${spring.session.timeout:30m}") Duration timeout
+    ) {
+        return sessionRepository -> sessionRepository.setDefaultMaxInactiveInterval(timeout);
+    }
+
+    /**
+     * 세션 만료 엔진 (app.session.expiry.enabled=true 일 때만, 기본값 false)
+     * - 만료 인덱스를 shard 별 시간 버킷으로 관리하고, 버킷마다 lease 를 잡은 한 노드만 만료 이벤트를 발행
+     * - Redis 서버 전역 설정(notify-keyspace-events)을 바꾸므로 같은 Redis 를 쓰는 모든 노드가 함께 켜야 함
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.session.expiry", name = "enabled", havingValue = "true")
+    public SessionExpiryEngine sessionExpiryEngine(
+            StringRedisTemplate stringRedisTemplate,
+            @Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> sessionRedisSerializer,
+            @Value("${spring.session.redis.namespace:spring:session}") String redisNamespace,
+            ApplicationEventPublisher eventPublisher,
+            AppSessionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new SessionExpiryEngine(
+                stringRedisTemplate,
+                sessionRedisSerializer,
+                redisNamespace,
+                eventPublisher,
+                properties.expiry(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Spring Session 의 만료 처리 대신 세션 만료 엔진 사용
+     * - 만료 인덱스를 엔진으로 교체하고, 매분 0초에 실행되는 정리 작업을 끔
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.session.expiry", name = "enabled", havingValue = "true")
+    public SessionRepositoryCustomizer<RedisIndexedSessionRepository> sessionExpiryCustomizer(SessionExpiryEngine sessionExpiryEngine) {
+        return sessionRepository -> {
+            sessionRepository.setExpirationStore(sessionExpiryEngine);
+            sessionRepository.setCleanupCron(Scheduled.CRON_DISABLED);
+        };
+    }
+
+    /**
+     * keyspace 알림 설정: 삭제 알림은 유지하고 만료 알림은 끔 (만료는 세션 만료 엔진이 한 노드에서만 처리)
+     * - 엔진을 켠 경우에만 등록되며, 끈 경우에는 Spring Session 기본 설정(Egx 추가)을 그대로 사용
+     * - Redis 의 CONFIG 명령을 쓸 수 없는 환경(관리형 Redis 등)에서는 notify-keyspace-events 를 "Eg" 로 직접 설정
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.session.expiry", name = "enabled", havingValue = "true")
+    public ConfigureRedisAction configureRedisAction() {
+        return SessionExpiryEngine::configureKeyspaceNotifications;
+    }
+
+    /**
+     * 요청 단위 세션 write-back 저장소
+     * - @Primary 로 등록되어 SessionRepositoryFilter, SessionRegistry 가 Redis 저장소 대신 사용
+     * - near-cache 가 활성화되어 있으면 near-cache 를, 아니면 Redis 저장소를 감쌈
+     */
+    @Bean
+    @Primary
+    public WriteBackSessionRepository<?> writeBackSessionRepository(
+            RedisIndexedSessionRepository sessionRepository,
+            ObjectProvider<NearCacheSessionRepository<RedisSession>> nearCacheSessionRepository,
+            AppSessionProperties properties,
+            @Value("${spring.session.timeout:30m}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        validateTouchGranularity(properties.writeBack().touchGranularity(), timeout);
+        NearCacheSessionRepository<RedisSession> nearCache = nearCacheSessionRepository.getIfAvailable();
+        return nearCache != null
+                ? writeBack(nearCache, sessionRepository, properties, meterRegistry)
+                : writeBack(sessionRepository, sessionRepository, properties, meterRegistry);
+    }
+
+    /**
+     * 세션 조회 near-cache (app.session.near-cache.enabled=true 일 때)
+     * - write-back 저장소의 delegate 로 사용
+     * - 무효화 메시지는 Spring Session 의 Redis 리스너 컨테이너에서 함께 구독
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.session.near-cache", name = "enabled", havingValue = "true")
+    public NearCacheSessionRepository<RedisSession> nearCacheSessionRepository(
+            RedisIndexedSessionRepository sessionRepository,
+            RedisMessageListenerContainer springSessionRedisMessageListenerContainer,
+            StringRedisTemplate stringRedisTemplate,
+            @Qualifier("springSessionDefaultRedisSerializer") ObjectProvider<RedisSerializer<Object>> sessionRedisSerializer,
+            @Value("${spring.session.redis.namespace:spring:session}") String redisNamespace,
+            AppSessionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        NearCacheSessionRepository<RedisSession> nearCacheSessionRepository = new NearCacheSessionRepository<>(
+                sessionRepository,
+                sessionRedisSerializer.getIfAvailable(() -> new JdkSerializationRedisSerializer(getClass().getClassLoader())),
+                stringRedisTemplate,
+                redisNamespace + ":event:near-cache:invalidated",
+                properties.nearCache(),
+                meterRegistry
+        );
+        springSessionRedisMessageListenerContainer.addMessageListener(
+                nearCacheSessionRepository,
+                new ChannelTopic(nearCacheSessionRepository.getInvalidationChannel())
+        );
+        return nearCacheSessionRepository;
+    }
+
+    /**
+     * lastAccessedTime 저장 생략 범위는 세션 만료 시간보다 짧아야 함
+     * - Redis 의 만료 시각이 최대 이 범위만큼 이르게 잡히므로, 만료 시간 이상이면 사용 중인 세션이 만료될 수 있음
+     */
+    private static void validateTouchGranularity(Duration touchGranularity, Duration timeout) {
+        if (touchGranularity.isNegative() || touchGranularity.compareTo(timeout) >= 0) {
+            throw new IllegalStateException(
+                    "app.session.write-back.touch-granularity(" + touchGranularity + ") 는 0 이상이고 spring.session.timeout(" + timeout + ") 보다 짧아야 합니다."
+            );
+        }
+    }
+
+    private static <S extends Session> WriteBackSessionRepository<S> writeBack(
+            FindByIndexNameSessionRepository<S> delegate,
+            RedisIndexedSessionRepository sessionRepository,
+            AppSessionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new WriteBackSessionRepository<>(
+                delegate,
+                sessionRepository.getSessionRedisOperations(),
+                properties.writeBack(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * 세션 속성 직렬화기 (Spring Session 이 빈 이름으로 찾아서 사용, 직렬화 크기는 session.attribute.bytes 로 기록)
+     * - app.session.codec=compact (기본값): 등록된 코덱 우선, 나머지는 JDK 직렬화
+     * - app.session.codec=jdk: Spring Session 기본값과 같은 JDK 직렬화
+     */
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer(
+            ObjectProvider<SessionAttributeCodec<?>> codecs,
+            @Value("${app.session.codec:compact}") String codec,
+            MeterRegistry meterRegistry
+    ) {
+        RedisSerializer<Object> jdk = new JdkSerializationRedisSerializer(getClass().getClassLoader());
+        RedisSerializer<Object> serializer = "jdk".equalsIgnoreCase(codec)
+                ? jdk
+                : new CompactSessionRedisSerializer(codecs.orderedStream().toList(), jdk);
+        return new MeteredRedisSerializer(serializer, meterRegistry);
+    }
+
+    @Bean
+    public SecurityContextCodec securityContextCodec() {
+        return new SecurityContextCodec();
+    }
+
+    @Bean
+    public LongCodec longCodec() {
+        return new LongCodec();
+    }
+
+    @Bean
+    public IntegerCodec integerCodec() {
+        return new IntegerCodec();
+    }
 }
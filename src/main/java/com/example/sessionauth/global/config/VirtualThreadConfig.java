@@ -0,0 +1,43 @@
+package com.example.sessionauth.global.config;
+
+import com.example.sessionauth.global.thread.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 가상 스레드 요청 처리 모드 (spring.threads.virtual.enabled=true 일 때만 적용)
+ * - Spring Boot 는 Tomcat/Jetty 만 가상 스레드로 전환하므로 Undertow 는 직접 설정
+ * - 서블릿 요청을 XNIO 워커 풀(고정 크기) 대신 요청마다 새 가상 스레드에서 처리해, 블로킹 JDBC/Redis 호출이 동시 처리 수를 제한하지 않음
+ * - 가상 스레드가 캐리어 스레드에 고정(pinning)되면 메트릭/로그로 노출
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(AppThreadProperties.class)
+public class VirtualThreadConfig {
+
+    private static final String THREAD_NAME_PREFIX = "http-vt-";
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadCustomizer() {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX);
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> {
+            deploymentInfo.setExecutor(executor);
+            deploymentInfo.setAsyncExecutor(executor);
+        });
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.threads.pinning.enabled", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(AppThreadProperties properties, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties.pinning(), meterRegistry);
+    }
+
+}
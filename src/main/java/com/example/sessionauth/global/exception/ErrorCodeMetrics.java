@@ -0,0 +1,36 @@
+package com.example.sessionauth.global.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에러 응답 횟수
+ * <pre>
+ * app.errors{code, status} : 에러 코드별 응답 횟수 (코드마다 카운터를 한 번만 등록하고 재사용)
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorCodeMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ErrorCode, Counter> counters = new ConcurrentHashMap<>();
+
+    public void increment(ErrorCode errorCode) {
+        counters.computeIfAbsent(errorCode, this::register).increment();
+    }
+
+    private Counter register(ErrorCode errorCode) {
+        return Counter.builder("app.errors")
+                .description("에러 코드별 응답 횟수")
+                .tag("code", errorCode.getCode())
+                .tag("status", String.valueOf(errorCode.getStatus().value()))
+                .register(meterRegistry);
+    }
+
+}
@@ -1,24 +1,50 @@
 package com.example.sessionauth.global.exception;
 
 import com.example.sessionauth.global.response.ErrorResponse;
+import com.example.sessionauth.global.response.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+/**
+ * 필드 오류가 없는 에러 응답은 ErrorResponseWriter 가 미리 인코딩한 본문으로 응답
+ */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorCodeMetrics errorCodeMetrics;
+    private final ErrorResponseWriter errorResponseWriter;
+
     /**
      * 도메인 비즈니스 에러
      */
     @ExceptionHandler(BusinessException.class)
-    protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+    protected ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
         log.error("BusinessException: {}", e.getMessage());
-        ErrorResponse response = ErrorResponse.of(e.getErrorCode());
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
+        errorCodeMetrics.increment(e.getErrorCode());
+        return errorResponseWriter.toResponseEntity(e.getErrorCode());
+    }
+
+    /**
+     * 요청 한도 초과 (Retry-After: 초 단위)
+     */
+    @ExceptionHandler(RateLimitException.class)
+    protected ResponseEntity<byte[]> handleRateLimitException(RateLimitException e) {
+        log.warn("RateLimitException: {}", e.getMessage());
+        errorCodeMetrics.increment(e.getErrorCode());
+        long retryAfterSeconds = (e.getRetryAfter().toMillis() + 999) / 1000;
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponseWriter.toBytes(e.getErrorCode()));
     }
 
     /*
@@ -28,6 +54,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BindException.class)
     protected ResponseEntity<ErrorResponse> handleBindException(BindException e) {
         log.error("BindException: {}", e.getMessage());
+        errorCodeMetrics.increment(CommonErrorCode.INVALID_INPUT_VALUE);
         ErrorResponse response = ErrorResponse.of(CommonErrorCode.INVALID_INPUT_VALUE);
         // 필드 오류 추가
         e.getBindingResult().getFieldErrors()
@@ -35,14 +62,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(CommonErrorCode.INVALID_INPUT_VALUE.getStatus()).body(response);
     }
 
+    /**
+     * 매핑되지 않은 경로 (서버 에러가 아니므로 404)
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    protected ResponseEntity<byte[]> handleNoResourceFoundException(NoResourceFoundException e) {
+        log.debug("NoResourceFoundException: {}", e.getMessage());
+        errorCodeMetrics.increment(CommonErrorCode.RESOURCE_NOT_FOUND);
+        return errorResponseWriter.toResponseEntity(CommonErrorCode.RESOURCE_NOT_FOUND);
+    }
+
     /**
      * 서버 에러
      */
     @ExceptionHandler(Exception.class)
-    protected ResponseEntity<ErrorResponse> handleException(Exception e) {
+    protected ResponseEntity<byte[]> handleException(Exception e) {
         log.error("Exception: {}", e.getMessage(), e);
         CommonErrorCode commonErrorCode = CommonErrorCode.INTERNAL_SERVER_ERROR;
-        ErrorResponse response = ErrorResponse.of(CommonErrorCode.INTERNAL_SERVER_ERROR);
-        return ResponseEntity.status(commonErrorCode.getStatus()).body(response);
+        errorCodeMetrics.increment(commonErrorCode);
+        return errorResponseWriter.toResponseEntity(commonErrorCode);
     }
 }
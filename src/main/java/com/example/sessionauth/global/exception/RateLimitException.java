@@ -0,0 +1,20 @@
+package com.example.sessionauth.global.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 한도 초과 (응답에 Retry-After 헤더 포함)
+ */
+@Getter
+public class RateLimitException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public RateLimitException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+
+}
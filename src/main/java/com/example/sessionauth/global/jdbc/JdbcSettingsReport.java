@@ -0,0 +1,140 @@
+package com.example.sessionauth.global.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * 기동 시 실제 적용된 커넥션 풀/JDBC 드라이버/Hibernate 설정을 로그로 남기고 성능에 불리한 설정을 경고
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JdbcSettingsReport {
+
+    // 쿼리마다 로그를 남기는 로거 (운영에서는 꺼야 함)
+    static final String SQL_LOGGER = "org.hibernate.SQL";
+    static final String BIND_LOGGER = "org.hibernate.orm.jdbc.bind";
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        JdbcSettings settings = JdbcSettings.of(
+                DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class),
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        );
+        log.info("JDBC 설정: {}", settings);
+        settings.validate().forEach(issue -> log.warn("JDBC 설정 확인 필요: {}", issue));
+    }
+
+    /**
+     * 검증 대상 설정 값
+     */
+    record JdbcSettings(
+            String poolName,
+            int maximumPoolSize,
+            int minimumIdle,
+            Duration connectionTimeout,
+            Duration maxLifetime,
+            boolean mysql,
+            boolean cachePrepStmts,
+            boolean useServerPrepStmts,
+            boolean rewriteBatchedStatements,
+            String prepStmtCacheSize,
+            int jdbcBatchSize,
+            boolean orderInserts,
+            boolean orderUpdates,
+            boolean showSql,
+            boolean sqlLogEnabled,
+            boolean bindLogEnabled,
+            long slowQueryThresholdMillis
+    ) {
+
+        static JdbcSettings of(HikariDataSource hikari, SessionFactoryImplementor sessionFactory) {
+            SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+            SqlStatementLogger sqlStatementLogger = sessionFactory.getServiceRegistry()
+                    .requireService(JdbcServices.class)
+                    .getSqlStatementLogger();
+
+            String jdbcUrl = hikari != null && hikari.getJdbcUrl() != null ? hikari.getJdbcUrl() : "";
+            Properties driverProperties = hikari != null ? hikari.getDataSourceProperties() : new Properties();
+
+            return new JdbcSettings(
+                    hikari != null ? hikari.getPoolName() : "-",
+                    hikari != null ? hikari.getMaximumPoolSize() : 0,
+                    hikari != null ? hikari.getMinimumIdle() : 0,
+                    Duration.ofMillis(hikari != null ? hikari.getConnectionTimeout() : 0),
+                    Duration.ofMillis(hikari != null ? hikari.getMaxLifetime() : 0),
+                    jdbcUrl.startsWith("jdbc:mysql:"),
+                    driverFlag(jdbcUrl, driverProperties, "cachePrepStmts"),
+                    driverFlag(jdbcUrl, driverProperties, "useServerPrepStmts"),
+                    driverFlag(jdbcUrl, driverProperties, "rewriteBatchedStatements"),
+                    driverProperties.getProperty("prepStmtCacheSize", "-"),
+                    options.getJdbcBatchSize(),
+                    options.isOrderInsertsEnabled(),
+                    options.isOrderUpdatesEnabled(),
+                    sqlStatementLogger.isLogToStdout(),
+                    LoggerFactory.getLogger(SQL_LOGGER).isDebugEnabled(),
+                    LoggerFactory.getLogger(BIND_LOGGER).isTraceEnabled(),
+                    sqlStatementLogger.getLogSlowQuery()
+            );
+        }
+
+        /**
+         * 성능에 불리한 설정 목록 (없으면 빈 목록)
+         */
+        List<String> validate() {
+            List<String> issues = new ArrayList<>();
+            if (showSql) issues.add("show_sql 이 켜져 있어 모든 쿼리를 표준 출력에 씀 (SQL_LOG=false 또는 prod 프로필)");
+            if (sqlLogEnabled) issues.add(SQL_LOGGER + " 로그가 DEBUG 이하로 켜져 있어 모든 쿼리를 로그로 남김");
+            if (bindLogEnabled) issues.add(BIND_LOGGER + " 로그가 TRACE 로 켜져 있어 모든 파라미터 값을 로그로 남김");
+            if (jdbcBatchSize <= 1) issues.add("hibernate.jdbc.batch_size 가 설정되지 않아 쓰기 쿼리를 한 건씩 전송");
+            if (minimumIdle < maximumPoolSize) issues.add("minimumIdle(" + minimumIdle + ") < maximumPoolSize(" + maximumPoolSize + "): 부하 증가 시 커넥션 생성 지연 발생");
+            if (mysql) {
+                if (!cachePrepStmts) issues.add("MySQL cachePrepStmts 가 꺼져 있어 PreparedStatement 를 매번 새로 생성");
+                if (!useServerPrepStmts) issues.add("MySQL useServerPrepStmts 가 꺼져 있어 서버 측 PreparedStatement 를 재사용하지 않음");
+                if (!rewriteBatchedStatements) issues.add("MySQL rewriteBatchedStatements 가 꺼져 있어 배치 쓰기가 쿼리 여러 개로 전송");
+            }
+            return issues;
+        }
+
+        /**
+         * 드라이버 설정은 data-source-properties 또는 JDBC URL 쿼리 파라미터로 지정할 수 있음
+         */
+        private static boolean driverFlag(String jdbcUrl, Properties driverProperties, String name) {
+            String value = driverProperties.getProperty(name);
+            if (value == null) {
+                int query = jdbcUrl.indexOf('?');
+                if (query >= 0) {
+                    for (String parameter : jdbcUrl.substring(query + 1).split("&")) {
+                        String[] pair = parameter.split("=", 2);
+                        if (pair.length == 2 && pair[0].equalsIgnoreCase(name)) {
+                            value = pair[1];
+                        }
+                    }
+                }
+            }
+            return value != null && Boolean.parseBoolean(value.toLowerCase(Locale.ROOT));
+        }
+    }
+
+}
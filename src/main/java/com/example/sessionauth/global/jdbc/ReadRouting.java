@@ -0,0 +1,45 @@
+package com.example.sessionauth.global.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션의 조회를 replica 대신 primary 로 보내는 범위 지정
+ * - 커넥션은 첫 쿼리 시점에 얻으므로(LazyConnectionDataSourceProxy), 트랜잭션의 첫 쿼리를 이 범위 안에서 실행해야 함
+ * - 복제 지연으로 방금 쓴 데이터가 replica 에 없을 수 있는 조회에 사용
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * primary 에서 조회
+     */
+    public static <T> T primary(Supplier<T> query) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * condition 이 참이면 primary, 아니면 라우팅 규칙대로 조회
+     */
+    public static <T> T primaryIf(boolean condition, Supplier<T> query) {
+        return condition ? primary(query) : query.get();
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY.get() != null;
+    }
+
+}
@@ -0,0 +1,243 @@
+package com.example.sessionauth.global.jdbc;
+
+import com.example.sessionauth.global.config.SchedulingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 replica 에서 얻는 DataSource (LazyConnectionDataSourceProxy 의 readOnlyDataSource)
+ * - 정상 replica 를 돌아가며 사용하고, 커넥션 획득에 실패한 replica 는 다음 상태 확인 전까지 제외
+ * - 정상 replica 가 없거나 {@link ReadRouting#primary} 범위 안이면 primary 사용
+ * - 상태 확인은 전용 스케줄러에서 시작하고, replica 마다 별도 스레드에서 health-check-timeout 안에 끝나지 않으면 제외
+ *   (커넥션 획득이 풀의 connectionTimeout 만큼 걸려도 다른 replica 확인이나 스케줄러를 막지 않음)
+ * <pre>
+ * db.replica.healthy{replica}  : 1 정상, 0 제외됨
+ * db.routing.reads{target}     : replica, primary(명시적 지정), fallback(정상 replica 없음)
+ * </pre>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String METRIC_PREFIX = "db";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger next = new AtomicInteger();
+    // replica 상태 확인 스레드 (확인이 늦어져도 다음 주기의 다른 replica 확인은 새 스레드에서)
+    private final ExecutorService healthCheckExecutor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("replica-health-", 1).daemon(true).factory());
+
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration maxLag,
+            Duration healthCheckTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.healthCheckTimeout = healthCheckTimeout;
+
+        List<Replica> list = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            Gauge.builder(METRIC_PREFIX + ".replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("replica 읽기 사용 여부")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            list.add(replica);
+        });
+        this.replicas = List.copyOf(list);
+
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.primaryReads = readCounter(meterRegistry, "primary");
+        this.fallbackReads = readCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadRouting.isPrimaryForced()) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown("커넥션 획득 실패: " + e.getMessage());
+            }
+        }
+
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("replica 커넥션은 설정된 계정으로만 얻을 수 있습니다.");
+    }
+
+    /**
+     * replica 상태 확인 (커넥션 유효성, max-lag 설정 시 복제 지연)
+     * - replica 별로 동시에 확인하고, health-check-timeout 이 지나도 끝나지 않은 replica 는 제외 (늦게 끝난 결과는 무시)
+     * - 이전 확인이 아직 끝나지 않은 replica 는 새로 확인하지 않고 제외 상태 유지
+     */
+    @Scheduled(scheduler = SchedulingConfig.REPLICA_HEALTH_SCHEDULER,
+            fixedDelayString = "${app.datasource.routing.health-check-interval:5s}")
+    public void checkHealth() {
+        Map<Replica, CompletableFuture<String>> probes = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            if (!replica.probing.compareAndSet(false, true)) {
+                replica.markDown("이전 상태 확인이 끝나지 않음");
+                continue;
+            }
+            probes.put(replica, CompletableFuture.supplyAsync(() -> probe(replica), healthCheckExecutor)
+                    .whenComplete((failure, e) -> replica.probing.set(false)));
+        }
+
+        long deadline = System.nanoTime() + healthCheckTimeout.toNanos();
+        for (Map.Entry<Replica, CompletableFuture<String>> entry : probes.entrySet()) {
+            Replica replica = entry.getKey();
+            try {
+                String failure = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (failure == null) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(failure);
+                }
+            } catch (TimeoutException e) {
+                replica.markDown("상태 확인 시간 초과 (" + healthCheckTimeout.toMillis() + "ms)");
+            } catch (ExecutionException e) {
+                replica.markDown("상태 확인 실패: " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * replica 하나의 상태 확인
+     *
+     * @return 제외 사유 (정상이면 null)
+     */
+    private String probe(Replica replica) {
+        int validationTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                return "커넥션 검증 실패";
+            }
+            if (maxLag.isPositive()) {
+                Long lagSeconds = replicationLagSeconds(connection);
+                if (lagSeconds == null || lagSeconds > maxLag.toSeconds()) {
+                    return "복제 지연 " + (lagSeconds == null ? "확인 불가" : lagSeconds + "초");
+                }
+            }
+            return null;
+        } catch (SQLException e) {
+            return "상태 확인 실패: " + e.getMessage();
+        }
+    }
+
+    public boolean isHealthy(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+    }
+
+    @Override
+    public void close() throws Exception {
+        healthCheckExecutor.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * MySQL replica 의 복제 지연 (초, 복제가 멈췄으면 null)
+     */
+    private static Long replicationLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder(METRIC_PREFIX + ".routing.reads")
+                .description("읽기 전용 커넥션을 얻은 대상")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private final AtomicBoolean probing = new AtomicBoolean();
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                log.warn("replica {} 를 읽기에서 제외합니다. ({})", name, reason);
+            }
+            healthy = false;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                log.info("replica {} 를 다시 읽기에 사용합니다.", name);
+            }
+            healthy = true;
+        }
+    }
+
+}
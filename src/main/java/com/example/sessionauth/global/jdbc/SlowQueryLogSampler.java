@@ -0,0 +1,47 @@
+package com.example.sessionauth.global.jdbc;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hibernate 느린 쿼리 로그(org.hibernate.SQL_SLOW) 샘플링
+ * - 느린 쿼리가 몰릴 때 로그 자체가 부하가 되지 않도록 sampleRate 비율만 남김
+ * - 건수는 샘플링과 관계없이 db.query.slow 카운터로 모두 집계
+ */
+public class SlowQueryLogSampler extends TurboFilter {
+
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+
+    private final double sampleRate;
+    private final Counter slowQueries;
+
+    public SlowQueryLogSampler(double sampleRate, MeterRegistry meterRegistry) {
+        this.sampleRate = sampleRate;
+        this.slowQueries = Counter.builder("db.query.slow")
+                .description("hibernate.log_slow_query 기준을 넘은 쿼리 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!SLOW_QUERY_LOGGER.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        // isInfoEnabled 등 레벨 확인 호출(format == null)은 집계하지 않음
+        if (format == null) {
+            return FilterReply.NEUTRAL;
+        }
+        slowQueries.increment();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+}
@@ -13,6 +13,13 @@ import org.springframework.http.ResponseEntity;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ApiResponse<T> {
 
+    private static final String CREATED_MESSAGE = "데이터가 성공적으로 생성되었습니다.";
+    // 데이터 없는 201 응답 본문 (불변이므로 모든 요청이 공유)
+    private static final ApiResponse<?> CREATED = ApiResponse.builder()
+            .success(true)
+            .message(CREATED_MESSAGE)
+            .build();
+
     private boolean success;
     private String message;
     private T data;
@@ -46,13 +53,9 @@ public class ApiResponse<T> {
     /**
      * 201 Created: 리소스 생성 요청이 성공했을 때 사용 (POST)
      */
+    @SuppressWarnings("unchecked")
     public static <T> ResponseEntity<ApiResponse<T>> created() {
-        ApiResponse<T> response = ApiResponse.<T>builder()
-                .success(true)
-                .message("데이터가 성공적으로 생성되었습니다.")
-                .build();
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).body((ApiResponse<T>) CREATED);
     }
 
     /**
@@ -61,7 +64,7 @@ public class ApiResponse<T> {
     public static <T> ResponseEntity<ApiResponse<T>> created(T data) {
         ApiResponse<T> response = ApiResponse.<T>builder()
                 .success(true)
-                .message("데이터가 성공적으로 생성되었습니다.")
+                .message(CREATED_MESSAGE)
                 .data(data)
                 .build();
 
@@ -70,14 +73,10 @@ public class ApiResponse<T> {
 
     /**
      * 204 No Content: 요청은 성공적으로 처리되었으나, 클라이언트에게 돌려줄 콘텐츠(데이터)가 없을 때 사용 (DELETE)
+     * - 204 응답은 본문을 가질 수 없으므로 본문 없이 응답 (직렬화 생략)
      */
     public static <T> ResponseEntity<ApiResponse<T>> noContent() {
-        ApiResponse<T> response = ApiResponse.<T>builder()
-                .success(true)
-                .message("요청이 성공적으로 처리되었습니다 (반환 데이터 없음).")
-                .build();
-
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(response);
+        return ResponseEntity.noContent().build();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.example.sessionauth.global.response;
+
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import com.example.sessionauth.global.exception.ErrorCode;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 필드 오류가 없는 ErrorResponse 를 미리 인코딩한 UTF-8 바이트로 쓰는 writer
+ * - 에러 코드마다 timestamp 앞/뒤 JSON 을 한 번만 ObjectMapper 로 직렬화해 보관하고, 요청마다 timestamp 만 끼워 넣음
+ * - 결과는 ObjectMapper 로 ErrorResponse 를 직렬화한 것과 같음 (timestamp 형식: ISO_LOCAL_DATE_TIME, JavaTimeModule 기본값)
+ * - timestamp 는 문자열을 만들지 않고 본문 바이트 배열에 바로 씀
+ * - CommonErrorCode 는 기동 시, 그 외 에러 코드는 처음 쓸 때 인코딩
+ * - 필터 단계 응답(write)은 GlobalExceptionHandler 를 거치지 않으므로 app.errors 집계도 여기서 함
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String TIMESTAMP_FIELD = "\"timestamp\":\"";
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final ObjectWriter objectWriter;
+    private final ErrorCodeMetrics errorCodeMetrics;
+    private final Map<ErrorCode, Template> templates = new ConcurrentHashMap<>();
+
+    public ErrorResponseWriter(ObjectMapper objectMapper, ErrorCodeMetrics errorCodeMetrics) {
+        this.errorCodeMetrics = errorCodeMetrics;
+        this.objectWriter = objectMapper.writerFor(ErrorResponse.class);
+        for (CommonErrorCode errorCode : CommonErrorCode.values()) {
+            templates.put(errorCode, encode(errorCode));
+        }
+    }
+
+    /**
+     * 에러 응답 본문 (JSON, UTF-8)
+     */
+    public byte[] toBytes(ErrorCode errorCode) {
+        return toBytes(errorCode, LocalDateTime.now());
+    }
+
+    byte[] toBytes(ErrorCode errorCode, LocalDateTime timestamp) {
+        return templates.computeIfAbsent(errorCode, this::encode).render(timestamp);
+    }
+
+    /**
+     * 컨트롤러 응답 (ByteArrayHttpMessageConverter 가 그대로 씀)
+     */
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(toBytes(errorCode));
+    }
+
+    /**
+     * 필터 단계 응답 (인증 실패, 권한 없음 등): 에러 응답 횟수를 집계하고 상태 코드와 본문을 출력 스트림에 바로 씀
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        errorCodeMetrics.increment(errorCode);
+        byte[] body = toBytes(errorCode);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Template encode(ErrorCode errorCode) {
+        String json;
+        try {
+            json = objectWriter.writeValueAsString(ErrorResponse.of(errorCode));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 인코딩 실패: " + errorCode.getCode(), e);
+        }
+        // timestamp 값은 따옴표 안의 ASCII 문자열 (이스케이프 없음)
+        int start = json.indexOf(TIMESTAMP_FIELD);
+        if (start < 0) {
+            throw new IllegalStateException("에러 응답에 timestamp 문자열이 없습니다: " + json);
+        }
+        start += TIMESTAMP_FIELD.length();
+        int end = json.indexOf('"', start);
+        return new Template(
+                json.substring(0, start).getBytes(StandardCharsets.UTF_8),
+                json.substring(end).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * timestamp 앞/뒤 JSON 바이트
+     */
+    private record Template(byte[] head, byte[] tail) {
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+        private static final int MAX_TIMESTAMP_LENGTH = 29;
+
+        byte[] render(LocalDateTime timestamp) {
+            int year = timestamp.getYear();
+            if (year < 0 || year > 9999) {
+                // 4자리가 아닌 연도는 형식이 달라지므로 DateTimeFormatter 사용 (현재 시각에는 해당 없음)
+                return render(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp).getBytes(StandardCharsets.US_ASCII));
+            }
+            byte[] buffer = new byte[head.length + MAX_TIMESTAMP_LENGTH + tail.length];
+            System.arraycopy(head, 0, buffer, 0, head.length);
+            int position = writeTimestamp(buffer, head.length, timestamp);
+            System.arraycopy(tail, 0, buffer, position, tail.length);
+            position += tail.length;
+            return position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+        }
+
+        private byte[] render(byte[] timestamp) {
+            byte[] buffer = new byte[head.length + timestamp.length + tail.length];
+            System.arraycopy(head, 0, buffer, 0, head.length);
+            System.arraycopy(timestamp, 0, buffer, head.length, timestamp.length);
+            System.arraycopy(tail, 0, buffer, head.length + timestamp.length, tail.length);
+            return buffer;
+        }
+
+        /**
+         * DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 형식 (소수점 이하는 뒤쪽 0 을 제외한 자릿수만, 0 이면 생략)
+         */
+        private static int writeTimestamp(byte[] buffer, int position, LocalDateTime timestamp) {
+            position = writeDigits(buffer, position, timestamp.getYear(), 4);
+            buffer[position++] = '-';
+            position = writeDigits(buffer, position, timestamp.getMonthValue(), 2);
+            buffer[position++] = '-';
+            position = writeDigits(buffer, position, timestamp.getDayOfMonth(), 2);
+            buffer[position++] = 'T';
+            position = writeDigits(buffer, position, timestamp.getHour(), 2);
+            buffer[position++] = ':';
+            position = writeDigits(buffer, position, timestamp.getMinute(), 2);
+            buffer[position++] = ':';
+            position = writeDigits(buffer, position, timestamp.getSecond(), 2);
+
+            int nano = timestamp.getNano();
+            if (nano == 0) {
+                return position;
+            }
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[position++] = '.';
+            return writeDigits(buffer, position, nano, digits);
+        }
+
+        private static int writeDigits(byte[] buffer, int position, int value, int digits) {
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            return position + digits;
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.sessionauth.global.security;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 호스트에서 BCrypt 검증 시간이 목표 시간에 가장 가깝도록 strength(work factor)를 계산
+ * - strength 가 1 오를 때마다 연산량이 2배가 되므로, 최소 strength 에서 측정한 시간으로 나머지를 추정
+ * - 기존 해시(기본값 10)보다 약해지지 않도록 MIN_STRENGTH 이상으로 제한
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BCryptStrengthCalibrator {
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int SAMPLES = 3;
+
+    public static int calibrate(Duration targetLatency) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        String encoded = encoder.encode("calibration");
+        encoder.matches("calibration", encoded); // JIT 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches("calibration", encoded);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && best * 2 <= targetLatency.toNanos()) {
+            best *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+}
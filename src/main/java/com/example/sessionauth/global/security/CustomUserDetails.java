@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Getter;
 import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Set;
@@ -62,7 +61,7 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
                 .email(user.getEmail())
                 .password(user.getPassword())
                 .nickname(user.getNickname())
-                .authorities(Set.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .authorities(Set.of(Role.USER.toGrantedAuthority()))
                 .enabled(true)
                 .accountNonExpired(true)
                 .accountNonLocked(true)
@@ -70,6 +69,23 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
                 .build();
     }
 
+    /**
+     * 비밀번호(해시)만 바꾼 복사본
+     */
+    public CustomUserDetails withPassword(String password) {
+        return CustomUserDetails.builder()
+                .userId(userId)
+                .email(email)
+                .password(password)
+                .nickname(nickname)
+                .authorities(authorities)
+                .enabled(enabled)
+                .accountNonExpired(accountNonExpired)
+                .accountNonLocked(accountNonLocked)
+                .credentialsNonExpired(credentialsNonExpired)
+                .build();
+    }
+
     @Override
     public String getUsername() {
         return email;
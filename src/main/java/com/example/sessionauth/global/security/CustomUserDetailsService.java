@@ -3,13 +3,17 @@ package com.example.sessionauth.global.security;
 import com.example.sessionauth.domains.auth.repository.AppUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AppUserRepository appUserRepository;
 
@@ -20,4 +24,21 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다: " + email));
     }
 
+    /**
+     * 비밀번호 해시 갱신 (재해시)
+     * - 저장된 해시가 user 의 해시와 같을 때만 변경하므로, 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않음
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails userDetails = (CustomUserDetails) user;
+        int updated = appUserRepository.updatePassword(
+                userDetails.getUserId(),
+                userDetails.getPassword(),
+                newPassword,
+                LocalDateTime.now()
+        );
+        return updated > 0 ? userDetails.withPassword(newPassword) : userDetails;
+    }
+
 }
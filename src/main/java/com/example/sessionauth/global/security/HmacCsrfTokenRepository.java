@@ -0,0 +1,160 @@
+package com.example.sessionauth.global.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.security.web.csrf.DeferredCsrfToken;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 세션 ID 의 HMAC 을 CSRF 토큰으로 사용하는 저장소
+ * - 토큰을 세션/쿠키에서 읽지 않고 세션 ID 로 계산하므로 저장·UUID 생성·XOR 마스킹이 없음
+ * - 모든 노드가 같은 키를 쓰면 어느 노드에서든 같은 토큰 (세션 ID 가 바뀌는 로그인 시에만 토큰이 바뀜)
+ * - 쿠키는 요청에 없거나 값이 다를 때만 씀 (로그인 응답, 쿠키가 없는 기존 세션의 첫 요청)
+ * - 검증은 CsrfFilter 가 상수 시간 비교(MessageDigest.isEqual)로 수행
+ * - 세션이 없는 요청은 토큰이 없으므로 보호 대상 요청은 거절됨 (인증은 세션이 있어야 하므로 영향 없음)
+ * - Mac 은 스레드 안전하지 않으므로 키 초기화가 끝난 Mac 을 복제해 풀에서 빌려 씀
+ *   (가상 스레드는 요청마다 새 스레드라 ThreadLocal 로는 재사용되지 않음)
+ */
+public final class HmacCsrfTokenRepository implements CsrfTokenRepository {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PARAMETER_NAME = "_csrf";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // 동시에 토큰을 계산하는 요청 수가 이보다 많으면 남는 Mac 은 버림
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final BlockingQueue<Mac> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final String cookieName;
+    private final String headerName;
+
+    public HmacCsrfTokenRepository(byte[] secret, String cookieName, String headerName) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.prototype = initMac();
+        this.cookieName = cookieName;
+        this.headerName = headerName;
+    }
+
+    /**
+     * 요청의 세션 ID 로 계산한 토큰 (세션이 없으면 검증에 통과할 수 없는 임의 토큰)
+     */
+    @Override
+    public CsrfToken generateToken(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        String token = session != null ? token(session.getId()) : UUID.randomUUID().toString();
+        return new DefaultCsrfToken(headerName, PARAMETER_NAME, token);
+    }
+
+    /**
+     * 토큰 쿠키 쓰기 (값이 같으면 생략, null 이면 삭제)
+     */
+    @Override
+    public void saveToken(CsrfToken token, HttpServletRequest request, HttpServletResponse response) {
+        String current = cookieValue(request);
+        if (token == null) {
+            if (current != null) {
+                writeCookie(request, response, "", 0);
+            }
+            return;
+        }
+        if (request.getSession(false) == null || token.getToken().equals(current)) {
+            return;
+        }
+        writeCookie(request, response, token.getToken(), -1);
+    }
+
+    @Override
+    public CsrfToken loadToken(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null ? new DefaultCsrfToken(headerName, PARAMETER_NAME, token(session.getId())) : null;
+    }
+
+    /**
+     * 토큰은 필요할 때(검증 대상 요청)만 계산하고, 세션이 있는데 쿠키가 없으면 이번 응답에 쿠키를 씀
+     */
+    @Override
+    public DeferredCsrfToken loadDeferredToken(HttpServletRequest request, HttpServletResponse response) {
+        if (cookieValue(request) == null && request.getSession(false) != null) {
+            saveToken(loadToken(request), request, response);
+        }
+        return CsrfTokenRepository.super.loadDeferredToken(request, response);
+    }
+
+    /**
+     * base64url(HMAC-SHA256(secret, sessionId))
+     */
+    public String token(String sessionId) {
+        Mac mac = pool.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            return ENCODER.encodeToString(mac.doFinal(sessionId.getBytes(StandardCharsets.US_ASCII)));
+        } finally {
+            // doFinal 이 끝나면 Mac 은 키만 남은 초기 상태
+            pool.offer(mac);
+        }
+    }
+
+    private String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookie.getName().equals(cookieName)) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, int maxAge) {
+        String path = StringUtils.hasLength(request.getContextPath()) ? request.getContextPath() : "/";
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .path(path)
+                .maxAge(maxAge)
+                .secure(request.isSecure())
+                .httpOnly(false) // JavaScript 에서 읽어 헤더로 전송
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // 복제를 지원하지 않는 provider
+            return initMac();
+        }
+    }
+
+    private Mac initMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("CSRF 토큰 HMAC 초기화 실패", e);
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.sessionauth.global.security;
+
+import com.example.sessionauth.global.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 성공 시 오래된 비밀번호 해시(낮은 strength, 접두사 없는 BCrypt 등)를 현재 설정으로 다시 해시
+ * - 응답이 늦어지지 않도록 재해시와 저장은 비동기로 수행
+ * - 해시 스레드 풀이 가득 찼거나 저장에 실패하면 다음 로그인 때 다시 시도
+ */
+@Slf4j
+@Component
+public class PasswordUpgrader {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final AsyncTaskExecutor taskExecutor;
+
+    public PasswordUpgrader(
+            PasswordEncoder passwordEncoder,
+            UserDetailsPasswordService userDetailsPasswordService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 비밀번호 검증이 끝난 사용자의 해시가 오래되었으면 비동기로 재해시
+     *
+     * @param user        검증에 사용한 (저장된 해시를 가진) 사용자
+     * @param rawPassword 검증에 성공한 평문 비밀번호
+     */
+    public void upgradeIfNeeded(CustomUserDetails user, String rawPassword) {
+        if (user.getPassword() == null || !passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        // 비동기 작업 중 원본의 credentials 가 지워져도 저장된 해시로 비교할 수 있도록 복사
+        CustomUserDetails snapshot = user.withPassword(user.getPassword());
+        taskExecutor.execute(() -> upgrade(snapshot, rawPassword));
+    }
+
+    private void upgrade(CustomUserDetails user, String rawPassword) {
+        try {
+            userDetailsPasswordService.updatePassword(user, passwordEncoder.encode(rawPassword));
+            log.debug("비밀번호 해시를 갱신했습니다: {}", user.getUserId());
+        } catch (BusinessException e) {
+            log.debug("비밀번호 해시 갱신을 건너뜁니다 ({}): {}", e.getErrorCode().getCode(), user.getUserId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신에 실패했습니다: {}", user.getUserId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.example.sessionauth.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.SingleResultAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * URL 경로 인가 규칙을 기동 시 경로 세그먼트 trie 로 컴파일한 AuthorizationManager
+ * - requestMatchers 체인처럼 규칙을 순서대로 하나씩 비교하지 않고, 요청 경로를 한 번 훑으며 적용할 규칙을 찾음 (규칙 수와 무관하게 경로 깊이만큼)
+ * - 선언 순서상 먼저 일치하는 규칙이 적용되는 의미는 requestMatchers 와 같음
+ * - 앞선 규칙에 완전히 가려져 적용될 수 없는 규칙은 기동 시 WARN 로그로 알림
+ * - 지원 패턴: 고정 경로(/favicon.ico), 하위 경로 전체(/api/**, 자기 자신 포함), 전체(/**)
+ * - 일치하는 규칙이 없으면 거부
+ * - 경로는 MVC 핸들러 매핑과 같이 세그먼트별 ;파라미터를 떼고 퍼센트 디코딩한 값으로 비교 (/api/%61dmin, /api/admin;x=1 → /api/admin)
+ * - 규칙 경로와 대소문자만 다른 세그먼트(/api/Admin)는 거부 (MVC 매핑은 대소문자를 구분하므로 정상 요청에는 없음)
+ */
+@Slf4j
+public final class PathAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String ALL_SUFFIX = "/**";
+    private static final AuthorizationDecision DENY = new AuthorizationDecision(false);
+
+    private final Node root;
+    private final List<ShadowedRule> shadowedRules;
+
+    private PathAuthorizationManager(Node root, List<ShadowedRule> shadowedRules) {
+        this.root = root;
+        this.shadowedRules = List.copyOf(shadowedRules);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Rule rule = resolve(context.getRequest());
+        return rule != null ? rule.access().authorize(authentication, context) : DENY;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Rule rule = resolve(context.getRequest());
+        return rule != null ? rule.access().check(authentication, context) : DENY;
+    }
+
+    /**
+     * 앞선 규칙에 가려져 적용될 수 없는 규칙 목록
+     */
+    public List<ShadowedRule> getShadowedRules() {
+        return shadowedRules;
+    }
+
+    /**
+     * 요청에 적용할 규칙 (경로를 한 번 훑으며 가장 깊은 하위 경로 규칙을 기억하고, 끝에서 고정 경로 규칙이 있으면 그 규칙)
+     */
+    Rule resolve(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        int start = request.getContextPath().length();
+        if (path.indexOf('%', start) >= 0 || path.indexOf(';', start) >= 0) {
+            path = canonicalize(path, start);
+            if (path == null) {
+                return null;
+            }
+            start = 0;
+        }
+        int end = path.length();
+
+        Node node = root;
+        Rule matched = node.prefix;
+        while (start < end) {
+            if (path.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int next = path.indexOf('/', start);
+            if (next < 0) {
+                next = end;
+            }
+            Node child = node.child(path, start, next - start);
+            if (child == null) {
+                return node.childIgnoringCase(path, start, next - start) != null ? null : matched;
+            }
+            node = child;
+            if (node.prefix != null) {
+                matched = node.prefix;
+            }
+            start = next;
+        }
+        return node.exact != null ? node.exact : matched;
+    }
+
+    /**
+     * 세그먼트마다 ;파라미터를 떼고 퍼센트 디코딩한 경로 (MVC PathPattern 매핑이 비교하는 값)
+     *
+     * @return 디코딩할 수 없는 경로면 null
+     */
+    private static String canonicalize(String path, int start) {
+        StringBuilder canonical = new StringBuilder(path.length() - start);
+        while (start < path.length()) {
+            int next = path.indexOf('/', start + 1);
+            if (next < 0) {
+                next = path.length();
+            }
+            int parameters = path.indexOf(';', start);
+            String segment = path.substring(start, parameters >= 0 && parameters < next ? parameters : next);
+            try {
+                canonical.append(UriUtils.decode(segment, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            start = next;
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * 인가 규칙
+     *
+     * @param order  선언 순서
+     * @param access 적용할 인가 방식
+     * @param name   로그용 이름 (예: hasRole(ADMIN))
+     */
+    record Rule(int order, String pattern, AuthorizationManager<RequestAuthorizationContext> access, String name) {
+
+        @Override
+        public String toString() {
+            return "#" + order + " " + pattern + " → " + name;
+        }
+    }
+
+    /**
+     * 적용될 수 없는 규칙과 그 규칙을 가리는 앞선 규칙
+     */
+    public record ShadowedRule(String rule, String shadowedBy) {
+    }
+
+    /**
+     * 경로 세그먼트 하나
+     * - prefix: 이 경로와 모든 하위 경로 규칙 (/a/**)
+     * - exact: 이 경로 규칙 (/a)
+     */
+    private static final class Node {
+
+        private String[] names = new String[0];
+        private Node[] children = new Node[0];
+        private Rule prefix;
+        private Rule exact;
+
+        /**
+         * path[start, start + length) 와 이름이 같은 자식 (문자열을 잘라내지 않고 비교)
+         */
+        Node child(String path, int start, int length) {
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && path.regionMatches(start, name, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childIgnoringCase(String path, int start, int length) {
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && path.regionMatches(true, start, name, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrCreate(String name) {
+            Node child = child(name, 0, name.length());
+            if (child != null) {
+                return child;
+            }
+            child = new Node();
+            names = Arrays.copyOf(names, names.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            names[names.length - 1] = name;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String... patterns) {
+            return rule(SingleResultAuthorizationManager.permitAll(), "permitAll", patterns);
+        }
+
+        public Builder authenticated(String... patterns) {
+            return rule(AuthenticatedAuthorizationManager.authenticated(), "authenticated", patterns);
+        }
+
+        public Builder hasRole(String role, String... patterns) {
+            return rule(AuthorityAuthorizationManager.hasRole(role), "hasRole(" + role + ")", patterns);
+        }
+
+        /**
+         * 앞선 규칙에 일치하지 않은 모든 요청
+         */
+        public Builder anyRequest(AuthorizationManager<RequestAuthorizationContext> access, String name) {
+            return rule(access, name, ALL_SUFFIX);
+        }
+
+        public Builder rule(AuthorizationManager<RequestAuthorizationContext> access, String name, String... patterns) {
+            for (String pattern : patterns) {
+                rules.add(new Rule(rules.size() + 1, pattern, access, name));
+            }
+            return this;
+        }
+
+        public PathAuthorizationManager build() {
+            Node root = new Node();
+            List<ShadowedRule> shadowedRules = new ArrayList<>();
+            for (Rule rule : rules) {
+                Rule shadowedBy = insert(root, rule);
+                if (shadowedBy != null) {
+                    shadowedRules.add(new ShadowedRule(rule.toString(), shadowedBy.toString()));
+                    log.warn("인가 규칙 [{}] 은 앞선 규칙 [{}] 에 가려져 적용되지 않습니다.", rule, shadowedBy);
+                }
+            }
+            log.info("인가 규칙 {}개 컴파일 (적용되지 않는 규칙 {}개)", rules.size(), shadowedRules.size());
+            return new PathAuthorizationManager(root, shadowedRules);
+        }
+
+        /**
+         * trie 에 규칙 추가
+         *
+         * @return 앞선 규칙에 가려지면 그 규칙 (추가하지 않음)
+         */
+        private static Rule insert(Node root, Rule rule) {
+            String pattern = rule.pattern();
+            boolean all = pattern.endsWith(ALL_SUFFIX);
+            String path = all ? pattern.substring(0, pattern.length() - ALL_SUFFIX.length()) : pattern;
+            if (!pattern.startsWith("/") || path.contains("*") || path.contains("{") || path.contains("?")) {
+                throw new IllegalArgumentException("지원하지 않는 인가 경로 패턴: " + pattern);
+            }
+
+            // 경로를 덮는 하위 경로 규칙 중 가장 깊은 규칙 (더 깊은 규칙은 항상 먼저 선언된 규칙)
+            Node node = root;
+            Rule covering = root.prefix;
+            for (String segment : path.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                node = node.getOrCreate(segment);
+                if (node.prefix != null) {
+                    covering = node.prefix;
+                }
+            }
+
+            if (covering != null) {
+                return covering;
+            }
+            if (all) {
+                node.prefix = rule;
+            } else if (node.exact != null) {
+                return node.exact;
+            } else {
+                node.exact = rule;
+            }
+            return null;
+        }
+    }
+
+}
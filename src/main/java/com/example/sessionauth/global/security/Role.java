@@ -0,0 +1,34 @@
+package com.example.sessionauth.global.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 사용자 권한
+ * - 세션 코덱에서 ordinal 을 비트셋으로 사용하므로 새 권한은 반드시 맨 뒤에 추가
+ */
+@Getter
+public enum Role {
+
+    USER,
+    ADMIN;
+
+    private final String authority = "ROLE_" + name();
+
+    public GrantedAuthority toGrantedAuthority() {
+        return new SimpleGrantedAuthority(authority);
+    }
+
+    /**
+     * 권한 문자열에 해당하는 Role 조회 (없으면 null)
+     */
+    public static Role fromAuthority(String authority) {
+        for (Role role : values()) {
+            if (role.authority.equals(authority)) {
+                return role;
+            }
+        }
+        return null;
+    }
+}
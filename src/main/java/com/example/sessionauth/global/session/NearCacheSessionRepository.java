@@ -0,0 +1,249 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.events.SessionDestroyedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 세션 저장소 앞단의 로컬 near-cache
+ * - 최근 조회한 세션을 직렬화된 스냅샷으로 보관하고, 요청마다 복사본을 내어줌 (요청 간 객체 공유 없음)
+ * - 변경/삭제 시 Redis pub/sub 으로 다른 노드에 무효화 메시지를 발행하고, 세션 만료/삭제 이벤트로도 무효화
+ * - 메시지가 유실되더라도 timeToLive 이상 오래된 값은 사용하지 않음
+ */
+public class NearCacheSessionRepository<S extends Session>
+        implements FindByIndexNameSessionRepository<NearCachedSession<S>>, MessageListener, ApplicationListener<SessionDestroyedEvent> {
+
+    private static final String METRIC_PREFIX = "session.near-cache";
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+    private final RedisSerializer<Object> serializer;
+    private final StringRedisTemplate redisTemplate;
+
+    @Getter
+    private final String invalidationChannel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<String, Snapshot> cache;
+    // 최근 무효화 기록 (무효화 이전에 시작된 조회 결과가 캐시에 들어가는 것을 방지)
+    private final Cache<String, Long> invalidations;
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final Timer loadTimer;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+    private final Counter eventInvalidations;
+
+    public NearCacheSessionRepository(
+            FindByIndexNameSessionRepository<S> delegate,
+            RedisSerializer<Object> serializer,
+            StringRedisTemplate redisTemplate,
+            String invalidationChannel,
+            AppSessionProperties.NearCache properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.serializer = serializer;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .recordStats()
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_PREFIX);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .description("near-cache 적중률")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder(METRIC_PREFIX + ".load")
+                .description("캐시 미스 시 Redis 세션 조회 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.localInvalidations = invalidationCounter(meterRegistry, "local");
+        this.remoteInvalidations = invalidationCounter(meterRegistry, "remote");
+        this.eventInvalidations = invalidationCounter(meterRegistry, "event");
+    }
+
+    /* ===================== SessionRepository ===================== */
+
+    @Override
+    public NearCachedSession<S> createSession() {
+        return NearCachedSession.created(this, delegate.createSession());
+    }
+
+    @Override
+    public void save(NearCachedSession<S> session) {
+        if (!session.isDirty()) {
+            return;
+        }
+        if (!session.materialize()) {
+            // 저장소에서 이미 삭제된 세션
+            invalidate(session.getId());
+            return;
+        }
+
+        String savedId = session.getSavedId();
+        delegate.save(session.getDelegate());
+        session.markSaved();
+
+        // 변경된 세션은 다음 조회 때 저장소에서 다시 읽음
+        if (savedId != null && !savedId.equals(session.getId())) {
+            invalidateAndPublish(savedId);
+        }
+        invalidateAndPublish(session.getId());
+    }
+
+    @Override
+    public NearCachedSession<S> findById(String id) {
+        Snapshot cached = cache.getIfPresent(id);
+        if (cached != null) {
+            MapSession session = cached.toMapSession(serializer);
+            if (session.isExpired()) {
+                invalidate(id);
+                return null;
+            }
+            return NearCachedSession.cached(this, session);
+        }
+
+        long sequence = invalidationSequence.get();
+        S loaded = loadDelegate(id);
+        if (loaded == null) {
+            return null;
+        }
+
+        Long invalidatedAt = invalidations.getIfPresent(id);
+        if (invalidatedAt == null || invalidatedAt <= sequence) {
+            cache.put(id, Snapshot.of(loaded, serializer));
+        }
+        return NearCachedSession.loaded(this, loaded);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        invalidateAndPublish(id);
+    }
+
+    /**
+     * 사용자별 세션 조회 (로그인 시 동시 세션 제어에서만 사용하므로 캐시하지 않음)
+     */
+    @Override
+    public Map<String, NearCachedSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, S> sessions = delegate.findByIndexNameAndIndexValue(indexName, indexValue);
+        Map<String, NearCachedSession<S>> result = new LinkedHashMap<>(sessions.size());
+        sessions.forEach((id, session) -> result.put(id, NearCachedSession.loaded(this, session)));
+        return result;
+    }
+
+    S loadDelegate(String id) {
+        return loadTimer.record(() -> delegate.findById(id));
+    }
+
+    /* ===================== 무효화 ===================== */
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 ("{nodeId}:{sessionId}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.startsWith(nodeId + ":")) {
+            return;
+        }
+        invalidate(body.substring(separator + 1));
+        remoteInvalidations.increment();
+    }
+
+    /**
+     * 세션 만료/삭제 이벤트 (Redis keyspace 알림 기반, 모든 노드에서 수신)
+     */
+    @Override
+    public void onApplicationEvent(SessionDestroyedEvent event) {
+        invalidate(event.getSessionId());
+        eventInvalidations.increment();
+    }
+
+    private void invalidateAndPublish(String id) {
+        invalidate(id);
+        localInvalidations.increment();
+        redisTemplate.convertAndSend(invalidationChannel, nodeId + ":" + id);
+    }
+
+    private void invalidate(String id) {
+        invalidations.put(id, invalidationSequence.incrementAndGet());
+        cache.invalidate(id);
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder(METRIC_PREFIX + ".invalidations")
+                .description("near-cache 무효화 횟수")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 보관하는 세션 스냅샷 (속성은 직렬화된 바이트로 보관해 요청마다 새 객체로 복원)
+     */
+    private record Snapshot(
+            String id,
+            Instant creationTime,
+            Instant lastAccessedTime,
+            Duration maxInactiveInterval,
+            Map<String, byte[]> attributes
+    ) {
+
+        static Snapshot of(Session session, RedisSerializer<Object> serializer) {
+            Map<String, byte[]> attributes = new HashMap<>();
+            for (String name : session.getAttributeNames()) {
+                attributes.put(name, serializer.serialize(session.getAttribute(name)));
+            }
+            return new Snapshot(
+                    session.getId(),
+                    session.getCreationTime(),
+                    session.getLastAccessedTime(),
+                    session.getMaxInactiveInterval(),
+                    attributes
+            );
+        }
+
+        MapSession toMapSession(RedisSerializer<Object> serializer) {
+            MapSession session = new MapSession(id);
+            session.setCreationTime(creationTime);
+            session.setLastAccessedTime(lastAccessedTime);
+            session.setMaxInactiveInterval(maxInactiveInterval);
+            attributes.forEach((name, bytes) -> session.setAttribute(name, serializer.deserialize(bytes)));
+            return session;
+        }
+    }
+
+}
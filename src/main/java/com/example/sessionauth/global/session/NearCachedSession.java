@@ -0,0 +1,191 @@
+package com.example.sessionauth.global.session;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@link NearCacheSessionRepository} 가 요청마다 내어주는 세션
+ * - 캐시 적중 시: 캐시 스냅샷의 복사본(MapSession)으로 동작하고, 변경 내역만 기록
+ * - 캐시 미스/신규 세션이거나 쓰기가 필요해지면: 실제 저장소 세션(delegate)을 로드해 변경 내역을 재생한 뒤 위임
+ */
+public final class NearCachedSession<S extends Session> implements PreparableSession {
+
+    private final NearCacheSessionRepository<S> repository;
+
+    // 캐시 스냅샷 복사본 (delegate 가 없을 때만 사용)
+    private MapSession snapshot;
+    private S delegate;
+
+    // 마지막 저장 이후 변경 내역
+    private String savedId;
+    private boolean isNew;
+    private final Set<String> changedAttributes = new HashSet<>();
+    private boolean lastAccessedTimeChanged;
+    private boolean maxInactiveIntervalChanged;
+
+    private NearCachedSession(NearCacheSessionRepository<S> repository, MapSession snapshot, S delegate, boolean isNew) {
+        this.repository = repository;
+        this.snapshot = snapshot;
+        this.delegate = delegate;
+        this.isNew = isNew;
+        this.savedId = isNew ? null : current().getId();
+    }
+
+    static <S extends Session> NearCachedSession<S> cached(NearCacheSessionRepository<S> repository, MapSession snapshot) {
+        return new NearCachedSession<>(repository, snapshot, null, false);
+    }
+
+    static <S extends Session> NearCachedSession<S> loaded(NearCacheSessionRepository<S> repository, S delegate) {
+        return new NearCachedSession<>(repository, null, delegate, false);
+    }
+
+    static <S extends Session> NearCachedSession<S> created(NearCacheSessionRepository<S> repository, S delegate) {
+        return new NearCachedSession<>(repository, null, delegate, true);
+    }
+
+    /* ===================== Session ===================== */
+
+    @Override
+    public String getId() {
+        return current().getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+        // 새 ID 는 저장소 규칙으로 발급되어야 하므로 실제 세션을 먼저 로드
+        materialize();
+        return delegate.changeSessionId();
+    }
+
+    @Override
+    public <T> T getAttribute(String attributeName) {
+        return current().getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return current().getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        current().setAttribute(attributeName, attributeValue);
+        changedAttributes.add(attributeName);
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        current().removeAttribute(attributeName);
+        changedAttributes.add(attributeName);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return current().getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        current().setLastAccessedTime(lastAccessedTime);
+        lastAccessedTimeChanged = true;
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return current().getLastAccessedTime();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        current().setMaxInactiveInterval(interval);
+        maxInactiveIntervalChanged = true;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return current().getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return current().isExpired();
+    }
+
+    @Override
+    public boolean prepareForSave() {
+        return !isDirty() || materialize();
+    }
+
+    /* ===================== 저장소 전용 ===================== */
+
+    /**
+     * 마지막 저장 이후 저장소에 반영할 변경이 있는지 여부
+     */
+    boolean isDirty() {
+        return isNew
+                || !changedAttributes.isEmpty()
+                || lastAccessedTimeChanged
+                || maxInactiveIntervalChanged
+                || (delegate != null && !delegate.getId().equals(savedId));
+    }
+
+    /**
+     * 실제 저장소 세션을 로드하고 지금까지의 변경 내역을 재생
+     *
+     * @return 저장소에 세션이 없으면(다른 노드에서 삭제 등) false
+     */
+    boolean materialize() {
+        if (delegate != null) {
+            return true;
+        }
+
+        S loaded = repository.loadDelegate(snapshot.getId());
+        if (loaded == null) {
+            return false;
+        }
+
+        for (String name : changedAttributes) {
+            Object value = snapshot.getAttribute(name);
+            if (value == null) {
+                loaded.removeAttribute(name);
+            } else {
+                loaded.setAttribute(name, value);
+            }
+        }
+        if (lastAccessedTimeChanged) loaded.setLastAccessedTime(snapshot.getLastAccessedTime());
+        if (maxInactiveIntervalChanged) loaded.setMaxInactiveInterval(snapshot.getMaxInactiveInterval());
+
+        delegate = loaded;
+        snapshot = null;
+        return true;
+    }
+
+    S getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 마지막으로 저장된 세션 ID (신규 세션이면 null)
+     */
+    String getSavedId() {
+        return savedId;
+    }
+
+    void markSaved() {
+        savedId = current().getId();
+        isNew = false;
+        changedAttributes.clear();
+        lastAccessedTimeChanged = false;
+        maxInactiveIntervalChanged = false;
+    }
+
+    private Session current() {
+        return delegate != null ? delegate : snapshot;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.sessionauth.global.session;
+
+import org.springframework.session.Session;
+
+/**
+ * 저장 전에 저장소 조회가 필요할 수 있는 세션
+ * - 파이프라인 안에서는 조회 결과를 받을 수 없으므로, 파이프라인을 열기 전에 {@link #prepareForSave()} 로 미리 준비
+ */
+public interface PreparableSession extends Session {
+
+    /**
+     * 저장에 필요한 상태를 준비
+     *
+     * @return 저장소에서 세션이 사라져 저장할 수 없으면 false
+     */
+    boolean prepareForSave();
+
+}
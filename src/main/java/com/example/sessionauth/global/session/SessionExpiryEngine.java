@@ -0,0 +1,441 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.config.SchedulingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.PrincipalNameIndexResolver;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import org.springframework.session.data.redis.RedisSessionExpirationStore;
+import org.springframework.session.data.redis.RedisSessionMapper;
+import org.springframework.session.events.SessionExpiredEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 버킷(time wheel) 단위로 나눠 처리하는 세션 만료 엔진
+ * - Spring Session 기본 방식(분 단위 만료 SET, 매분 0초 정리 작업, 모든 노드가 keyspace expired 알림마다 세션을 읽고 이벤트 발행)을 대체
+ * - 만료 인덱스: 세션 ID 해시로 나눈 shard 마다 ZSET (score: 만료 시각), 세션 저장/삭제 시 RedisSessionExpirationStore 로 갱신
+ * - 버킷: (shard, bucketWidth 구간). 구간이 끝나면 노드마다 다른 shard 부터 SET NX PX 로 lease 를 잡고, 잡은 노드만 그 버킷을 처리
+ * - 처리: 만료된 세션을 batchSize 개씩 원자적으로 처리 중 ZSET 으로 옮기고(Lua, score: lease 종료 시각) 한 파이프라인으로 읽고,
+ *   principal 인덱스를 한 파이프라인으로 정리한 뒤 SessionExpiredEvent 를 연달아 발행하고 나서 처리 중 ZSET 에서 제거(ack)
+ * - 처리에 실패한 배치(Redis 오류, 이벤트 리스너 예외)는 만료 인덱스로 되돌려 다음 버킷에서 다시 처리
+ * - 노드가 중단되어 ack 하지 못한 세션은 lease 종료 시각이 지나면 다음에 lease 를 잡은 노드가 만료 인덱스로 되돌려 처리
+ * - 이벤트는 최소 한 번 발행 (발행 도중 실패하거나 leaseTime 을 넘겨 처리하면 같은 세션의 이벤트가 다시 발행될 수 있음)
+ * - 세션마다 이벤트는 꺼낸 노드에서만 발행되므로 expired keyspace 알림은 끔 (삭제 알림은 그대로 사용)
+ * - 버킷 처리는 최대 leaseTime 동안 스케줄러 스레드를 점유하므로 전용 스케줄러에서 실행
+ * <pre>
+ * session.expiry.lag                  : 만료 시각부터 이벤트 발행까지 걸린 시간
+ * session.expiry.batch                : 배치 하나(읽기 + 인덱스 정리 + 이벤트 발행) 처리 시간
+ * session.expiry.sessions{result}     : expired, renewed(꺼낸 뒤 갱신된 세션, 다시 등록), missing(이미 삭제된 세션)
+ * session.expiry.buckets{result}      : claimed, skipped(다른 노드가 lease 보유)
+ * </pre>
+ */
+@Slf4j
+public class SessionExpiryEngine implements RedisSessionExpirationStore {
+
+    private static final String METRIC_PREFIX = "session.expiry";
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final String SHARD_KEY_INFIX = ":expirations:shard:";
+
+    /*
+     * KEYS[1]: 만료 인덱스, KEYS[2]: 처리 중 ZSET
+     * ARGV[1]: 꺼낼 최대 만료 시각, ARGV[2]: 최대 개수, ARGV[3]: 현재 시각, ARGV[4]: lease 종료 시각
+     * 1. lease 종료 시각이 지난 처리 중 항목(중단된 노드가 꺼낸 세션)을 만료 인덱스로 되돌림 (그 사이 갱신되어 다시 등록된 세션은 그대로 둠)
+     * 2. score 가 ARGV[1] 이하인 항목을 최대 ARGV[2] 개 처리 중 ZSET 으로 옮김 (여러 노드가 동시에 꺼내도 항목마다 한 노드만 받음)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE = new DefaultRedisScript<>("""
+            local orphaned = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+            for i = 1, #orphaned do
+                redis.call('ZADD', KEYS[1], 'NX', ARGV[1], orphaned[i])
+                redis.call('ZREM', KEYS[2], orphaned[i])
+            end
+            local entries = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2])
+            for i = 1, #entries, 2 do
+                redis.call('ZREM', KEYS[1], entries[i])
+                redis.call('ZADD', KEYS[2], ARGV[4], entries[i])
+            end
+            return entries
+            """, List.class);
+
+    // 처리 중 ZSET(KEYS[2]) 에 남은 ARGV[2..] 를 만료 인덱스(KEYS[1])로 되돌림 (score: ARGV[1], 그 사이 다시 등록된 세션은 그대로 둠)
+    private static final RedisScript<Long> REQUEUE = new DefaultRedisScript<>("""
+            local requeued = 0
+            for i = 2, #ARGV do
+                if redis.call('ZREM', KEYS[2], ARGV[i]) == 1 then
+                    redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[i])
+                    requeued = requeued + 1
+                end
+            end
+            return requeued
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisSerializer<Object> sessionSerializer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrincipalNameIndexResolver<Session> principalNameResolver = new PrincipalNameIndexResolver<>();
+    private final RedisSessionMapper sessionMapper = new RedisSessionMapper();
+
+    private final String shardKeyPrefix;
+    private final String inFlightKeyPrefix;
+    private final String leaseKeyPrefix;
+    private final String sessionKeyPrefix;
+    private final String principalIndexKeyPrefix;
+
+    private final int shards;
+    private final long bucketWidthMillis;
+    private final int batchSize;
+    private final Duration leaseTime;
+    private final String nodeId = UUID.randomUUID().toString();
+    // 노드마다 다른 shard 부터 lease 를 잡아 여러 노드가 같은 구간의 shard 를 나눠 처리
+    private final int shardOffset;
+    // 마지막으로 처리를 시도한 버킷 (스케줄러 스레드에서만 사용)
+    private long lastBucket = Long.MIN_VALUE;
+
+    private final Timer lagTimer;
+    private final Timer batchTimer;
+    private final Counter expiredSessions;
+    private final Counter renewedSessions;
+    private final Counter missingSessions;
+    private final Counter claimedBuckets;
+    private final Counter skippedBuckets;
+
+    public SessionExpiryEngine(
+            StringRedisTemplate redisTemplate,
+            RedisSerializer<Object> sessionSerializer,
+            String redisNamespace,
+            ApplicationEventPublisher eventPublisher,
+            AppSessionProperties.Expiry properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.sessionSerializer = sessionSerializer;
+        this.eventPublisher = eventPublisher;
+
+        this.shardKeyPrefix = redisNamespace + SHARD_KEY_INFIX;
+        this.inFlightKeyPrefix = redisNamespace + ":expirations:in-flight:";
+        this.leaseKeyPrefix = redisNamespace + ":expirations:lease:";
+        this.sessionKeyPrefix = redisNamespace + ":sessions:";
+        this.principalIndexKeyPrefix = redisNamespace + ":index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":";
+
+        this.shards = properties.shards();
+        this.bucketWidthMillis = properties.bucketWidth().toMillis();
+        this.batchSize = properties.batchSize();
+        this.leaseTime = properties.leaseTime();
+        this.shardOffset = ThreadLocalRandom.current().nextInt(shards);
+
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("세션 만료 시각부터 만료 이벤트 발행까지 걸린 시간")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch")
+                .description("만료 세션 배치 하나의 처리 시간")
+                .register(meterRegistry);
+        this.expiredSessions = sessionCounter(meterRegistry, "expired");
+        this.renewedSessions = sessionCounter(meterRegistry, "renewed");
+        this.missingSessions = sessionCounter(meterRegistry, "missing");
+        this.claimedBuckets = bucketCounter(meterRegistry, "claimed");
+        this.skippedBuckets = bucketCounter(meterRegistry, "skipped");
+    }
+
+    /* ===================== RedisSessionExpirationStore ===================== */
+
+    /**
+     * 세션 저장 시 만료 인덱스 갱신 (write-back 파이프라인 안에서 호출되면 같은 파이프라인으로 전송)
+     */
+    @Override
+    public void save(RedisSession session) {
+        Duration maxInactiveInterval = session.getMaxInactiveInterval();
+        if (maxInactiveInterval.isNegative()) {
+            remove(session.getId());
+            return;
+        }
+        long expiresAt = session.getLastAccessedTime().plus(maxInactiveInterval).toEpochMilli();
+        byte[] key = bytes(shardKey(session.getId()));
+        byte[] member = bytes(session.getId());
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zAdd(key, expiresAt, member));
+    }
+
+    /**
+     * 세션 삭제 시 만료 인덱스에서 제외 (deleteById, 모든 노드의 삭제 알림 처리)
+     */
+    @Override
+    public void remove(String sessionId) {
+        byte[] key = bytes(shardKey(sessionId));
+        byte[] member = bytes(sessionId);
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zRem(key, member));
+    }
+
+    /**
+     * Spring Session 의 정리 작업 (cleanupCron 을 꺼 두므로 호출되지 않지만, 호출되면 지금까지 끝난 버킷을 처리)
+     */
+    @Override
+    public void cleanupExpiredSessions() {
+        processDueBuckets();
+    }
+
+    /* ===================== 버킷 처리 ===================== */
+
+    @Scheduled(scheduler = SchedulingConfig.SESSION_EXPIRY_SCHEDULER, fixedDelayString = "${app.session.expiry.tick-interval:1s}")
+    public void processDueBuckets() {
+        processDueBuckets(System.currentTimeMillis());
+    }
+
+    /**
+     * 마지막으로 끝난 버킷을 shard 별로 lease 를 잡아 처리
+     * - 이전 버킷에 남은 세션(leaseTime 초과, 실패 후 되돌린 세션)도 score 범위에 포함되므로 함께 처리됨
+     */
+    void processDueBuckets(long now) {
+        long bucket = Math.floorDiv(now, bucketWidthMillis) - 1;
+        if (bucket <= lastBucket) {
+            return;
+        }
+        lastBucket = bucket;
+        long maxExpiresAt = (bucket + 1) * bucketWidthMillis - 1;
+        long deadline = now + leaseTime.toMillis();
+
+        for (int i = 0; i < shards; i++) {
+            int shard = (shardOffset + i) % shards;
+            try {
+                if (!claim(shard, bucket)) {
+                    skippedBuckets.increment();
+                    continue;
+                }
+                claimedBuckets.increment();
+                drain(shard, maxExpiresAt, now, deadline);
+            } catch (RuntimeException e) {
+                // 실패한 배치는 만료 인덱스로 되돌렸고(되돌리지 못했으면 lease 종료 후 다른 노드가 되돌림), 남은 세션과 함께 다음 버킷에서 처리
+                log.warn("세션 만료 버킷 처리에 실패했습니다. (shard={}, bucket={}): {}", shard, bucket, e.getMessage());
+            }
+        }
+    }
+
+    private boolean claim(int shard, long bucket) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(leaseKeyPrefix + shard + ":" + bucket, nodeId, leaseTime));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain(int shard, long maxExpiresAt, long now, long deadline) {
+        List<String> keys = List.of(shardKeyPrefix + shard, inFlightKeyPrefix + shard);
+        String maxScore = Long.toString(maxExpiresAt);
+        String limit = Integer.toString(batchSize);
+        String nowScore = Long.toString(now);
+        String deadlineScore = Long.toString(deadline);
+        while (true) {
+            List<String> entries = redisTemplate.execute(CLAIM_DUE, keys, maxScore, limit, nowScore, deadlineScore);
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+            List<String> ids = new ArrayList<>(entries.size() / 2);
+            for (int i = 0; i < entries.size(); i += 2) {
+                ids.add(entries.get(i));
+            }
+            try {
+                batchTimer.record(() -> expire(ids, now));
+            } catch (RuntimeException e) {
+                requeue(keys, maxScore, ids, e);
+                throw e;
+            }
+            acknowledge(keys.get(1), ids);
+            if (entries.size() < batchSize * 2 || System.currentTimeMillis() > deadline) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 발행까지 끝난 배치를 처리 중 ZSET 에서 제거
+     */
+    private void acknowledge(String inFlightKey, List<String> ids) {
+        byte[] key = bytes(inFlightKey);
+        byte[][] members = ids.stream().map(SessionExpiryEngine::bytes).toArray(byte[][]::new);
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zRem(key, members));
+    }
+
+    /**
+     * 처리에 실패한 배치를 만료 인덱스로 되돌림 (되돌리지 못하면 처리 중 ZSET 에 남아 lease 종료 후 되돌려짐)
+     */
+    private void requeue(List<String> keys, String maxScore, List<String> ids, RuntimeException cause) {
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = maxScore;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        try {
+            redisTemplate.execute(REQUEUE, keys, args);
+        } catch (DataAccessException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 꺼낸 세션 배치 처리
+     *
+     * @param ids 꺼낸 세션 ID
+     * @param now 만료 여부 판단 기준 시각
+     */
+    private void expire(List<String> ids, long now) {
+        int size = ids.size();
+
+        List<Object> hashes = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            for (String id : ids) {
+                connection.hashCommands().hGetAll(bytes(sessionKeyPrefix + id));
+            }
+            return connection.closePipeline();
+        });
+
+        List<ExpiredSession> expired = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MapSession session = toSession(ids.get(i), hashes.get(i));
+            // 삭제된 세션(maxInactiveInterval=0)은 삭제 알림으로 처리됨
+            if (session == null || session.getMaxInactiveInterval().isZero()) {
+                missingSessions.increment();
+                continue;
+            }
+            if (session.getMaxInactiveInterval().isNegative()) {
+                renewedSessions.increment();
+                continue;
+            }
+            long expiresAt = session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli();
+            if (expiresAt > now) {
+                // 꺼낸 뒤 다른 요청이 갱신한 세션은 새 만료 시각으로 다시 등록
+                byte[] key = bytes(shardKey(session.getId()));
+                byte[] member = bytes(session.getId());
+                redisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zAdd(key, expiresAt, member));
+                renewedSessions.increment();
+                continue;
+            }
+            expired.add(new ExpiredSession(session, expiresAt));
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        cleanupPrincipalIndex(expired);
+        for (ExpiredSession expiredSession : expired) {
+            eventPublisher.publishEvent(new SessionExpiredEvent(this, expiredSession.session()));
+            lagTimer.record(Math.max(0, System.currentTimeMillis() - expiredSession.expiresAt()), TimeUnit.MILLISECONDS);
+        }
+        expiredSessions.increment(expired.size());
+    }
+
+    private void cleanupPrincipalIndex(List<ExpiredSession> sessions) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.openPipeline();
+            for (ExpiredSession expiredSession : sessions) {
+                MapSession session = expiredSession.session();
+                String principal = principalNameResolver.resolveIndexValueFor(session);
+                if (principal != null) {
+                    connection.setCommands().sRem(bytes(principalIndexKeyPrefix + principal), sessionSerializer.serialize(session.getId()));
+                }
+            }
+            return connection.closePipeline();
+        });
+    }
+
+    /**
+     * 세션 해시를 MapSession 으로 복원 (해시가 없거나 필수 필드가 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private MapSession toSession(String id, Object hash) {
+        if (!(hash instanceof Map<?, ?> raw) || raw.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> values = new HashMap<>(raw.size());
+        ((Map<byte[], byte[]>) raw).forEach((name, value) ->
+                values.put(new String(name, StandardCharsets.UTF_8), sessionSerializer.deserialize(value)));
+        try {
+            return sessionMapper.apply(id, values);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private String shardKey(String sessionId) {
+        return shardKeyPrefix + shard(sessionId, shards);
+    }
+
+    /**
+     * 세션이 속한 만료 인덱스(shard ZSET) 키 (이 엔진을 거치지 않고 세션을 저장하는 reactive 애플리케이션도 같은 인덱스를 갱신)
+     */
+    public static String shardKey(String redisNamespace, int shards, String sessionId) {
+        return redisNamespace + SHARD_KEY_INFIX + shard(sessionId, shards);
+    }
+
+    private static int shard(String sessionId, int shards) {
+        return Math.floorMod(sessionId.hashCode(), shards);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record ExpiredSession(MapSession session, long expiresAt) {
+    }
+
+    /* ===================== keyspace 알림 ===================== */
+
+    /**
+     * keyspace 알림 설정 (ConfigureRedisAction)
+     * - 삭제 알림(g)은 유지하고 만료 알림(x)만 끔: 만료는 이 엔진이 처리하므로 모든 노드가 같은 만료를 다시 처리하지 않도록 함
+     * - notify-keyspace-events 는 Redis 서버 전역 설정이므로 엔진을 켠 경우(app.session.expiry.enabled=true)에만 적용하고,
+     *   같은 Redis 를 쓰는 모든 노드와 다른 애플리케이션이 만료 알림(x)을 쓰지 않아야 함
+     */
+    public static void configureKeyspaceNotifications(RedisConnection connection) {
+        Properties config = connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS);
+        String current = config == null || config.isEmpty()
+                ? ""
+                : config.getProperty(config.stringPropertyNames().iterator().next(), "");
+
+        // A = g$lshzxet (+ 버전에 따라 d, n 등), x 만 빼고 풀어서 씀
+        String options = current.replace("A", "g$lshzet").replace("x", "");
+        if (!options.contains("E")) {
+            options += "E";
+        }
+        if (!options.contains("g")) {
+            options += "g";
+        }
+        if (!options.equals(current)) {
+            connection.serverCommands().setConfig(NOTIFY_KEYSPACE_EVENTS, options);
+        }
+    }
+
+    private static Counter sessionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".sessions")
+                .description("만료 처리한 세션 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter bucketCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".buckets")
+                .description("처리를 시도한 만료 버킷 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.sessionauth.global.session;
+
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link WriteBackSessionRepository} 가 요청마다 내어주는 세션
+ * - 변경은 즉시 delegate 에 위임하되, 실제로 바뀐 것이 있는지(dirty)와 lastAccessedTime 갱신 여부를 따로 기록
+ * - 저장 여부는 요청 종료 시 저장소가 이 기록을 보고 결정
+ */
+public final class WriteBackSession<S extends Session> implements Session {
+
+    private final S delegate;
+
+    private boolean isNew;
+    private String savedId;
+    private Instant savedLastAccessedTime;
+    private boolean dirty;
+    private boolean touched;
+
+    WriteBackSession(S delegate, boolean isNew) {
+        this.delegate = delegate;
+        this.isNew = isNew;
+        this.savedId = isNew ? null : delegate.getId();
+        this.savedLastAccessedTime = delegate.getLastAccessedTime();
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+        dirty = true;
+        return delegate.changeSessionId();
+    }
+
+    @Override
+    public <T> T getAttribute(String attributeName) {
+        return delegate.getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return delegate.getAttributeNames();
+    }
+
+    /**
+     * 기존 값과 다른 객체이면서 equals 로 같은 값이면 변경으로 보지 않음
+     * - 같은 객체를 다시 넣는 경우는 내부 상태를 바꾼 뒤 반영하려는 서블릿 관례이므로 변경으로 취급
+     */
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        if (attributeValue == null) {
+            removeAttribute(attributeName);
+            return;
+        }
+
+        Object previous = delegate.getAttribute(attributeName);
+        if (previous != attributeValue && Objects.equals(previous, attributeValue)) {
+            return;
+        }
+        delegate.setAttribute(attributeName, attributeValue);
+        dirty = true;
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        if (delegate.getAttribute(attributeName) == null) {
+            return;
+        }
+        delegate.removeAttribute(attributeName);
+        dirty = true;
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return delegate.getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        delegate.setLastAccessedTime(lastAccessedTime);
+        touched = true;
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return delegate.getLastAccessedTime();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        if (Objects.equals(delegate.getMaxInactiveInterval(), interval)) {
+            return;
+        }
+        delegate.setMaxInactiveInterval(interval);
+        dirty = true;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return delegate.getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return delegate.isExpired();
+    }
+
+    /* ===================== 저장소 전용 ===================== */
+
+    S getDelegate() {
+        return delegate;
+    }
+
+    boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * lastAccessedTime 외의 변경(속성, 만료 시간, ID)이 있는지 여부
+     */
+    boolean isDirty() {
+        return dirty;
+    }
+
+    boolean isTouched() {
+        return touched;
+    }
+
+    /**
+     * 마지막 저장 이후 세션 ID 가 바뀌었는지 여부 (신규 세션은 제외)
+     */
+    boolean isIdChanged() {
+        return savedId != null && !savedId.equals(delegate.getId());
+    }
+
+    /**
+     * 마지막으로 저장된 세션 ID (신규 세션이면 null)
+     */
+    String getSavedId() {
+        return savedId;
+    }
+
+    /**
+     * 저장소에 마지막으로 반영된 lastAccessedTime 부터 지금까지 흐른 시간
+     */
+    Duration getUnsavedIdleTime() {
+        return Duration.between(savedLastAccessedTime, delegate.getLastAccessedTime());
+    }
+
+    void markSaved() {
+        isNew = false;
+        savedId = delegate.getId();
+        savedLastAccessedTime = delegate.getLastAccessedTime();
+        dirty = false;
+        touched = false;
+    }
+
+}
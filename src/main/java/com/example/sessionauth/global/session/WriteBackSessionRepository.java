@@ -0,0 +1,185 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 단위 세션 write-back 저장소
+ * - 요청 중의 세션 변경은 메모리에만 반영하고, 요청 종료 시(SessionRepositoryFilter 커밋) 한 번만 저장
+ * - 실제로 바뀐 값이 없고 lastAccessedTime 만 touchGranularity 이내로 움직였다면 저장하지 않음
+ *   (세션 해시, expires 키, principal 인덱스의 만료 시간 재설정도 함께 생략되므로 Redis 의 만료 시각은 최대 touchGranularity 만큼 이르게 잡힘)
+ * - 세션 만료 시간이 touchGranularity 이하인 세션은 매 요청 저장 (생략하면 사용 중에 만료될 수 있음)
+ * - 저장할 때는 delegate 가 보내는 Redis 명령(HMSET, EXPIRE, 인덱스 갱신 등)을 하나의 파이프라인으로 전송
+ * <pre>
+ * session.read                       : 세션 조회 시간 (near-cache 사용 시 캐시 적중 포함)
+ * session.write-back.flush           : 세션 저장 시간
+ * session.write-back.saves{result}   : written, skipped-clean, skipped-touch
+ * session.active                     : 이 노드가 처리한 세션 중 만료되지 않은 세션 수
+ * </pre>
+ */
+public class WriteBackSessionRepository<S extends Session> implements FindByIndexNameSessionRepository<WriteBackSession<S>> {
+
+    private static final String METRIC_PREFIX = "session.write-back";
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+    private final RedisOperations<?, ?> redisOperations;
+    private final Duration touchGranularity;
+    private final boolean pipeline;
+
+    private final Counter writtenSaves;
+    private final Counter skippedCleanSaves;
+    private final Counter skippedTouchSaves;
+    private final Timer flushTimer;
+    private final Timer readTimer;
+
+    // 이 노드가 처리한 세션 ID → 만료 시각 (epoch ms), 조회 시 만료된 항목 정리
+    private final Map<String, Long> activeSessions = new ConcurrentHashMap<>();
+
+    public WriteBackSessionRepository(
+            FindByIndexNameSessionRepository<S> delegate,
+            RedisOperations<?, ?> redisOperations,
+            AppSessionProperties.WriteBack properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.redisOperations = redisOperations;
+        this.touchGranularity = properties.touchGranularity();
+        this.pipeline = properties.pipeline();
+
+        this.writtenSaves = saveCounter(meterRegistry, "written");
+        this.skippedCleanSaves = saveCounter(meterRegistry, "skipped-clean");
+        this.skippedTouchSaves = saveCounter(meterRegistry, "skipped-touch");
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("요청 종료 시 세션 저장(파이프라인 전송) 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.readTimer = Timer.builder("session.read")
+                .description("요청 시작 시 세션 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("session.active", activeSessions, WriteBackSessionRepository::countActive)
+                .description("이 노드가 처리한 세션 중 만료되지 않은 세션 수")
+                .register(meterRegistry);
+    }
+
+    /* ===================== SessionRepository ===================== */
+
+    @Override
+    public WriteBackSession<S> createSession() {
+        return new WriteBackSession<>(delegate.createSession(), true);
+    }
+
+    @Override
+    public void save(WriteBackSession<S> session) {
+        trackActive(session);
+        if (!session.isNew() && !session.isDirty()) {
+            if (!session.isTouched()) {
+                skippedCleanSaves.increment();
+                return;
+            }
+            if (isWithinTouchGranularity(session)) {
+                skippedTouchSaves.increment();
+                return;
+            }
+        }
+
+        S target = session.getDelegate();
+        if (target instanceof PreparableSession preparable && !preparable.prepareForSave()) {
+            // 저장소에서 이미 삭제된 세션
+            skippedCleanSaves.increment();
+            return;
+        }
+
+        flushTimer.record(() -> flush(session));
+        session.markSaved();
+        writtenSaves.increment();
+    }
+
+    @Override
+    public WriteBackSession<S> findById(String id) {
+        S session = readTimer.record(() -> delegate.findById(id));
+        return session != null ? new WriteBackSession<>(session, false) : null;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        activeSessions.remove(id);
+    }
+
+    @Override
+    public Map<String, WriteBackSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, S> sessions = delegate.findByIndexNameAndIndexValue(indexName, indexValue);
+        Map<String, WriteBackSession<S>> result = new LinkedHashMap<>(sessions.size());
+        sessions.forEach((id, session) -> result.put(id, new WriteBackSession<>(session, false)));
+        return result;
+    }
+
+    /**
+     * lastAccessedTime 만 바뀐 저장을 생략할 수 있는지 여부
+     */
+    private boolean isWithinTouchGranularity(WriteBackSession<S> session) {
+        Duration maxInactiveInterval = session.getMaxInactiveInterval();
+        if (!maxInactiveInterval.isNegative() && maxInactiveInterval.compareTo(touchGranularity) <= 0) {
+            return false;
+        }
+        return session.getUnsavedIdleTime().compareTo(touchGranularity) < 0;
+    }
+
+    /**
+     * delegate 의 저장 명령을 파이프라인으로 전송
+     * - 파이프라인 동안 현재 스레드에 커넥션이 바인딩되므로 delegate 의 RedisTemplate 호출도 같은 파이프라인에 포함됨
+     * - 기존 세션의 ID 가 바뀐 경우는 RENAME 실패(다른 노드에서 삭제 등)를 delegate 가 즉시 처리해야 하므로 파이프라인을 사용하지 않음
+     */
+    private void flush(WriteBackSession<S> session) {
+        if (!pipeline || session.isIdChanged()) {
+            delegate.save(session.getDelegate());
+            return;
+        }
+
+        redisOperations.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                delegate.save(session.getDelegate());
+                return null;
+            }
+        });
+    }
+
+    private void trackActive(WriteBackSession<S> session) {
+        if (session.isIdChanged()) {
+            activeSessions.remove(session.getSavedId());
+        }
+        Duration maxInactiveInterval = session.getMaxInactiveInterval();
+        long expiresAt = maxInactiveInterval.isNegative()
+                ? Long.MAX_VALUE
+                : session.getLastAccessedTime().plus(maxInactiveInterval).toEpochMilli();
+        activeSessions.put(session.getId(), expiresAt);
+    }
+
+    private static double countActive(Map<String, Long> activeSessions) {
+        long now = System.currentTimeMillis();
+        activeSessions.values().removeIf(expiresAt -> expiresAt <= now);
+        return activeSessions.size();
+    }
+
+    private static Counter saveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".saves")
+                .description("요청 종료 시 세션 저장 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.sessionauth.global.session.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Spring Session 의 Redis 해시 값 직렬화기
+ * - 등록된 {@link SessionAttributeCodec} 이 지원하는 값은 [태그 1바이트 + 코덱 바이너리] 로 저장
+ * - 지원하지 않는 값은 fallback(JDK 직렬화)에 위임
+ * - JDK 직렬화 스트림은 항상 0xAC 로 시작하므로, 기존에 저장된 세션도 그대로 읽을 수 있음
+ */
+public class CompactSessionRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final SessionAttributeCodec<Object>[] codecs;
+    private final SessionAttributeCodec<Object>[] codecsByTag;
+    private final RedisSerializer<Object> fallback;
+
+    @SuppressWarnings("unchecked")
+    public CompactSessionRedisSerializer(List<? extends SessionAttributeCodec<?>> codecs, RedisSerializer<Object> fallback) {
+        this.codecs = codecs.toArray(new SessionAttributeCodec[0]);
+        this.codecsByTag = new SessionAttributeCodec[256];
+        this.fallback = fallback;
+
+        for (SessionAttributeCodec<Object> codec : this.codecs) {
+            int tag = codec.tag() & 0xFF;
+            if (codec.tag() == JDK_STREAM_MAGIC) {
+                throw new IllegalArgumentException("0xAC 태그는 JDK 직렬화용으로 예약되어 있습니다: " + codec.getClass().getName());
+            }
+            if (codecsByTag[tag] != null) {
+                throw new IllegalArgumentException("세션 코덱 태그가 중복되었습니다: " + tag);
+            }
+            codecsByTag[tag] = codec;
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+
+        for (SessionAttributeCodec<Object> codec : codecs) {
+            if (codec.supports(value)) {
+                return write(codec, value);
+            }
+        }
+        return fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == JDK_STREAM_MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        SessionAttributeCodec<Object> codec = codecsByTag[bytes[0] & 0xFF];
+        if (codec == null) {
+            throw new SerializationException("알 수 없는 세션 코덱 태그입니다: " + (bytes[0] & 0xFF));
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            return codec.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("세션 속성 역직렬화에 실패했습니다: " + codec.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static byte[] write(SessionAttributeCodec<Object> codec, Object value) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeByte(codec.tag());
+            codec.write(value, out);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("세션 속성 직렬화에 실패했습니다: " + codec.getClass().getSimpleName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.sessionauth.global.session.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Integer 코덱 (maxInactiveInterval 등 세션 메타데이터)
+ */
+public class IntegerCodec implements SessionAttributeCodec<Integer> {
+
+    @Override
+    public byte tag() {
+        return 0x03;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof Integer;
+    }
+
+    @Override
+    public void write(Integer value, DataOutput out) throws IOException {
+        out.writeInt(value);
+    }
+
+    @Override
+    public Integer read(DataInput in) throws IOException {
+        return in.readInt();
+    }
+
+}
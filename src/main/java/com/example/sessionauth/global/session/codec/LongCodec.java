@@ -0,0 +1,32 @@
+package com.example.sessionauth.global.session.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Long 코덱 (creationTime, lastAccessedTime 등 세션 메타데이터)
+ */
+public class LongCodec implements SessionAttributeCodec<Long> {
+
+    @Override
+    public byte tag() {
+        return 0x02;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof Long;
+    }
+
+    @Override
+    public void write(Long value, DataOutput out) throws IOException {
+        out.writeLong(value);
+    }
+
+    @Override
+    public Long read(DataInput in) throws IOException {
+        return in.readLong();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.sessionauth.global.session.codec;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 세션 속성 값의 Redis 저장 크기를 기록하는 직렬화기
+ * <pre>
+ * session.attribute.bytes{operation=write|read} : 속성 값 하나의 직렬화 크기
+ * </pre>
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary writtenBytes;
+    private final DistributionSummary readBytes;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.writtenBytes = payloadSummary(meterRegistry, "write");
+        this.readBytes = payloadSummary(meterRegistry, "read");
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            writtenBytes.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            readBytes.record(bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+
+    private static DistributionSummary payloadSummary(MeterRegistry meterRegistry, String operation) {
+        return DistributionSummary.builder("session.attribute.bytes")
+                .description("세션 속성 값 직렬화 크기")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.example.sessionauth.global.session.codec;
+
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.Role;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 로그인 시 세션에 저장되는 SecurityContext 전용 코덱
+ * - SecurityContextImpl → UsernamePasswordAuthenticationToken → CustomUserDetails 구조만 지원
+ * - 그 외 구조(다른 Authentication 구현, details/credentials 보유 등)는 JDK 직렬화로 위임
+ * <pre>
+ * [version:1][flags:1][userId:16][email][nickname?][password?][principal roles:1][token roles:1]
+ * </pre>
+ */
+public class SecurityContextCodec implements SessionAttributeCodec<SecurityContext> {
+
+    private static final byte VERSION = 1;
+
+    private static final int ENABLED = 1;
+    private static final int ACCOUNT_NON_EXPIRED = 1 << 1;
+    private static final int ACCOUNT_NON_LOCKED = 1 << 2;
+    private static final int CREDENTIALS_NON_EXPIRED = 1 << 3;
+    private static final int HAS_NICKNAME = 1 << 4;
+    private static final int HAS_PASSWORD = 1 << 5;
+
+    @Override
+    public byte tag() {
+        return 0x01;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        if (value == null || value.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+
+        Authentication authentication = ((SecurityContext) value).getAuthentication();
+        if (authentication == null
+                || authentication.getClass() != UsernamePasswordAuthenticationToken.class
+                || !authentication.isAuthenticated()
+                || authentication.getCredentials() != null
+                || authentication.getDetails() != null) {
+            return false;
+        }
+
+        if (!(authentication.getPrincipal() instanceof CustomUserDetails principal)
+                || principal.getClass() != CustomUserDetails.class
+                || principal.getUserId() == null
+                || principal.getEmail() == null) {
+            return false;
+        }
+
+        return isEncodable(principal.getAuthorities()) && isEncodable(authentication.getAuthorities());
+    }
+
+    @Override
+    public void write(SecurityContext value, DataOutput out) throws IOException {
+        Authentication authentication = value.getAuthentication();
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+
+        int flags = 0;
+        if (principal.isEnabled()) flags |= ENABLED;
+        if (principal.isAccountNonExpired()) flags |= ACCOUNT_NON_EXPIRED;
+        if (principal.isAccountNonLocked()) flags |= ACCOUNT_NON_LOCKED;
+        if (principal.isCredentialsNonExpired()) flags |= CREDENTIALS_NON_EXPIRED;
+        if (principal.getNickname() != null) flags |= HAS_NICKNAME;
+        if (principal.getPassword() != null) flags |= HAS_PASSWORD;
+
+        out.writeByte(VERSION);
+        out.writeByte(flags);
+        out.writeLong(principal.getUserId().getMostSignificantBits());
+        out.writeLong(principal.getUserId().getLeastSignificantBits());
+        out.writeUTF(principal.getEmail());
+        if (principal.getNickname() != null) out.writeUTF(principal.getNickname());
+        if (principal.getPassword() != null) out.writeUTF(principal.getPassword());
+        out.writeByte(toBits(principal.getAuthorities()));
+        out.writeByte(toBits(authentication.getAuthorities()));
+    }
+
+    @Override
+    public SecurityContext read(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("지원하지 않는 SecurityContext 코덱 버전입니다: " + version);
+        }
+
+        int flags = in.readUnsignedByte();
+        UUID userId = new UUID(in.readLong(), in.readLong());
+        String email = in.readUTF();
+        String nickname = (flags & HAS_NICKNAME) != 0 ? in.readUTF() : null;
+        String password = (flags & HAS_PASSWORD) != 0 ? in.readUTF() : null;
+        Set<GrantedAuthority> principalAuthorities = fromBits(in.readUnsignedByte());
+        Set<GrantedAuthority> tokenAuthorities = fromBits(in.readUnsignedByte());
+
+        CustomUserDetails principal = CustomUserDetails.builder()
+                .userId(userId)
+                .email(email)
+                .password(password)
+                .nickname(nickname)
+                .authorities(principalAuthorities)
+                .enabled((flags & ENABLED) != 0)
+                .accountNonExpired((flags & ACCOUNT_NON_EXPIRED) != 0)
+                .accountNonLocked((flags & ACCOUNT_NON_LOCKED) != 0)
+                .credentialsNonExpired((flags & CREDENTIALS_NON_EXPIRED) != 0)
+                .build();
+
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal, null, tokenAuthorities));
+    }
+
+    private static boolean isEncodable(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authorities) {
+            if (Role.fromAuthority(authority.getAuthority()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toBits(Collection<? extends GrantedAuthority> authorities) {
+        int bits = 0;
+        for (GrantedAuthority authority : authorities) {
+            bits |= 1 << Role.fromAuthority(authority.getAuthority()).ordinal();
+        }
+        return bits;
+    }
+
+    private static Set<GrantedAuthority> fromBits(int bits) {
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        for (Role role : Role.values()) {
+            if ((bits & (1 << role.ordinal())) != 0) {
+                authorities.add(role.toGrantedAuthority());
+            }
+        }
+        return Collections.unmodifiableSet(authorities);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.example.sessionauth.global.session.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 세션 속성 값 하나의 타입을 전담하는 바이너리 코덱
+ * - 직렬화 결과의 첫 바이트에 {@link #tag()} 가 기록되고, 역직렬화 시 태그로 코덱을 찾음
+ * - 태그는 저장소에 그대로 남으므로 한 번 정한 값은 바꾸지 않음
+ */
+public interface SessionAttributeCodec<T> {
+
+    /**
+     * 타입 태그 (JDK 직렬화 스트림 시작 바이트 0xAC 는 사용 불가)
+     */
+    byte tag();
+
+    /**
+     * 이 코덱으로 직렬화할 수 있는 값인지 여부 (false 면 다음 코덱 또는 JDK 직렬화로 위임)
+     */
+    boolean supports(Object value);
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+}
@@ -0,0 +1,116 @@
+package com.example.sessionauth.global.thread;
+
+import com.example.sessionauth.global.config.AppThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감지
+ * - JFR 이벤트(jdk.VirtualThreadPinned)를 프로세스 안에서 스트리밍으로 구독 (JFR 녹화를 켜면 같은 이벤트가 녹화 파일에도 남음)
+ * - synchronized 블록/네이티브 호출 안에서 블로킹되어 캐리어 스레드가 고정되면, 발생 위치별 타이머로 기록하고 위치마다 한 번 스택을 로그로 남김
+ * - 발생 위치는 JDK 내부 프레임을 건너뛴 첫 프레임 (예: org.h2.engine.SessionLocal.lock)
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private static final String METRIC_PREFIX = "jvm.threads.virtual";
+    private static final String OTHER_SITE = "other";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final int LOGGED_FRAMES = 20;
+
+    private final AppThreadProperties.Pinning properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter submitFailed;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(AppThreadProperties.Pinning properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.submitFailed = Counter.builder(METRIC_PREFIX + ".submit.failed")
+                .description("가상 스레드 시작/재개 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(properties.threshold()).withStackTrace();
+        recordingStream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("가상 스레드 pinning 감지 시작 (기준: {})", properties.threshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        stream = null;
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+        boolean first = sites.size() < properties.maxSites() && sites.add(site);
+        String tag = sites.contains(site) ? site : OTHER_SITE;
+
+        Timer.builder(METRIC_PREFIX + ".pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("site", tag)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (first) {
+            log.warn("가상 스레드 pinning 감지: {} ({}ms)\n{}", site, event.getDuration().toMillis(), format(event.getStackTrace()));
+        }
+    }
+
+    static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame frame = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(f -> JDK_PACKAGES.stream().noneMatch(f.getMethod().getType().getName()::startsWith))
+                .findFirst()
+                .orElse(frames.get(0));
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(f -> "\tat " + f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.sessionauth.global.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (여러 스레드가 추가, 한 스레드가 꺼냄)
+ * - 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 자리를 잡고, 가득 차면 기다리지 않고 false 반환
+ * - 꺼내는 쪽(drain)은 반드시 한 스레드에서만 호출
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    // 슬롯 상태: 시퀀스 == 위치 이면 비어 있음, 위치 + 1 이면 값이 채워짐
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 변경 (size 계산을 위해 volatile)
+    private volatile long head;
+
+    /**
+     * @param capacity 최대 원소 수 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값 추가 (가득 찼으면 추가하지 않고 false)
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 값이 아직 꺼내지지 않음
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 limit 개를 꺼내 consumer 에 전달 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long position = head;
+        int count = 0;
+        while (count < limit) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                // 비었거나 생산자가 아직 값을 채우는 중
+                break;
+            }
+            E element = elements.get(index);
+            elements.lazySet(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            count++;
+            consumer.accept(element);
+        }
+        head = position;
+        return count;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+}
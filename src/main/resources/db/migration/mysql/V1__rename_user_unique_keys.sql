@@ -0,0 +1,53 @@
+-- USER 테이블의 Hibernate 자동 생성 유니크 키(UK_...)를 AppUser 에 선언한 이름으로 정리
+-- - ddl-auto: update 는 기존 제약 이름을 바꾸지 않고 uk_user_email / uk_user_nickname 을 옆에 추가하므로,
+--   그대로 두면 INSERT 마다 컬럼별 유니크 인덱스 두 개를 갱신함
+-- - 선언한 이름이 아직 없으면 기존 키 이름을 바꾸고, 이미 함께 생성됐다면 기존 키를 삭제
+-- - 테이블이 없거나(새 스키마) 정리할 키가 없으면 아무것도 하지 않음
+
+-- email
+SET @legacy_key = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND UPPER(table_name) = 'USER' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_user_email', 'uk_user_nickname')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'email'
+    LIMIT 1
+);
+SET @named_key = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND UPPER(table_name) = 'USER' AND index_name = 'uk_user_email'
+);
+SET @ddl = CASE
+    WHEN @legacy_key IS NULL THEN 'DO 0'
+    WHEN @named_key > 0 THEN CONCAT('ALTER TABLE `USER` DROP INDEX `', @legacy_key, '`')
+    ELSE CONCAT('ALTER TABLE `USER` RENAME INDEX `', @legacy_key, '` TO `uk_user_email`')
+END;
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- nickname
+SET @legacy_key = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND UPPER(table_name) = 'USER' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_user_email', 'uk_user_nickname')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'nickname'
+    LIMIT 1
+);
+SET @named_key = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND UPPER(table_name) = 'USER' AND index_name = 'uk_user_nickname'
+);
+SET @ddl = CASE
+    WHEN @legacy_key IS NULL THEN 'DO 0'
+    WHEN @named_key > 0 THEN CONCAT('ALTER TABLE `USER` DROP INDEX `', @legacy_key, '`')
+    ELSE CONCAT('ALTER TABLE `USER` RENAME INDEX `', @legacy_key, '` TO `uk_user_nickname`')
+END;
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,44 @@
+package com.example.sessionauth.reactive;
+
+import com.example.sessionauth.domains.auth.service.AuthAuditTrail;
+import com.example.sessionauth.domains.auth.service.LoginThrottle;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.config.JacksonConfig;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * reactive 인증 API (WebFlux + Netty, R2DBC, ReactiveRedisSessionRepository)
+ * - 서블릿 애플리케이션(SessionAuthExamApplication)과 같은 /api/auth/signup|login|logout|me 계약, 같은 DTO/에러 코드
+ * - 세션은 같은 Redis 네임스페이스, 같은 쿠키/속성 직렬화 형식, 같은 인덱스로 저장하므로 서블릿 노드와 세션을 공유할 수 있음
+ * - 로그인 실패 횟수 제한(LoginThrottle)과 인증 감사 기록(AuthAuditTrail)은 서블릿 애플리케이션의 빈을 그대로 사용 (Redis 카운터, 감사 테이블 공유)
+ * - reactive 프로필로 기동 (application.yml 위에 application-reactive.yml 적용)
+ * - 클래스패스에 서블릿/JPA 가 함께 있어도(테스트, 부하 테스트) JDBC/JPA 자동 설정은 사용하지 않음
+ * - 사용자 인증은 ReactiveAuthService 가 직접 수행하므로 기본 인메모리 사용자(생성된 비밀번호)는 만들지 않음
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+@Import({JacksonConfig.class, ErrorCodeMetrics.class, LoginThrottle.class, AuthAuditTrail.class})
+@EnableConfigurationProperties(AppSecurityProperties.class)
+@EnableScheduling
+public class ReactiveAuthApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveAuthApplication.class)
+                .profiles(PROFILE)
+                .run(args);
+    }
+
+}
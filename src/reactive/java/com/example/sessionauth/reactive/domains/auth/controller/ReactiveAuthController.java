@@ -0,0 +1,58 @@
+package com.example.sessionauth.reactive.domains.auth.controller;
+
+import com.example.sessionauth.domains.auth.dto.request.LoginRequest;
+import com.example.sessionauth.domains.auth.dto.request.SignupRequest;
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.global.response.ApiResponse;
+import com.example.sessionauth.reactive.domains.auth.service.ReactiveAuthService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 API (AuthController 와 같은 경로/요청/응답)
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+
+    /**
+     * 회원가입 API
+     */
+    @PostMapping("/signup")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<ApiResponse<AppUserResponse>>> signup(ServerWebExchange exchange, @Valid @RequestBody SignupRequest request) {
+        return authService.signup(exchange, request).map(ApiResponse::created);
+    }
+
+    /**
+     * 로그인 API
+     */
+    @PostMapping("/login")
+    public Mono<ResponseEntity<ApiResponse<AppUserResponse>>> login(ServerWebExchange exchange, @Valid @RequestBody LoginRequest request) {
+        return authService.login(exchange, request).map(ApiResponse::ok);
+    }
+
+    /**
+     * 로그아웃 API
+     */
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<ApiResponse<Void>>> logout(ServerWebExchange exchange) {
+        return authService.logout(exchange).then(Mono.fromSupplier(ApiResponse::noContent));
+    }
+
+    /**
+     * 현재 로그인된 사용자 정보 조회 API
+     */
+    @GetMapping("/me")
+    public Mono<ResponseEntity<ApiResponse<AppUserResponse>>> getCurrentUser() {
+        return authService.getCurrentUser().map(ApiResponse::ok);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.sessionauth.reactive.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * USER 테이블 한 행 (JPA 엔티티 AppUser 와 같은 테이블/컬럼, R2DBC 로 읽고 씀)
+ */
+public record AppUserRow(
+        UUID id,
+        String email,
+        String password,
+        String nickname,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static AppUserRow create(String email, String password, String nickname) {
+        LocalDateTime now = LocalDateTime.now();
+        return new AppUserRow(newId(), email, password, nickname, now, now);
+    }
+
+    public AppUserResponse toResponse() {
+        return new AppUserResponse(email, nickname);
+    }
+
+    /**
+     * UUID v7 (앞 48비트가 밀리초 시각이므로 시간순으로 정렬되어 BINARY(16) PK 인덱스에 순서대로 추가됨)
+     * - 추측 불가능할 필요가 없는 식별자이므로 이벤트 루프를 막을 수 있는 SecureRandom 대신 ThreadLocalRandom 사용
+     */
+    static UUID newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * BINARY(16) 컬럼 값
+     */
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
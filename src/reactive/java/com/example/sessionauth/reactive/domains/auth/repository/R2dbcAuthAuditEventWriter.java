@@ -0,0 +1,52 @@
+package com.example.sessionauth.reactive.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.model.AuthAuditEvent;
+import com.example.sessionauth.domains.auth.repository.AuthAuditEventWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 인증 감사 이벤트 배치 INSERT (R2DBC, JdbcAuthAuditEventWriter 와 같은 테이블/컬럼 형식)
+ * - 배치 하나를 다건 INSERT 문 하나로 저장
+ * - AuthAuditTrail 의 전용 스레드(auth-audit-writer)에서 호출되므로 완료될 때까지 기다림 (이벤트 루프에서는 호출되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcAuthAuditEventWriter implements AuthAuditEventWriter {
+
+    private static final String INSERT = "INSERT INTO " + AuthAuditEvent.TABLE
+            + " (type, user_id, email, client_ip, detail, occurred_at) VALUES ";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public void insertAll(List<AuthAuditEvent> events) {
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < events.size(); i++) {
+            values.add("(:type" + i + ", :userId" + i + ", :email" + i + ", :clientIp" + i + ", :detail" + i + ", :occurredAt" + i + ")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT + values);
+        for (int i = 0; i < events.size(); i++) {
+            AuthAuditEvent event = events.get(i);
+            spec = spec.bind("type" + i, event.getType().name());
+            spec = event.getUserId() != null
+                    ? spec.bind("userId" + i, AppUserRow.toBytes(event.getUserId()))
+                    : spec.bindNull("userId" + i, byte[].class);
+            spec = bindNullable(spec, "email" + i, event.getEmail());
+            spec = bindNullable(spec, "clientIp" + i, event.getClientIp());
+            spec = bindNullable(spec, "detail" + i, event.getDetail());
+            spec = spec.bind("occurredAt" + i, event.getOccurredAt());
+        }
+        spec.then().block();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, String.class);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.example.sessionauth.reactive.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * USER 테이블 R2DBC 저장소 (AppUserRepository 의 reactive 버전, 인증 API 에 필요한 쿼리만)
+ * - 엔티티 매핑 없이 DatabaseClient 로 필요한 컬럼만 읽고 씀
+ * - 유니크 제약 위반 등은 DatabaseClient 가 DataIntegrityViolationException 으로 변환
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAppUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<AppUserRow> insert(AppUserRow user) {
+        return databaseClient.sql("""
+                        INSERT INTO USER (id, email, password, nickname, created_at, updated_at)
+                        VALUES (:id, :email, :password, :nickname, :createdAt, :updatedAt)
+                        """)
+                .bind("id", AppUserRow.toBytes(user.id()))
+                .bind("email", user.email())
+                .bind("password", user.password())
+                .bind("nickname", user.nickname())
+                .bind("createdAt", user.createdAt())
+                .bind("updatedAt", user.updatedAt())
+                .then()
+                .thenReturn(user);
+    }
+
+    public Mono<AppUserRow> findByEmail(String email) {
+        return databaseClient.sql("SELECT id, email, password, nickname, created_at, updated_at FROM USER WHERE email = :email")
+                .bind("email", email)
+                .map(ReactiveAppUserRepository::toRow)
+                .one();
+    }
+
+    /**
+     * 응답에 필요한 컬럼만 조회
+     */
+    public Mono<AppUserResponse> findResponseById(UUID id) {
+        return databaseClient.sql("SELECT email, nickname FROM USER WHERE id = :id")
+                .bind("id", AppUserRow.toBytes(id))
+                .map(row -> new AppUserResponse(row.get("email", String.class), row.get("nickname", String.class)))
+                .one();
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return exists("SELECT 1 FROM USER WHERE email = :value LIMIT 1", email);
+    }
+
+    public Mono<Boolean> existsByNickname(String nickname) {
+        return exists("SELECT 1 FROM USER WHERE nickname = :value LIMIT 1", nickname);
+    }
+
+    private Mono<Boolean> exists(String sql, String value) {
+        return databaseClient.sql(sql)
+                .bind("value", value)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    private static AppUserRow toRow(Readable row) {
+        return new AppUserRow(
+                AppUserRow.fromBytes(row.get("id", byte[].class)),
+                row.get("email", String.class),
+                row.get("password", String.class),
+                row.get("nickname", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.sessionauth.reactive.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.dto.request.LoginRequest;
+import com.example.sessionauth.domains.auth.dto.request.SignupRequest;
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.domains.auth.exception.AuthException;
+import com.example.sessionauth.domains.auth.model.AppUser;
+import com.example.sessionauth.domains.auth.service.AuthAuditTrail;
+import com.example.sessionauth.domains.auth.service.LoginThrottle;
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.Role;
+import com.example.sessionauth.reactive.domains.auth.repository.AppUserRow;
+import com.example.sessionauth.reactive.domains.auth.repository.ReactiveAppUserRepository;
+import com.example.sessionauth.reactive.global.security.ReactivePasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * reactive 인증 서비스 (AuthApplicationService 와 같은 계약)
+ * - 사용자 조회/저장은 R2DBC, 비밀번호 해시는 ReactivePasswordEncoder 의 전용 스케줄러에서 수행 (이벤트 루프를 막지 않음)
+ * - 로그인 실패 횟수 제한(LoginThrottle)과 감사 기록(AuthAuditTrail)은 서블릿 버전과 같은 빈을 사용 (Redis 카운터, 감사 테이블 공유)
+ *   둘 다 요청 경로에서는 노드 로컬 메모리만 사용하므로 이벤트 루프를 막지 않음
+ * - 서블릿 버전의 가입 이메일 필터, 동시 세션 제한, 사용자 정보 캐시, 비밀번호 재해시는 적용하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+
+    private final ReactiveAppUserRepository appUserRepository;
+    private final ReactivePasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
+    private final AuthAuditTrail authAuditTrail;
+    // WebSession 기반 SecurityContext 저장소
+    private final ServerSecurityContextRepository securityContextRepository;
+
+    /**
+     * 회원가입
+     * - 중복 검사 조회 없이 INSERT 한 번으로 처리하고, 중복은 유니크 제약 위반으로 판단
+     */
+    public Mono<AppUserResponse> signup(ServerWebExchange exchange, SignupRequest request) {
+        return passwordEncoder.encode(request.password())
+                .flatMap(encodedPassword -> appUserRepository.insert(
+                        AppUserRow.create(request.email(), encodedPassword, request.nickname())))
+                .onErrorResume(DataIntegrityViolationException.class, e -> resolveDuplicate(request, e)
+                        .flatMap(errorCode -> Mono.<AppUserRow>error(new AuthException(errorCode)))
+                        .switchIfEmpty(Mono.error(e)))
+                .doOnNext(user -> authAuditTrail.signup(user.id(), user.email(), clientIp(exchange)))
+                .map(AppUserRow::toResponse);
+    }
+
+    /**
+     * 로그인
+     * - 실패 횟수 제한은 사용자 조회 전에 확인하고, 없는 사용자/비밀번호 불일치는 실패로 기록 (서블릿 버전과 같은 키)
+     */
+    public Mono<AppUserResponse> login(ServerWebExchange exchange, LoginRequest request) {
+        String clientIp = clientIp(exchange);
+        return Mono.fromRunnable(() -> loginThrottle.checkAllowed(request.email(), clientIp))
+                .then(appUserRepository.findByEmail(request.email()))
+                .switchIfEmpty(Mono.error(() -> loginFailure(request, clientIp, AuthErrorCode.NOT_FOUND_USER)))
+                // 비밀번호 검증
+                .flatMap(user -> passwordEncoder.matches(request.password(), user.password())
+                        .flatMap(matches -> matches
+                                ? Mono.just(user)
+                                : Mono.error(loginFailure(request, clientIp, AuthErrorCode.INVALID_PASSWORD))))
+                .flatMap(user -> saveAuthentication(exchange, user)
+                        .doOnSuccess(userDetails -> authAuditTrail.loginSucceeded(userDetails, clientIp))
+                        .thenReturn(user.toResponse()));
+    }
+
+    private AuthException loginFailure(LoginRequest request, String clientIp, AuthErrorCode errorCode) {
+        loginThrottle.recordFailure(request.email(), clientIp);
+        authAuditTrail.loginFailed(request.email(), clientIp, errorCode);
+        return new AuthException(errorCode);
+    }
+
+    /**
+     * 인증 정보를 세션에 저장 (WebSessionServerSecurityContextRepository 가 저장하면서 세션 ID 변경)
+     * - 세션에는 비밀번호 해시를 넣지 않음
+     */
+    private Mono<CustomUserDetails> saveAuthentication(ServerWebExchange exchange, AppUserRow user) {
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .userId(user.id())
+                .email(user.email())
+                .nickname(user.nickname())
+                .authorities(Set.of(Role.USER.toGrantedAuthority()))
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        return securityContextRepository.save(exchange, new SecurityContextImpl(authentication)).thenReturn(userDetails);
+    }
+
+    /**
+     * 로그아웃 (세션 무효화, SESSION 쿠키 만료)
+     */
+    public Mono<Void> logout(ServerWebExchange exchange) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(authentication -> authentication.getPrincipal() instanceof CustomUserDetails)
+                .doOnNext(authentication -> authAuditTrail.logout((CustomUserDetails) authentication.getPrincipal(), clientIp(exchange)))
+                .then(exchange.getSession())
+                .flatMap(WebSession::invalidate);
+    }
+
+    /**
+     * 현재 로그인된 사용자 정보 조회
+     */
+    public Mono<AppUserResponse> getCurrentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(authentication -> authentication.getPrincipal() instanceof CustomUserDetails)
+                // 익명 사용자 (/api/auth/** 는 permitAll)
+                .switchIfEmpty(Mono.error(() -> new AuthException(AuthErrorCode.UNAUTHORIZED)))
+                .flatMap(authentication -> appUserRepository.findResponseById(((CustomUserDetails) authentication.getPrincipal()).getUserId()))
+                .switchIfEmpty(Mono.error(() -> new AuthException(AuthErrorCode.NOT_FOUND_USER)));
+    }
+
+    /**
+     * 클라이언트 IP (서블릿 버전의 HttpServletRequest.getRemoteAddr 와 같은 값)
+     * - 로드 밸런서 뒤에서는 Netty 가 X-Forwarded-For 로 바꾼 원격 주소 (server.forward-headers-strategy, LoginThrottle 의 IP 키 참고)
+     */
+    private static String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) return "unknown";
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+
+    /**
+     * 유니크 제약 위반 원인(이메일/닉네임) 판별
+     * - 드라이버 메시지에 제약 이름이 없으면 추가 조회, 둘 다 아니면 빈 Mono
+     */
+    private Mono<AuthErrorCode> resolveDuplicate(SignupRequest request, DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains(AppUser.EMAIL_UNIQUE_CONSTRAINT)) return Mono.just(AuthErrorCode.DUPLICATE_EMAIL);
+        if (message.contains(AppUser.NICKNAME_UNIQUE_CONSTRAINT)) return Mono.just(AuthErrorCode.DUPLICATE_NICKNAME);
+
+        return appUserRepository.existsByEmail(request.email())
+                .flatMap(emailExists -> emailExists
+                        ? Mono.just(AuthErrorCode.DUPLICATE_EMAIL)
+                        : appUserRepository.existsByNickname(request.nickname())
+                                .flatMap(nicknameExists -> nicknameExists ? Mono.just(AuthErrorCode.DUPLICATE_NICKNAME) : Mono.empty()));
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.sessionauth.reactive.global.config;
+
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import com.example.sessionauth.global.security.BCryptStrengthCalibrator;
+import com.example.sessionauth.reactive.global.exception.ReactiveErrorResponseWriter;
+import com.example.sessionauth.reactive.global.security.ReactivePasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.security.web.server.csrf.CsrfWebFilter;
+import org.springframework.security.web.server.util.matcher.AndServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.NegatedServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import java.util.Map;
+
+/**
+ * reactive 보안 설정 (SecurityConfig 의 WebFlux 버전)
+ * - SecurityContext 는 WebSession(Redis) 에 저장하며, 저장 시 세션 ID 를 바꿈 (세션 고정 방지)
+ * - 인가 규칙, CSRF 제외 경로, 401/403 응답 본문은 서블릿 애플리케이션과 같음
+ */
+@Slf4j
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private static final String PASSWORD_ENCODER_ID = "bcrypt";
+
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            ServerSecurityContextRepository securityContextRepository
+    ) {
+        return http
+                // 폼 로그인, HTTP Basic, 시큐리티 로그아웃 비활성화 (REST API 사용)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+
+                // CSRF 보호 (로그인/회원가입 API 는 검증 제외)
+                .csrf(csrf -> csrf.requireCsrfProtectionMatcher(new AndServerWebExchangeMatcher(
+                        CsrfWebFilter.DEFAULT_CSRF_MATCHER,
+                        new NegatedServerWebExchangeMatcher(ServerWebExchangeMatchers.pathMatchers("/api/auth/**"))
+                )))
+
+                // 세션 기반 SecurityContext 저장소
+                .securityContextRepository(securityContextRepository)
+
+                // URL별 접근 권한 설정 (선언 순서상 먼저 일치하는 규칙 적용)
+                .authorizeExchange(exchanges -> exchanges
+                        // 헬스 체크, 인증 API 접근 허용
+                        .pathMatchers("/actuator/**", "/api/auth/**").permitAll()
+                        // 관리자 전용 URL
+                        .pathMatchers("/api/admin/**").hasRole("ADMIN")
+                        // 일반 사용자 API
+                        .pathMatchers("/api/**").hasRole("USER")
+                        // 그 외 모든 요청은 인증 필요
+                        .anyExchange().authenticated()
+                )
+
+                // 예외 처리 설정 (401 Unauthorized, 403 Forbidden)
+                .exceptionHandling(exceptionHandling -> exceptionHandling
+                        .authenticationEntryPoint((exchange, e) -> errorResponseWriter.write(exchange, CommonErrorCode.UNAUTHORIZED))
+                        .accessDeniedHandler((exchange, e) -> errorResponseWriter.write(exchange, CommonErrorCode.FORBIDDEN))
+                )
+                .build();
+    }
+
+    /**
+     * 시큐리티 컨텍스트 저장소 설정 (WebSession 기반, 서블릿 버전과 같은 SPRING_SECURITY_CONTEXT 속성)
+     */
+    @Bean
+    public ServerSecurityContextRepository securityContextRepository() {
+        return new WebSessionServerSecurityContextRepository();
+    }
+
+    /**
+     * 비밀번호 인코더 (SecurityConfig.passwordEncoder 와 같은 해시 형식과 strength)
+     * - 해시 연산은 이벤트 루프가 아닌 app.security.password-hashing.threads 크기의 전용 스케줄러에서 수행 (대기열 초과 시 429)
+     */
+    @Bean(destroyMethod = "close")
+    public ReactivePasswordEncoder passwordEncoder(AppSecurityProperties properties, MeterRegistry meterRegistry) {
+        AppSecurityProperties.PasswordHashing passwordHashing = properties.passwordHashing();
+
+        int strength = passwordHashing.strength() > 0
+                ? passwordHashing.strength()
+                : BCryptStrengthCalibrator.calibrate(passwordHashing.targetLatency());
+        log.info("BCrypt strength: {} (목표 검증 시간: {})", strength, passwordHashing.targetLatency());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                PASSWORD_ENCODER_ID,
+                Map.of(PASSWORD_ENCODER_ID, new BCryptPasswordEncoder(strength))
+        );
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+
+        return new ReactivePasswordEncoder(
+                delegatingPasswordEncoder,
+                passwordHashing.resolvedThreads(),
+                passwordHashing.queueCapacity(),
+                meterRegistry
+        );
+    }
+
+}
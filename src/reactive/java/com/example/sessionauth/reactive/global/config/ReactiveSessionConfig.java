@@ -0,0 +1,120 @@
+package com.example.sessionauth.reactive.global.config;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.MeteredRedisSerializer;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import com.example.sessionauth.global.session.codec.SessionAttributeCodec;
+import com.example.sessionauth.reactive.global.session.Base64CookieWebSessionIdResolver;
+import com.example.sessionauth.reactive.global.session.IndexedReactiveSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.config.ReactiveSessionRepositoryCustomizer;
+import org.springframework.session.data.redis.ReactiveRedisSessionRepository;
+import org.springframework.session.data.redis.config.annotation.web.server.EnableRedisWebSession;
+import org.springframework.web.server.session.WebSessionIdResolver;
+
+import java.time.Duration;
+
+/**
+ * reactive Redis 세션 설정
+ * - 저장소는 ReactiveRedisSessionRepository 를 IndexedReactiveSessionRepository 로 감싸 사용
+ *   (principal 인덱스, expires 키, 만료 인덱스를 서블릿 애플리케이션과 같은 형식으로 유지)
+ * - @EnableRedisWebSession 을 사용하면 Boot 의 세션 자동 설정이 적용되지 않으므로 spring.session.* 설정은 여기서 직접 반영
+ * - 세션 키, 속성 직렬화(app.session.codec), SESSION 쿠키 형식은 서블릿 애플리케이션(SessionConfig)과 같음
+ */
+@Configuration
+@EnableRedisWebSession(redisNamespace = "${spring.session.redis.namespace:spring:session}")
+@EnableConfigurationProperties(AppSessionProperties.class)
+public class ReactiveSessionConfig {
+
+    /**
+     * 세션 만료 시간 (spring.session.timeout)
+     */
+    @Bean
+    public ReactiveSessionRepositoryCustomizer<ReactiveRedisSessionRepository> sessionTimeoutCustomizer(
+            @Value("${spring.session.timeout:30m}") Duration timeout
+    ) {
+        return sessionRepository -> sessionRepository.setDefaultMaxInactiveInterval(timeout);
+    }
+
+    /**
+     * 인덱스를 유지하는 세션 저장소
+     * - @Primary 로 등록되어 WebSessionManager 가 ReactiveRedisSessionRepository 대신 사용
+     */
+    @Bean
+    @Primary
+    public IndexedReactiveSessionRepository<?> indexedReactiveSessionRepository(
+            ReactiveRedisSessionRepository sessionRepository,
+            ReactiveRedisConnectionFactory connectionFactory,
+            @Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> sessionRedisSerializer,
+            @Value("${spring.session.redis.namespace:spring:session}") String redisNamespace,
+            AppSessionProperties properties
+    ) {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                .key(RedisSerializer.string())
+                .hashKey(RedisSerializer.string())
+                .build();
+        return new IndexedReactiveSessionRepository<>(
+                sessionRepository,
+                new ReactiveRedisTemplate<>(connectionFactory, serializationContext),
+                sessionRedisSerializer,
+                redisNamespace,
+                properties.expiry()
+        );
+    }
+
+    /**
+     * 세션 속성 직렬화기 (Spring Session 이 빈 이름으로 찾아서 사용, SessionConfig 와 같은 구성)
+     */
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer(
+            ObjectProvider<SessionAttributeCodec<?>> codecs,
+            @Value("${app.session.codec:compact}") String codec,
+            MeterRegistry meterRegistry
+    ) {
+        RedisSerializer<Object> jdk = new JdkSerializationRedisSerializer(getClass().getClassLoader());
+        RedisSerializer<Object> serializer = "jdk".equalsIgnoreCase(codec)
+                ? jdk
+                : new CompactSessionRedisSerializer(codecs.orderedStream().toList(), jdk);
+        return new MeteredRedisSerializer(serializer, meterRegistry);
+    }
+
+    @Bean
+    public SecurityContextCodec securityContextCodec() {
+        return new SecurityContextCodec();
+    }
+
+    @Bean
+    public LongCodec longCodec() {
+        return new LongCodec();
+    }
+
+    @Bean
+    public IntegerCodec integerCodec() {
+        return new IntegerCodec();
+    }
+
+    /**
+     * SESSION 쿠키 (서블릿 애플리케이션과 같은 Base64 인코딩)
+     */
+    @Bean
+    public WebSessionIdResolver webSessionIdResolver() {
+        return new Base64CookieWebSessionIdResolver();
+    }
+
+}
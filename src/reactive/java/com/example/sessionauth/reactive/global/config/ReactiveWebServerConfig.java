@@ -0,0 +1,25 @@
+package com.example.sessionauth.reactive.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 내장 서버 설정 (Reactor Netty)
+ * - Boot 는 클래스패스에 Undertow 가 있으면 Netty 보다 먼저 선택하므로,
+ *   서블릿 의존성이 함께 있는 클래스패스(테스트, 부하 테스트)에서도 Netty 이벤트 루프로 기동하도록 직접 등록
+ * - server.* 설정은 Boot 의 NettyReactiveWebServerFactory 커스터마이저가 그대로 적용
+ */
+@Configuration
+public class ReactiveWebServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.getServerCustomizers().addAll(serverCustomizers.orderedStream().toList());
+        return factory;
+    }
+
+}
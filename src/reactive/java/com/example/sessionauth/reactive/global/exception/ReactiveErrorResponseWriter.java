@@ -0,0 +1,45 @@
+package com.example.sessionauth.reactive.global.exception;
+
+import com.example.sessionauth.global.exception.ErrorCode;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import com.example.sessionauth.global.response.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 필터 단계 에러 응답 (인증 실패, 권한 없음 등, 서블릿 버전의 ErrorResponseWriter.write 와 같은 본문)
+ */
+@Component
+public class ReactiveErrorResponseWriter {
+
+    private final ObjectWriter objectWriter;
+    private final ErrorCodeMetrics errorCodeMetrics;
+
+    public ReactiveErrorResponseWriter(ObjectMapper objectMapper, ErrorCodeMetrics errorCodeMetrics) {
+        this.objectWriter = objectMapper.writerFor(ErrorResponse.class);
+        this.errorCodeMetrics = errorCodeMetrics;
+    }
+
+    public Mono<Void> write(ServerWebExchange exchange, ErrorCode errorCode) {
+        byte[] body;
+        try {
+            body = objectWriter.writeValueAsBytes(ErrorResponse.of(errorCode));
+        } catch (JsonProcessingException e) {
+            return Mono.error(new IllegalStateException("에러 응답 인코딩 실패: " + errorCode.getCode(), e));
+        }
+
+        errorCodeMetrics.increment(errorCode);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(errorCode.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+}
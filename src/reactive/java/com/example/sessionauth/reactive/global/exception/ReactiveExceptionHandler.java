@@ -0,0 +1,95 @@
+package com.example.sessionauth.reactive.global.exception;
+
+import com.example.sessionauth.global.exception.BusinessException;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import com.example.sessionauth.global.exception.ErrorCode;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import com.example.sessionauth.global.exception.RateLimitException;
+import com.example.sessionauth.global.response.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.resource.NoResourceFoundException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * reactive 컨트롤러 예외 처리 (GlobalExceptionHandler 와 같은 에러 코드/본문)
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler {
+
+    private final ErrorCodeMetrics errorCodeMetrics;
+
+    /**
+     * 도메인 비즈니스 에러
+     */
+    @ExceptionHandler(BusinessException.class)
+    protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+        log.error("BusinessException: {}", e.getMessage());
+        return toResponseEntity(ErrorResponse.of(e.getErrorCode()), e.getErrorCode());
+    }
+
+    /**
+     * 요청 한도 초과 (Retry-After: 초 단위, GlobalExceptionHandler 와 같음)
+     */
+    @ExceptionHandler(RateLimitException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitException(RateLimitException e) {
+        log.warn("RateLimitException: {}", e.getMessage());
+        errorCodeMetrics.increment(e.getErrorCode());
+        long retryAfterSeconds = (e.getRetryAfter().toMillis() + 999) / 1000;
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ErrorResponse.of(e.getErrorCode()));
+    }
+
+    /**
+     * 유효성 검사 실패 (@Valid @RequestBody)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    protected ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException e) {
+        log.error("WebExchangeBindException: {}", e.getMessage());
+        ErrorResponse response = ErrorResponse.of(CommonErrorCode.INVALID_INPUT_VALUE);
+        // 필드 오류 추가
+        e.getFieldErrors()
+                .forEach(error -> response.addFieldError(error.getField(), error.getDefaultMessage()));
+        return toResponseEntity(response, CommonErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    /**
+     * 요청 본문을 읽을 수 없음 (잘못된 JSON 등)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    protected ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException e) {
+        log.error("ServerWebInputException: {}", e.getMessage());
+        return toResponseEntity(ErrorResponse.of(CommonErrorCode.INVALID_INPUT_VALUE), CommonErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    /**
+     * 매핑되지 않은 경로 (서버 에러가 아니므로 404)
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    protected ResponseEntity<ErrorResponse> handleNoResourceFoundException(NoResourceFoundException e) {
+        log.debug("NoResourceFoundException: {}", e.getMessage());
+        return toResponseEntity(ErrorResponse.of(CommonErrorCode.RESOURCE_NOT_FOUND), CommonErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    /**
+     * 서버 에러
+     */
+    @ExceptionHandler(Exception.class)
+    protected ResponseEntity<ErrorResponse> handleException(Exception e) {
+        log.error("Exception: {}", e.getMessage(), e);
+        return toResponseEntity(ErrorResponse.of(CommonErrorCode.INTERNAL_SERVER_ERROR), CommonErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<ErrorResponse> toResponseEntity(ErrorResponse response, ErrorCode errorCode) {
+        errorCodeMetrics.increment(errorCode);
+        return ResponseEntity.status(errorCode.getStatus()).body(response);
+    }
+}
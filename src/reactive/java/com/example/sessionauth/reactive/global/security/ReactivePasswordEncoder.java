@@ -0,0 +1,81 @@
+package com.example.sessionauth.reactive.global.security;
+
+import com.example.sessionauth.global.exception.BusinessException;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시/검증을 전용 bounded elastic 스케줄러에서 수행하는 reactive 인코더 (BoundedPasswordEncoder 의 reactive 버전)
+ * - 이벤트 루프 스레드에서 BCrypt 를 실행하지 않으므로, 로그인이 몰려도 다른 요청의 I/O 처리가 멈추지 않음
+ * - 해시 연산이 동시에 threads 개 이상 실행되지 않고, 대기열이 가득 차면 기다리지 않고 429 (TOO_MANY_REQUESTS) 로 거절
+ * - bounded elastic 스케줄러의 대기열은 스레드별이므로 queueCapacity 를 스레드 수로 나눠 배정
+ * <pre>
+ * password.hash{operation=encode|matches} : 해시 연산 시간 (대기 시간 제외)
+ * password.hash.queue                    : 해시 스케줄러 대기열에서 기다린 시간
+ * </pre>
+ */
+public class ReactivePasswordEncoder implements AutoCloseable {
+
+    private static final String NAME = "password-hash";
+    private static final int IDLE_SECONDS = 60;
+
+    private final PasswordEncoder delegate;
+    private final Scheduler scheduler;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueTimer;
+
+    public ReactivePasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.scheduler = Schedulers.newBoundedElastic(threads, Math.max(1, queueCapacity / threads), NAME, IDLE_SECONDS, true);
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueTimer = Timer.builder("password.hash.queue")
+                .description("비밀번호 해시 대기열 대기 시간")
+                .register(meterRegistry);
+    }
+
+    public Mono<String> encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    public Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+
+    private <T> Mono<T> submit(Timer timer, Callable<T> task) {
+        return Mono.defer(() -> {
+                    long submittedAt = System.nanoTime();
+                    return Mono.fromCallable(() -> {
+                        queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                        return timer.recordCallable(task);
+                    }).subscribeOn(scheduler);
+                })
+                .onErrorMap(RejectedExecutionException.class, e -> new BusinessException(CommonErrorCode.TOO_MANY_REQUESTS));
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hash")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+}
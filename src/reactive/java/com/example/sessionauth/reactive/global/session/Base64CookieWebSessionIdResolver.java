@@ -0,0 +1,41 @@
+package com.example.sessionauth.reactive.global.session;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.session.CookieWebSessionIdResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 세션 ID 를 Base64 로 인코딩해 쿠키에 쓰는 WebSessionIdResolver
+ * - 서블릿 애플리케이션의 Spring Session 쿠키(DefaultCookieSerializer 기본값)와 같은 형식이므로, 같은 Redis 를 쓰는 서블릿/reactive 노드가 SESSION 쿠키를 함께 사용할 수 있음
+ * - Base64 로 디코딩할 수 없는 쿠키 값은 무시 (세션 없음)
+ */
+public class Base64CookieWebSessionIdResolver extends CookieWebSessionIdResolver {
+
+    @Override
+    public List<String> resolveSessionIds(ServerWebExchange exchange) {
+        List<String> encoded = super.resolveSessionIds(exchange);
+        if (encoded.isEmpty()) {
+            return encoded;
+        }
+
+        List<String> sessionIds = new ArrayList<>(encoded.size());
+        for (String value : encoded) {
+            try {
+                sessionIds.add(new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException ignored) {
+                // 다른 형식의 쿠키 값
+            }
+        }
+        return sessionIds;
+    }
+
+    @Override
+    public void setSessionId(ServerWebExchange exchange, String id) {
+        super.setSessionId(exchange, Base64.getEncoder().encodeToString(id.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.example.sessionauth.reactive.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.session.SessionExpiryEngine;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.PrincipalNameIndexResolver;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서블릿 애플리케이션(RedisIndexedSessionRepository)과 같은 보조 인덱스를 유지하는 reactive 세션 저장소
+ * - 세션 해시는 ReactiveRedisSessionRepository 가 저장하고, 저장/삭제 뒤 같은 키 형식의 인덱스를 Lua 스크립트 한 번으로 갱신
+ *   → 이 노드에서 만든 세션도 서블릿 노드의 동시 세션 제한, 관리자 세션 조회/만료, 만료 알림(감사 기록 등) 대상
+ * - principal 인덱스(SET), expires 키(TTL: 만료 시간), 만료 인덱스를 갱신하고 세션 해시는 만료 시간 + 5분 동안 유지
+ *   (만료/삭제 알림을 받은 서블릿 노드가 세션을 읽을 수 있어야 함)
+ * - 만료 인덱스: 세션 만료 엔진을 켰으면(app.session.expiry.enabled) 엔진의 shard ZSET, 아니면 Spring Session 의 분 단위 SET
+ * - 삭제는 RedisIndexedSessionRepository.deleteById 와 같이 만료 시간을 0 으로 바꾸고 expires 키를 지워 모든 노드에 삭제 알림을 보냄
+ */
+public class IndexedReactiveSessionRepository<S extends Session> implements ReactiveSessionRepository<S> {
+
+    // 만료/삭제 알림 처리를 위해 세션 해시를 남겨두는 시간 (RedisIndexedSessionRepository 와 같음)
+    private static final Duration RETENTION = Duration.ofMinutes(5);
+    private static final String MAX_INACTIVE_INTERVAL = "maxInactiveInterval";
+
+    /*
+     * KEYS[1] 세션 해시, KEYS[2] expires 키, KEYS[3] 만료 인덱스, KEYS[4] principal 인덱스 (principal 이 없으면 생략)
+     * ARGV[1] 만료 시간(ms), ARGV[2] 세션 해시 유지 시간(ms), ARGV[3] 만료 인덱스 종류(zset, set),
+     * ARGV[4] 만료 인덱스 member, ARGV[5] 만료 시각(zset score), ARGV[6] principal 인덱스 member
+     */
+    private static final RedisScript<Long> INDEX = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SET', KEYS[2], '', 'PX', ARGV[1])
+            if ARGV[3] == 'zset' then
+                redis.call('ZADD', KEYS[3], ARGV[5], ARGV[4])
+            else
+                redis.call('SADD', KEYS[3], ARGV[4])
+                redis.call('PEXPIRE', KEYS[3], ARGV[2])
+            end
+            if #KEYS == 4 then
+                redis.call('SADD', KEYS[4], ARGV[6])
+            end
+            return 1
+            """, Long.class);
+
+    /*
+     * KEYS[1] 세션 해시, KEYS[2] expires 키, KEYS[3] 만료 인덱스(shard ZSET, 분 단위 SET 은 생략), KEYS[4] principal 인덱스 (없으면 생략)
+     * ARGV[1] maxInactiveInterval 필드 이름, ARGV[2] 만료 시간 0 (직렬화된 값), ARGV[3] 세션 해시 유지 시간(ms),
+     * ARGV[4] 만료 인덱스 member, ARGV[5] principal 인덱스 member
+     */
+    private static final RedisScript<Long> DELETE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('DEL', KEYS[2])
+            if KEYS[3] ~= '' then
+                redis.call('ZREM', KEYS[3], ARGV[4])
+            end
+            if #KEYS == 4 then
+                redis.call('SREM', KEYS[4], ARGV[5])
+            end
+            return 1
+            """, Long.class);
+
+    private final ReactiveSessionRepository<S> delegate;
+    private final ReactiveRedisOperations<String, byte[]> redisOperations;
+    private final RedisSerializer<Object> sessionSerializer;
+    private final String redisNamespace;
+    private final String sessionKeyPrefix;
+    private final String expiresKeyPrefix;
+    private final String principalIndexKeyPrefix;
+    private final AppSessionProperties.Expiry expiry;
+    private final PrincipalNameIndexResolver<S> indexResolver = new PrincipalNameIndexResolver<>();
+
+    /**
+     * @param redisOperations   키는 문자열, 값은 바이트 그대로 전송하는 Redis 연산 (인덱스 member 는 미리 직렬화)
+     * @param sessionSerializer 세션 속성 직렬화기 (principal 인덱스 member 를 서블릿 저장소와 같은 형식으로 직렬화)
+     * @param redisNamespace    spring.session.redis.namespace
+     */
+    public IndexedReactiveSessionRepository(
+            ReactiveSessionRepository<S> delegate,
+            ReactiveRedisOperations<String, byte[]> redisOperations,
+            RedisSerializer<Object> sessionSerializer,
+            String redisNamespace,
+            AppSessionProperties.Expiry expiry
+    ) {
+        this.delegate = delegate;
+        this.redisOperations = redisOperations;
+        this.sessionSerializer = sessionSerializer;
+        this.redisNamespace = redisNamespace;
+        this.sessionKeyPrefix = redisNamespace + ":sessions:";
+        this.expiresKeyPrefix = sessionKeyPrefix + "expires:";
+        this.principalIndexKeyPrefix = redisNamespace + ":index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":";
+        this.expiry = expiry;
+    }
+
+    @Override
+    public Mono<S> createSession() {
+        return delegate.createSession();
+    }
+
+    /**
+     * 세션 저장 후 인덱스 갱신 (세션 ID 가 바뀐 경우 delegate 가 해시 키를 먼저 옮김)
+     */
+    @Override
+    public Mono<Void> save(S session) {
+        return delegate.save(session).then(Mono.defer(() -> index(session)));
+    }
+
+    @Override
+    public Mono<S> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    /**
+     * 세션 삭제 (인덱스에서 제외하고, 세션 해시는 삭제 알림 처리를 위해 유지 시간 동안 남겨 둠)
+     * - 남겨 둔 세션은 만료 시간이 0 이므로 조회되지 않음
+     */
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.findById(id)
+                .flatMap(this::unindex)
+                .then();
+    }
+
+    private Mono<Void> index(S session) {
+        Duration maxInactiveInterval = session.getMaxInactiveInterval();
+        if (maxInactiveInterval.isNegative()) {
+            return Mono.empty();
+        }
+        String id = session.getId();
+        long expiresAt = session.getLastAccessedTime().plus(maxInactiveInterval).toEpochMilli();
+        String principal = indexResolver.resolveIndexValueFor(session);
+
+        List<String> keys = new ArrayList<>(4);
+        keys.add(sessionKeyPrefix + id);
+        keys.add(expiresKeyPrefix + id);
+        List<byte[]> args = new ArrayList<>(6);
+        args.add(bytes(Long.toString(maxInactiveInterval.toMillis())));
+        args.add(bytes(Long.toString(maxInactiveInterval.plus(RETENTION).toMillis())));
+        if (expiry.enabled()) {
+            keys.add(SessionExpiryEngine.shardKey(redisNamespace, expiry.shards(), id));
+            args.add(bytes("zset"));
+            args.add(bytes(id));
+        } else {
+            keys.add(redisNamespace + ":expirations:" + roundUpToNextMinute(expiresAt));
+            args.add(bytes("set"));
+            args.add(sessionSerializer.serialize("expires:" + id));
+        }
+        args.add(bytes(Long.toString(expiresAt)));
+        if (principal != null) {
+            keys.add(principalIndexKeyPrefix + principal);
+            args.add(sessionSerializer.serialize(id));
+        }
+        return redisOperations.execute(INDEX, keys, args).then();
+    }
+
+    private Mono<Void> unindex(S session) {
+        String id = session.getId();
+        String principal = indexResolver.resolveIndexValueFor(session);
+
+        List<String> keys = new ArrayList<>(4);
+        keys.add(sessionKeyPrefix + id);
+        keys.add(expiresKeyPrefix + id);
+        // 분 단위 SET 에 남은 member 는 정리 작업이 expires 키를 확인할 때 무시됨
+        keys.add(expiry.enabled() ? SessionExpiryEngine.shardKey(redisNamespace, expiry.shards(), id) : "");
+        List<byte[]> args = new ArrayList<>(5);
+        args.add(bytes(MAX_INACTIVE_INTERVAL));
+        args.add(sessionSerializer.serialize(0));
+        args.add(bytes(Long.toString(RETENTION.toMillis())));
+        args.add(bytes(id));
+        if (principal != null) {
+            keys.add(principalIndexKeyPrefix + principal);
+            args.add(sessionSerializer.serialize(id));
+        }
+        return redisOperations.execute(DELETE, keys, args).then();
+    }
+
+    /**
+     * Spring Session 의 분 단위 만료 SET 키 시각 (만료 시각의 다음 분 0초)
+     */
+    private static long roundUpToNextMinute(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).plus(1, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MINUTES).toEpochMilli();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,24 @@
+-- 내장 DB(H2) 용 USER 테이블 (JPA 엔티티 AppUser 와 같은 구조, 운영 MySQL 은 서블릿 애플리케이션이 생성)
+CREATE TABLE IF NOT EXISTS USER (
+    id         BINARY(16)   NOT NULL PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    nickname   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_nickname UNIQUE (nickname)
+);
+
+-- 인증 감사 이벤트 (JPA 엔티티 AuthAuditEvent 와 같은 구조)
+CREATE TABLE IF NOT EXISTS auth_audit_event (
+    id          BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    type        VARCHAR(20)  NOT NULL,
+    user_id     BINARY(16),
+    email       VARCHAR(255),
+    client_ip   VARCHAR(45),
+    detail      VARCHAR(50),
+    occurred_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_auth_audit_user ON auth_audit_event (user_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_auth_audit_email ON auth_audit_event (email, occurred_at);
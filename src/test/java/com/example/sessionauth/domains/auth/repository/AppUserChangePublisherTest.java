@@ -0,0 +1,125 @@
+package com.example.sessionauth.domains.auth.repository;
+
+import com.example.sessionauth.domains.auth.model.AppUser;
+import com.example.sessionauth.domains.auth.model.AppUserChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 + Hibernate 로 사용자 엔티티 변경 커밋 시 이벤트 발행을 검증
+ */
+@SpringJUnitConfig(AppUserChangePublisherTest.TestConfig.class)
+@RecordApplicationEvents
+@DisplayName("AppUserChangePublisher")
+class AppUserChangePublisherTest {
+
+    @Configuration
+    @Import(AppUserChangePublisher.class)
+    static class TestConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(
+                    "jdbc:h2:mem:app-user-" + UUID.randomUUID() + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(AppUser.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(JpaTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = transactionTemplate.execute(status -> {
+            AppUser user = AppUser.create(UUID.randomUUID() + "@example.com", "encoded", UUID.randomUUID().toString().substring(0, 8));
+            entityManager.persist(user);
+            return user.getId();
+        });
+        events.clear();
+    }
+
+    @Test
+    @DisplayName("변경이 커밋되면 사용자 ID 로 이벤트를 발행한다")
+    void publishesOnCommittedUpdate() {
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                ReflectionTestUtils.setField(entityManager.find(AppUser.class, userId), "nickname", "renamed"));
+
+        // then
+        assertThat(events.stream(AppUserChangedEvent.class)).containsExactly(new AppUserChangedEvent(userId));
+    }
+
+    @Test
+    @DisplayName("삭제가 커밋되면 이벤트를 발행한다")
+    void publishesOnCommittedDelete() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> entityManager.remove(entityManager.find(AppUser.class, userId)));
+
+        // then
+        assertThat(events.stream(AppUserChangedEvent.class)).containsExactly(new AppUserChangedEvent(userId));
+    }
+
+    @Test
+    @DisplayName("롤백되면 이벤트를 발행하지 않는다")
+    void noEventOnRollback() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            ReflectionTestUtils.setField(entityManager.find(AppUser.class, userId), "nickname", "rolled");
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(events.stream(AppUserChangedEvent.class)).isEmpty();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.domains.auth.exception.AuthException;
+import com.example.sessionauth.domains.auth.model.AppUserChangedEvent;
+import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import com.example.sessionauth.domains.auth.service.AuthApplicationServiceConnectionTest.CountingDataSource;
+import com.example.sessionauth.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(AppUserQueryServiceTest.TestConfig.class)
+@DisplayName("AppUserQueryService")
+class AppUserQueryServiceTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({CacheConfig.class, AppUserQueryService.class, AppUserCacheInvalidator.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(AppUserQueryService.CACHE_NAME);
+        }
+
+        @Bean
+        CountingDataSource dataSource() {
+            return new CountingDataSource(new DriverManagerDataSource("jdbc:h2:mem:app-user-query;DB_CLOSE_DELAY=-1"));
+        }
+
+        @Bean
+        CountingTransactionManager transactionManager(DataSource dataSource) {
+            return new CountingTransactionManager(dataSource);
+        }
+    }
+
+    @MockitoBean
+    private AppUserRepository appUserRepository;
+
+    @MockitoBean
+    private RecentSignups recentSignups;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockitoBean(name = "springSessionRedisMessageListenerContainer")
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private AppUserQueryService appUserQueryService;
+
+    @Autowired
+    private AppUserCacheInvalidator appUserCacheInvalidator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CountingDataSource dataSource;
+
+    @Autowired
+    private CountingTransactionManager transactionManager;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(AppUserQueryService.CACHE_NAME).clear();
+        given(appUserRepository.findResponseById(userId))
+                .willReturn(Optional.of(new AppUserResponse("user@example.com", "nick")));
+    }
+
+    @Test
+    @DisplayName("같은 사용자를 다시 조회하면 DB 를 조회하지 않는다")
+    void cachesByUserId() {
+        // when
+        AppUserResponse first = appUserQueryService.getUser(userId);
+        AppUserResponse second = appUserQueryService.getUser(userId);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(appUserRepository, times(1)).findResponseById(userId);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 트랜잭션을 시작하지 않고 DB 커넥션을 빌리지 않는다")
+    void cacheHitOpensNoTransaction() {
+        // given
+        appUserQueryService.getUser(userId);
+        dataSource.reset();
+        transactionManager.reset();
+
+        // when
+        appUserQueryService.getUser(userId);
+
+        // then
+        assertThat(transactionManager.begun()).isZero();
+        assertThat(dataSource.borrowed()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자가 변경되면 캐시를 비우고 다시 조회한다")
+    void evictsOnChange() {
+        // given
+        appUserQueryService.getUser(userId);
+
+        // when
+        appUserCacheInvalidator.onChanged(new AppUserChangedEvent(userId));
+        appUserQueryService.getUser(userId);
+
+        // then
+        verify(appUserRepository, times(2)).findResponseById(userId);
+        verify(redisTemplate).convertAndSend("app:auth:event:user-changed", userId.toString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 전파를 받으면 캐시를 비운다")
+    void evictsOnRemoteChange() {
+        // given
+        appUserQueryService.getUser(userId);
+
+        // when
+        appUserCacheInvalidator.onMessage(message(userId.toString()), null);
+        appUserQueryService.getUser(userId);
+
+        // then
+        verify(appUserRepository, times(2)).findResponseById(userId);
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 예외가 발생하고 캐시하지 않는다")
+    void missingUserIsNotCached() {
+        // given
+        UUID unknown = UUID.randomUUID();
+        given(appUserRepository.findResponseById(any())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> appUserQueryService.getUser(unknown)).isInstanceOf(AuthException.class);
+        assertThatThrownBy(() -> appUserQueryService.getUser(unknown)).isInstanceOf(AuthException.class);
+        verify(appUserRepository, times(2)).findResponseById(unknown);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("app:auth:event:user-changed".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 시작한 트랜잭션 수를 기록하는 트랜잭션 매니저
+     */
+    static class CountingTransactionManager extends DataSourceTransactionManager {
+
+        private final AtomicInteger begun = new AtomicInteger();
+
+        CountingTransactionManager(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.incrementAndGet();
+            super.doBegin(transaction, definition);
+        }
+
+        int begun() {
+            return begun.get();
+        }
+
+        void reset() {
+            begun.set(0);
+        }
+    }
+}
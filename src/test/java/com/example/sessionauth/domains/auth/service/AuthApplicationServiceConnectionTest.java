@@ -0,0 +1,257 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.dto.request.LoginRequest;
+import com.example.sessionauth.domains.auth.dto.response.AppUserResponse;
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.domains.auth.exception.AuthException;
+import com.example.sessionauth.domains.auth.model.AppUser;
+import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import com.example.sessionauth.global.exception.RateLimitException;
+import com.example.sessionauth.global.security.BoundedPasswordEncoder;
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.PasswordUpgrader;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+/**
+ * 트랜잭션 프록시를 적용한 AuthApplicationService 의 DB 커넥션 사용 검증
+ * - DataSource 는 getConnection 호출 수를 기록 (H2 인메모리, 커넥션 풀 크기 1)
+ * - 비밀번호 해시는 스레드 1개 + 대기열 1개, 테스트가 풀어줄 때까지 해시 스레드를 붙잡아 둠
+ */
+@SpringJUnitConfig(AuthApplicationServiceConnectionTest.TestConfig.class)
+@DisplayName("AuthApplicationService 커넥션 사용")
+class AuthApplicationServiceConnectionTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({AuthApplicationService.class, AppUserQueryService.class, LoginMetrics.class})
+    static class TestConfig {
+
+        @Bean
+        HikariDataSource pool() {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl("jdbc:h2:mem:auth-connection;DB_CLOSE_DELAY=-1");
+            config.setMaximumPoolSize(1);
+            config.setConnectionTimeout(250);
+            return new HikariDataSource(config);
+        }
+
+        @Bean
+        CountingDataSource dataSource(HikariDataSource pool) {
+            return new CountingDataSource(pool);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+            return new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, meterRegistry);
+        }
+    }
+
+    // 해시 스레드를 붙잡아 두는 래치 (테스트마다 새로 만듦)
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+
+    @MockitoBean
+    private AppUserRepository appUserRepository;
+
+    @MockitoBean
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+
+    @MockitoBean
+    private RecentSignups recentSignups;
+
+    @MockitoBean
+    private AuthAuditTrail authAuditTrail;
+
+    @MockitoBean
+    private SecurityContextRepository securityContextRepository;
+
+    @MockitoBean
+    private SessionAuthenticationStrategy sessionAuthenticationStrategy;
+
+    @MockitoBean
+    private PasswordUpgrader passwordUpgrader;
+
+    @Autowired
+    private AuthApplicationService authApplicationService;
+
+    @Autowired
+    private CountingDataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final LoginRequest request = new LoginRequest("unknown@example.com", "password");
+
+    @BeforeEach
+    void setUp() {
+        dataSource.reset();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("가입 이메일 필터가 거절한 로그인은 DB 커넥션을 빌리지 않는다")
+    void filteredEmailBorrowsNoConnection() {
+        // given
+        given(registeredEmailFilter.mightContain(any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(this::login)
+                .isInstanceOf(AuthException.class)
+                .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(AuthErrorCode.NOT_FOUND_USER));
+        assertThat(dataSource.borrowed()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패 횟수 제한으로 거절한 로그인은 DB 커넥션을 빌리지 않는다")
+    void throttledLoginBorrowsNoConnection() {
+        // given
+        willThrow(new RateLimitException(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS, Duration.ofSeconds(1)))
+                .given(loginThrottle).checkAllowed(any(), any());
+
+        // when & then
+        assertThatThrownBy(this::login).isInstanceOf(RateLimitException.class);
+        assertThat(dataSource.borrowed()).isZero();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 스레드와 대기열이 가득 차도 사용자 정보 조회는 DB 커넥션을 얻는다")
+    void hashWaitHoldsNoConnection() {
+        // given (해시 중인 로그인 1건 + 대기열의 로그인 1건, 커넥션 풀 크기 1)
+        AppUser user = AppUser.builder()
+                .id(UUID.randomUUID())
+                .email("user@example.com")
+                .password("hash")
+                .nickname("nick")
+                .build();
+        given(registeredEmailFilter.mightContain(any())).willReturn(true);
+        given(appUserRepository.findByEmail(any())).willReturn(Optional.of(user));
+        given(appUserRepository.findResponseById(user.getId())).willReturn(Optional.of(new AppUserResponse("user@example.com", "nick")));
+        CompletableFuture<Void> running = CompletableFuture.runAsync(this::login);
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(this::login);
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("executor.queued").tag("name", "password-hash").gauge().value() == 1);
+
+        // when (/me: 읽기 전용 트랜잭션으로 조회)
+        CustomUserDetails userDetails = CustomUserDetails.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        AppUserResponse response = authApplicationService.getCurrentUser();
+
+        // then
+        assertThat(response.email()).isEqualTo("user@example.com");
+        release.countDown();
+        assertThat(running).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(queued).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    private void login() {
+        authApplicationService.login(new MockHttpServletRequest(), new MockHttpServletResponse(), request);
+    }
+
+    /**
+     * release 전까지 해시 스레드를 붙잡아 두는 인코더 (검증은 항상 성공)
+     */
+    static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * getConnection 호출 수를 기록하는 DataSource
+     */
+    static class CountingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger borrowed = new AtomicInteger();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            borrowed.incrementAndGet();
+            return super.getConnection();
+        }
+
+        int borrowed() {
+            return borrowed.get();
+        }
+
+        void reset() {
+            borrowed.set(0);
+        }
+    }
+}
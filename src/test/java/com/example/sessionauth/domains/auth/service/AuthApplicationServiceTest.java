@@ -0,0 +1,112 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.dto.request.SignupRequest;
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.domains.auth.exception.AuthException;
+import com.example.sessionauth.domains.auth.model.AppUser;
+import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthApplicationService")
+class AuthApplicationServiceTest {
+
+    @Mock
+    private AppUserRepository appUserRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private RecentSignups recentSignups;
+
+    @Mock
+    private AuthAuditTrail authAuditTrail;
+
+    @InjectMocks
+    private AuthApplicationService authApplicationService;
+
+    @Nested
+    @DisplayName("회원가입")
+    class Signup {
+
+        private final SignupRequest request = new SignupRequest("user@example.com", "password", "nick");
+
+        @BeforeEach
+        void setUp() {
+            given(passwordEncoder.encode("password")).willReturn("encoded");
+        }
+
+        @Test
+        @DisplayName("중복 검사 조회 없이 INSERT 한 번으로 저장한다")
+        void singleInsert() {
+            // given
+            given(appUserRepository.saveAndFlush(any(AppUser.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            authApplicationService.signup(new MockHttpServletRequest(), request);
+
+            // then
+            verify(appUserRepository, never()).existsByEmail(anyString());
+            verify(appUserRepository, never()).existsByNickname(anyString());
+        }
+
+        @Test
+        @DisplayName("닉네임 유니크 제약 위반은 DUPLICATE_NICKNAME 으로 변환한다")
+        void nicknameConstraint() {
+            // given
+            given(appUserRepository.saveAndFlush(any(AppUser.class)))
+                    .willThrow(violation("USER." + AppUser.NICKNAME_UNIQUE_CONSTRAINT));
+
+            // when & then
+            assertThatThrownBy(() -> authApplicationService.signup(new MockHttpServletRequest(), request))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(AuthErrorCode.DUPLICATE_NICKNAME));
+            verify(appUserRepository, never()).existsByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("제약 이름으로 구분할 수 없으면 조회해서 원인을 찾는다")
+        void unknownConstraint() {
+            // given
+            given(appUserRepository.saveAndFlush(any(AppUser.class))).willThrow(violation("UK6dotkott2kjsp8vw4d0m25fb7"));
+            given(appUserRepository.existsByEmail(request.email())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> authApplicationService.signup(new MockHttpServletRequest(), request))
+                    .isInstanceOf(AuthException.class)
+                    .satisfies(e -> assertThat(((AuthException) e).getErrorCode()).isEqualTo(AuthErrorCode.DUPLICATE_EMAIL));
+        }
+
+        private DataIntegrityViolationException violation(String constraintName) {
+            return new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry", "23000"), constraintName)
+            );
+        }
+    }
+}
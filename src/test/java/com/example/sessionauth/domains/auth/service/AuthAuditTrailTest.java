@@ -0,0 +1,82 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.domains.auth.model.AuthAuditEvent;
+import com.example.sessionauth.domains.auth.model.AuthEventType;
+import com.example.sessionauth.domains.auth.repository.AuthAuditEventWriter;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AuthAuditTrail")
+class AuthAuditTrailTest {
+
+    private final AuthAuditEventWriter writer = mock(AuthAuditEventWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // INSERT 한 번에 전달된 이벤트 목록
+    private final List<List<AuthAuditEvent>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트를 flush-size 단위 배치로 모두 저장한다")
+    void flushesInBatchesOnStop() {
+        // given
+        AuthAuditTrail trail = trail(16, 2, Duration.ofMinutes(1));
+        trail.start();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            trail.loginFailed("user" + i + "@example.com", "127.0.0.1", AuthErrorCode.INVALID_PASSWORD);
+        }
+        trail.stop();
+
+        // then
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(batches.stream().flatMap(List::stream))
+                .hasSize(5)
+                .allSatisfy(event -> {
+                    assertThat(event.getType()).isEqualTo(AuthEventType.LOGIN_FAILURE);
+                    assertThat(event.getDetail()).isEqualTo("INVALID_PASSWORD");
+                });
+        assertThat(meterRegistry.get("auth.audit.events").tag("result", "written").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 요청을 기다리게 하지 않고 버린 건수를 센다")
+    void dropsWhenFull() {
+        // given (저장 스레드를 시작하지 않아 버퍼가 비워지지 않음)
+        AuthAuditTrail trail = trail(4, 2, Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            trail.loginFailed("user@example.com", "127.0.0.1", AuthErrorCode.INVALID_PASSWORD);
+        }
+
+        // then
+        assertThat(meterRegistry.get("auth.audit.events").tag("result", "dropped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.audit.buffer.size").gauge().value()).isEqualTo(4);
+    }
+
+    private AuthAuditTrail trail(int bufferSize, int flushSize, Duration flushInterval) {
+        doAnswer(invocation -> batches.add(List.copyOf(invocation.<List<AuthAuditEvent>>getArgument(0))))
+                .when(writer).insertAll(anyList());
+        AppSecurityProperties properties = new AppSecurityProperties(
+                new AppSecurityProperties.PasswordHashing(1, 1, 4, Duration.ofMillis(100)),
+                new AppSecurityProperties.EmailFilter(false, 0.01),
+                new AppSecurityProperties.LoginThrottle(false, Duration.ofMinutes(5), 10, 100, 1_000),
+                new AppSecurityProperties.Audit(true, bufferSize, flushSize, flushInterval),
+                new AppSecurityProperties.Csrf("hmac", "", true, "XSRF-TOKEN", "X-XSRF-TOKEN")
+        );
+        return new AuthAuditTrail(writer, mock(StringRedisTemplate.class), properties, meterRegistry);
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.exception.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginThrottle")
+class LoginThrottleTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final int MAX_FAILURES_PER_EMAIL = 3;
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private final LettuceConnectionFactory connectionFactory = connectionFactory();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("이메일별 실패 횟수가 한도에 도달하면 Retry-After 와 함께 거절한다")
+    void rejectsAfterMaxFailures() {
+        // given
+        LoginThrottle throttle = throttle();
+        failTimes(throttle, "10.0.0.1", MAX_FAILURES_PER_EMAIL);
+
+        // when & then
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, "10.0.0.2"))
+                .isInstanceOf(RateLimitException.class)
+                .satisfies(e -> {
+                    RateLimitException exception = (RateLimitException) e;
+                    assertThat(exception.getErrorCode()).isEqualTo(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+                    assertThat(exception.getRetryAfter()).isPositive().isLessThanOrEqualTo(WINDOW.multipliedBy(2));
+                });
+        assertThatCode(() -> throttle.checkAllowed("other@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Retry-After 가 지나면 다시 허용한다")
+    void allowsAfterRetryAfter() {
+        // given
+        LoginThrottle throttle = throttle();
+        failTimes(throttle, "10.0.0.1", MAX_FAILURES_PER_EMAIL);
+        Duration retryAfter = retryAfter(throttle);
+
+        // when
+        clock.advance(retryAfter);
+
+        // then
+        assertThatCode(() -> throttle.checkAllowed(EMAIL, "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 실패 횟수도 동기화 후 합산된다")
+    void synchronizesAcrossNodes() {
+        // given
+        LoginThrottle nodeA = throttle();
+        LoginThrottle nodeB = throttle();
+        failTimes(nodeA, "10.0.0.1", MAX_FAILURES_PER_EMAIL - 1);
+        failTimes(nodeB, "10.0.0.2", 1);
+
+        // when
+        nodeB.synchronize();
+        nodeA.synchronize();
+
+        // then
+        assertThatThrownBy(() -> nodeA.checkAllowed(EMAIL, "10.0.0.3")).isInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    @DisplayName("마지막 동기화 이후 실패가 없는 키는 Redis 에 다시 보내지 않는다")
+    void synchronizesOnlyChangedKeys() {
+        // given
+        LoginThrottle throttle = throttle();
+        failTimes(throttle, "10.0.0.1", 1);
+        throttle.synchronize();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        String emailKey = redisKey(clock.millis() / WINDOW.toMillis());
+        redisTemplate.delete(emailKey);
+
+        // when
+        throttle.synchronize();
+
+        // then
+        assertThat(redisTemplate.hasKey(emailKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("구간이 바뀌기 전에 동기화하지 못한 실패도 직전 구간에 합산된다")
+    void flushesRetiredBucket() {
+        // given (구간 경계 1초 전)
+        clock.advance(WINDOW.minusSeconds(1));
+        long retiredIndex = clock.millis() / WINDOW.toMillis();
+        LoginThrottle nodeA = throttle();
+        LoginThrottle nodeB = throttle();
+        failTimes(nodeB, "10.0.0.2", 1);
+        nodeB.synchronize();
+        failTimes(nodeA, "10.0.0.1", MAX_FAILURES_PER_EMAIL - 1);
+
+        // when (동기화 전에 다음 구간으로 넘어감)
+        clock.advance(Duration.ofSeconds(2));
+        nodeA.synchronize();
+
+        // then
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        assertThat(redisTemplate.opsForValue().get(redisKey(retiredIndex)))
+                .isEqualTo(String.valueOf(MAX_FAILURES_PER_EMAIL));
+        failTimes(nodeA, "10.0.0.1", 1);
+        assertThatThrownBy(() -> nodeA.checkAllowed(EMAIL, "10.0.0.3")).isInstanceOf(RateLimitException.class);
+    }
+
+    private static String redisKey(long bucketIndex) {
+        return "app:auth:login-throttle:email:" + EMAIL + ":" + bucketIndex;
+    }
+
+    private LoginThrottle throttle() {
+        AppSecurityProperties properties = new AppSecurityProperties(
+                new AppSecurityProperties.PasswordHashing(1, 1, 4, Duration.ofMillis(100)),
+                new AppSecurityProperties.EmailFilter(false, 0.01),
+                new AppSecurityProperties.LoginThrottle(true, WINDOW, MAX_FAILURES_PER_EMAIL, 100, 1_000),
+                new AppSecurityProperties.Audit(false, 16, 16, Duration.ofSeconds(1)),
+                new AppSecurityProperties.Csrf("hmac", "", true, "XSRF-TOKEN", "X-XSRF-TOKEN")
+        );
+        return new LoginThrottle(properties, new StringRedisTemplate(connectionFactory), new SimpleMeterRegistry(), clock);
+    }
+
+    private static void failTimes(LoginThrottle throttle, String clientIp, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.checkAllowed(EMAIL, clientIp);
+            throttle.recordFailure(EMAIL, clientIp);
+        }
+    }
+
+    private static Duration retryAfter(LoginThrottle throttle) {
+        try {
+            throttle.checkAllowed(EMAIL, "10.0.0.1");
+        } catch (RateLimitException e) {
+            return e.getRetryAfter();
+        }
+        throw new AssertionError("거절되지 않았습니다.");
+    }
+
+    private static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
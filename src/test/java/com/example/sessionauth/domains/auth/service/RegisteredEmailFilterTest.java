@@ -0,0 +1,163 @@
+package com.example.sessionauth.domains.auth.service;
+
+import com.example.sessionauth.domains.auth.repository.AppUserEmail;
+import com.example.sessionauth.domains.auth.repository.AppUserRepository;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 전파 메시지는 실제 구독 대신 onMessage 로 직접 전달해 유실/순서 뒤바뀜을 재현
+ */
+@DisplayName("RegisteredEmailFilter")
+class RegisteredEmailFilterTest {
+
+    private static final String CHANNEL = "app:auth:event:email-registered";
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private final LettuceConnectionFactory connectionFactory = connectionFactory();
+    private final StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+    private final AppUserRepository appUserRepository = mock(AppUserRepository.class);
+    // DB 에 저장된 이메일 (재구성 시 조회)
+    private final List<String> registered = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(appUserRepository.count()).willAnswer(invocation -> (long) registered.size());
+        given(appUserRepository.findEmailsAfter(any(), any())).willAnswer(invocation -> {
+            UUID after = invocation.getArgument(0);
+            return after.equals(new UUID(0, 0))
+                    ? registered.stream().map(email -> new AppUserEmail(UUID.randomUUID(), email)).toList()
+                    : List.of();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 가입 전파를 받지 못했으면 필터에 없는 이메일도 거절하지 않는다")
+    void fallsBackWhenPropagationIsLost() {
+        // given
+        RegisteredEmailFilter nodeA = filter();
+        RegisteredEmailFilter nodeB = filter();
+        nodeA.rebuild();
+        nodeB.rebuild();
+
+        // when (nodeB 는 전파 메시지를 받지 못함)
+        registered.add("new@example.com");
+        nodeA.add("new@example.com");
+
+        // then
+        assertThat(nodeB.mightContain("new@example.com")).isTrue();
+        assertThat(nodeA.mightContain("new@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성하면 유실된 전파가 반영되어 다시 가입하지 않은 이메일을 거절한다")
+    void rebuildCatchesUp() {
+        // given
+        RegisteredEmailFilter nodeA = filter();
+        RegisteredEmailFilter nodeB = filter();
+        nodeA.rebuild();
+        nodeB.rebuild();
+        registered.add("new@example.com");
+        nodeA.add("new@example.com");
+
+        // when
+        nodeB.rebuild();
+
+        // then
+        assertThat(nodeB.mightContain("new@example.com")).isTrue();
+        assertThat(nodeB.mightContain("unknown@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("전파를 모두 받았으면 순서가 뒤바뀌어도 가입하지 않은 이메일을 거절한다")
+    void rejectsWhenUpToDate() {
+        // given
+        RegisteredEmailFilter nodeA = filter();
+        RegisteredEmailFilter nodeB = filter();
+        nodeA.rebuild();
+        nodeB.rebuild();
+        nodeA.add("first@example.com");
+        nodeA.add("second@example.com");
+
+        // when
+        deliver(nodeB, "2:second@example.com");
+        boolean beforeGapFilled = nodeB.mightContain("unknown@example.com");
+        deliver(nodeB, "1:first@example.com");
+
+        // then
+        assertThat(beforeGapFilled).isTrue();
+        assertThat(nodeB.mightContain("first@example.com")).isTrue();
+        assertThat(nodeB.mightContain("second@example.com")).isTrue();
+        assertThat(nodeB.mightContain("unknown@example.com")).isFalse();
+    }
+
+    private RegisteredEmailFilter filter() {
+        AppSecurityProperties properties = new AppSecurityProperties(
+                new AppSecurityProperties.PasswordHashing(1, 1, 4, Duration.ofMillis(100)),
+                new AppSecurityProperties.EmailFilter(true, 0.01),
+                new AppSecurityProperties.LoginThrottle(false, Duration.ofMinutes(5), 10, 100, 1_000),
+                new AppSecurityProperties.Audit(false, 16, 16, Duration.ofSeconds(1)),
+                new AppSecurityProperties.Csrf("hmac", "", true, "XSRF-TOKEN", "X-XSRF-TOKEN")
+        );
+        return new RegisteredEmailFilter(appUserRepository, redisTemplate, mock(RedisMessageListenerContainer.class),
+                properties, new SimpleMeterRegistry());
+    }
+
+    private static void deliver(RegisteredEmailFilter node, String body) {
+        node.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.sessionauth.domains.session.service;
+
+import com.example.sessionauth.domains.session.dto.request.SessionCondition;
+import com.example.sessionauth.domains.session.dto.response.SessionRevokeResponse;
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.exception.BusinessException;
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import redis.embedded.RedisServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SessionAdminService")
+class SessionAdminServiceTest {
+
+    private static final String CONTEXT_KEY = "SPRING_SECURITY_CONTEXT";
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private final LettuceConnectionFactory connectionFactory = connectionFactory();
+    private final RedisSerializer<Object> serializer = new CompactSessionRedisSerializer(
+            List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()),
+            new JdkSerializationRedisSerializer()
+    );
+    private final RedisIndexedSessionRepository redis = redisRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionAdminService service = new SessionAdminService(
+            redis,
+            "spring:session",
+            new AppSessionProperties(null, null, new AppSessionProperties.Admin(2), null),
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            meterRegistry
+    );
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("SCAN 배치 크기보다 많은 세션도 한 줄에 하나씩 모두 출력한다")
+    void streamsAllSessionsAsNdjson() {
+        // given
+        createSession("a@example.com", "ROLE_USER");
+        createSession("b@example.com", "ROLE_USER");
+        createSession("c@example.com", "ROLE_ADMIN");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        service.stream(new SessionCondition(null, null, null, null), out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3)
+                .anySatisfy(line -> assertThat(line).contains("\"principal\":\"c@example.com\"", "ROLE_ADMIN"));
+    }
+
+    @Nested
+    @DisplayName("일괄 만료")
+    class Revoke {
+
+        @Test
+        @DisplayName("조건에 맞는 세션만 만료시키고 principal 인덱스에서 제외한다")
+        void revokesMatchingSessions() {
+            // given
+            String admin = createSession("admin@example.com", "ROLE_ADMIN");
+            String user = createSession("user@example.com", "ROLE_USER");
+
+            // when
+            SessionRevokeResponse response = service.revoke(new SessionCondition(null, "ROLE_ADMIN", null, null), false);
+
+            // then
+            assertThat(response).isEqualTo(new SessionRevokeResponse(2, 1, 1));
+            assertThat(redis.findById(admin)).isNull();
+            assertThat(redis.findById(user)).isNotNull();
+            assertThat(redis.findByPrincipalName("admin@example.com")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("principal 조건이면 인덱스로 해당 사용자의 세션만 만료시킨다")
+        void revokesByPrincipalIndex() {
+            // given
+            createSession("user@example.com", "ROLE_USER");
+            createSession("user@example.com", "ROLE_USER");
+            String other = createSession("other@example.com", "ROLE_USER");
+
+            // when
+            SessionRevokeResponse response = service.revoke(SessionCondition.ofPrincipal("user@example.com"), false);
+
+            // then
+            assertThat(response.revoked()).isEqualTo(2);
+            assertThat(redis.findByPrincipalName("user@example.com")).isEmpty();
+            assertThat(redis.findById(other)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("dryRun 이면 대상 수만 세고 만료시키지 않는다")
+        void dryRun() {
+            // given
+            String id = createSession("user@example.com", "ROLE_USER");
+
+            // when
+            SessionRevokeResponse response = service.revoke(new SessionCondition(null, "ROLE_USER", null, null), true);
+
+            // then
+            assertThat(response).isEqualTo(new SessionRevokeResponse(1, 1, 0));
+            assertThat(redis.findById(id)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("조건이 없으면 거절한다")
+        void rejectsEmptyCondition() {
+            assertThatThrownBy(() -> service.revoke(new SessionCondition(null, null, null, null), false))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    private String createSession(String principal, String authority) {
+        RedisSession session = redis.createSession();
+        session.setAttribute(CONTEXT_KEY, new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, AuthorityUtils.createAuthorityList(authority)
+        )));
+        session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principal);
+        redis.save(session);
+        return session.getId();
+    }
+
+    private static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private RedisIndexedSessionRepository redisRepository() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setDefaultSerializer(serializer);
+        template.afterPropertiesSet();
+
+        RedisIndexedSessionRepository repository = new RedisIndexedSessionRepository(template);
+        repository.setDefaultSerializer(serializer);
+        return repository;
+    }
+}
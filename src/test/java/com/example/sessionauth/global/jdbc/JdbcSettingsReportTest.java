@@ -0,0 +1,54 @@
+package com.example.sessionauth.global.jdbc;
+
+import com.example.sessionauth.global.jdbc.JdbcSettingsReport.JdbcSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcSettingsReport")
+class JdbcSettingsReportTest {
+
+    @Test
+    @DisplayName("운영 권장 설정이면 경고하지 않는다")
+    void tunedSettingsHaveNoIssues() {
+        // given
+        JdbcSettings settings = settings(false, false, 50, 20, true);
+
+        // when
+        List<String> issues = settings.validate();
+
+        // then
+        assertThat(issues).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SQL 로그, 배치 미사용, 가변 풀, 드라이버 캐시 미사용을 모두 경고한다")
+    void defaultSettingsAreReported() {
+        // given
+        JdbcSettings settings = settings(true, true, 0, 10, false);
+
+        // when
+        List<String> issues = settings.validate();
+
+        // then
+        assertThat(issues)
+                .hasSize(8)
+                .anyMatch(issue -> issue.contains("show_sql"))
+                .anyMatch(issue -> issue.contains("batch_size"))
+                .anyMatch(issue -> issue.contains("minimumIdle"))
+                .anyMatch(issue -> issue.contains("rewriteBatchedStatements"));
+    }
+
+    private static JdbcSettings settings(boolean showSql, boolean sqlLog, int batchSize, int minimumIdle, boolean driverCache) {
+        return new JdbcSettings(
+                "app-db", 20, minimumIdle, Duration.ofSeconds(3), Duration.ofMinutes(30),
+                true, driverCache, driverCache, driverCache, driverCache ? "250" : "-",
+                batchSize, batchSize > 1, batchSize > 1,
+                showSql, sqlLog, sqlLog, 200
+        );
+    }
+}
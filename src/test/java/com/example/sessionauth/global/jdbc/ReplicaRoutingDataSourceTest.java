@@ -0,0 +1,223 @@
+package com.example.sessionauth.global.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary / replica 로 사용해 라우팅을 검증
+ */
+@DisplayName("ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofMillis(300);
+
+    private LazyConnectionDataSourceProxy dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        setUp(Map.of("replica-0", database("replica")));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 에서 실행한다")
+    void routesByReadOnlyFlag() {
+        // when
+        String read = readOnly.execute(status -> currentNode());
+        String written = readWrite.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("replica");
+        assertThat(written).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("ReadRouting.primary 범위의 조회는 읽기 전용이어도 primary 에서 실행한다")
+    void forcedPrimary() {
+        // when
+        String read = readOnly.execute(status -> ReadRouting.primary(this::currentNode));
+
+        // then
+        assertThat(read).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("커넥션을 얻지 못한 replica 는 제외하고 primary 에서 조회한다")
+    void fallsBackToPrimary() {
+        // given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable"));
+        setUp(replicas);
+
+        // when
+        String read = readOnly.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("primary");
+        assertThat(routingDataSource.isHealthy("replica-0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("상태 확인이 제한 시간 안에 끝나지 않은 replica 는 기다리지 않고 제외한다")
+    void healthCheckTimeout() {
+        // given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", new DelegatingDataSource(database("replica")) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                // 풀의 connectionTimeout 동안 커넥션을 기다리는 상황
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getConnection();
+            }
+        });
+        replicas.put("replica-1", database("replica"));
+        setUp(replicas);
+
+        // when
+        long started = System.nanoTime();
+        routingDataSource.checkHealth();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // then
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        assertThat(routingDataSource.isHealthy("replica-0")).isFalse();
+        assertThat(routingDataSource.isHealthy("replica-1")).isTrue();
+    }
+
+    /**
+     * 애플리케이션과 같은 JpaTransactionManager + Hibernate (커넥션 획득 지연: DELAYED_ACQUISITION_AND_HOLD)
+     */
+    @Nested
+    @DisplayName("JPA 트랜잭션")
+    class Jpa {
+
+        private EntityManagerFactory entityManagerFactory;
+        private EntityManager entityManager;
+        private TransactionTemplate jpaReadOnly;
+        private TransactionTemplate jpaReadWrite;
+
+        @BeforeEach
+        void setUpJpa() {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(ReplicaRoutingDataSource.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_HOLD"));
+            factory.afterPropertiesSet();
+            entityManagerFactory = factory.getObject();
+            entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            jpaReadWrite = new TransactionTemplate(transactionManager);
+            jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+        }
+
+        @AfterEach
+        void tearDownJpa() {
+            entityManagerFactory.close();
+        }
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 에서 실행한다")
+        void routesByReadOnlyFlag() {
+            // when
+            String read = jpaReadOnly.execute(status -> currentNode());
+            String written = jpaReadWrite.execute(status -> currentNode());
+
+            // then
+            assertThat(read).isEqualTo("replica");
+            assertThat(written).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("ReadRouting.primary 범위의 조회는 읽기 전용이어도 primary 에서 실행한다")
+        void forcedPrimary() {
+            // when
+            String read = jpaReadOnly.execute(status -> ReadRouting.primary(this::currentNode));
+
+            // then
+            assertThat(read).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션이 끝난 뒤의 쓰기 트랜잭션은 다시 primary 에서 실행한다")
+        void readOnlyFlagIsReset() {
+            // given
+            jpaReadOnly.execute(status -> currentNode());
+
+            // when
+            String written = jpaReadWrite.execute(status -> currentNode());
+
+            // then
+            assertThat(written).isEqualTo("primary");
+        }
+
+        private String currentNode() {
+            return (String) entityManager.createNativeQuery("select name from node").getSingleResult();
+        }
+    }
+
+    private void setUp(Map<String, DataSource> replicas) {
+        DataSource primary = database("primary");
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ZERO, HEALTH_CHECK_TIMEOUT, new SimpleMeterRegistry());
+
+        dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    /**
+     * 자기 이름을 저장한 독립 DB 인스턴스
+     */
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
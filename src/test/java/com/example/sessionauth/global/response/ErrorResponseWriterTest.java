@@ -0,0 +1,111 @@
+package com.example.sessionauth.global.response;
+
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.global.config.JacksonConfig;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import com.example.sessionauth.global.exception.ErrorCode;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorResponseWriter")
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = JacksonConfig.objectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper, new ErrorCodeMetrics(meterRegistry));
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(CommonErrorCode.class)
+    @DisplayName("ObjectMapper 로 직렬화한 ErrorResponse 와 timestamp 외에는 같다")
+    void sameAsObjectMapper(CommonErrorCode errorCode) throws Exception {
+        assertSameAsObjectMapper(errorCode);
+    }
+
+    @Test
+    @DisplayName("기동 시 인코딩하지 않은 에러 코드는 처음 쓸 때 인코딩한다")
+    void encodesOtherErrorCodesOnFirstUse() throws Exception {
+        assertSameAsObjectMapper(AuthErrorCode.INVALID_PASSWORD);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "2026-01-02T03:04:05",
+            "2026-12-31T23:59:59.5",
+            "2026-06-15T12:00:00.120",
+            "2026-06-15T12:00:00.000001",
+            "2026-06-15T12:00:00.123456789",
+            "+12026-06-15T12:00:00.1"
+    })
+    @DisplayName("timestamp 는 ObjectMapper(ISO_LOCAL_DATE_TIME) 와 같은 형식으로 쓴다")
+    void timestampFormat(String value) throws Exception {
+        // given
+        LocalDateTime timestamp = LocalDateTime.parse(value);
+
+        // when
+        JsonNode actual = objectMapper.readTree(writer.toBytes(CommonErrorCode.UNAUTHORIZED, timestamp));
+
+        // then
+        assertThat(actual.get("timestamp").asText()).isEqualTo(objectMapper.convertValue(timestamp, String.class));
+    }
+
+    @Test
+    @DisplayName("상태 코드와 본문을 응답에 바로 쓴다")
+    void writesToResponse() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        writer.write(response, CommonErrorCode.UNAUTHORIZED);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("message").asText())
+                .isEqualTo(CommonErrorCode.UNAUTHORIZED.getMessage());
+    }
+
+    @Test
+    @DisplayName("필터 단계 응답도 에러 코드별 응답 횟수에 집계한다")
+    void countsFilterStageResponses() throws Exception {
+        // when
+        writer.write(new MockHttpServletResponse(), CommonErrorCode.UNAUTHORIZED);
+        writer.write(new MockHttpServletResponse(), CommonErrorCode.UNAUTHORIZED);
+        writer.write(new MockHttpServletResponse(), CommonErrorCode.FORBIDDEN);
+        writer.toBytes(CommonErrorCode.FORBIDDEN);
+
+        // then
+        assertThat(meterRegistry.get("app.errors").tag("code", CommonErrorCode.UNAUTHORIZED.getCode()).tag("status", "401")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.errors").tag("code", CommonErrorCode.FORBIDDEN.getCode()).tag("status", "403")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private void assertSameAsObjectMapper(ErrorCode errorCode) throws Exception {
+        // given
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsBytes(ErrorResponse.of(errorCode)));
+
+        // when
+        JsonNode actual = objectMapper.readTree(writer.toBytes(errorCode));
+
+        // then
+        assertThat(LocalDateTime.parse(actual.get("timestamp").asText())).isBeforeOrEqualTo(LocalDateTime.now());
+        ((ObjectNode) expected).remove("timestamp");
+        ((ObjectNode) actual).remove("timestamp");
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.sessionauth.global.security;
+
+import com.example.sessionauth.global.exception.BusinessException;
+import com.example.sessionauth.global.exception.CommonErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("BoundedPasswordEncoder")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("해시 스레드에서 인코딩/검증하고 연산 시간을 기록한다")
+    void delegatesOnHashThread() {
+        // given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, meterRegistry);
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 가득 차면 기다리지 않고 TOO_MANY_REQUESTS 로 거절한다")
+    void rejectsWhenSaturated() {
+        // given
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.matches("running", "hash"));
+        CompletableFuture.runAsync(() -> encoder.matches("queued", "hash"));
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("executor.queued").tag("name", "password-hash").gauge().value() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("rejected", "hash"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(CommonErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * 테스트가 끝날 때까지 해시 스레드를 붙잡아 두는 인코더
+     */
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+}
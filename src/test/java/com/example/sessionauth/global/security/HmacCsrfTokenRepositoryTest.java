@@ -0,0 +1,140 @@
+package com.example.sessionauth.global.security;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.csrf.CsrfToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HmacCsrfTokenRepository")
+class HmacCsrfTokenRepositoryTest {
+
+    private static final String COOKIE_NAME = "XSRF-TOKEN";
+
+    private final HmacCsrfTokenRepository repository = repository("secret");
+
+    @Nested
+    @DisplayName("토큰")
+    class Token {
+
+        @Test
+        @DisplayName("같은 세션 ID 와 키면 어느 노드에서든 같은 토큰이다")
+        void deterministicAcrossNodes() {
+            assertThat(repository.token("session-1")).isEqualTo(repository("secret").token("session-1"));
+        }
+
+        @Test
+        @DisplayName("세션 ID 나 키가 다르면 토큰이 다르다")
+        void boundToSessionAndSecret() {
+            assertThat(repository.token("session-1"))
+                    .isNotEqualTo(repository.token("session-2"))
+                    .isNotEqualTo(repository("other").token("session-1"));
+        }
+
+        @Test
+        @DisplayName("가상 스레드에서 동시에 계산해도 Mac 을 공유하지 않아 토큰이 같다")
+        void concurrentVirtualThreads() throws Exception {
+            // given
+            String expected = repository.token("session-1");
+
+            // when
+            List<String> tokens;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<String>> futures = IntStream.range(0, 10_000)
+                        .mapToObj(i -> executor.submit(() -> repository.token("session-1")))
+                        .toList();
+                tokens = futures.stream().map(future -> {
+                    try {
+                        return future.get();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).toList();
+            }
+
+            // then
+            assertThat(tokens).containsOnly(expected);
+        }
+
+        @Test
+        @DisplayName("세션이 없으면 저장된 토큰이 없다")
+        void noSession() {
+            assertThat(repository.loadToken(new MockHttpServletRequest())).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠키")
+    class CookieWrite {
+
+        @Test
+        @DisplayName("요청 쿠키와 값이 같으면 쓰지 않는다")
+        void skipsUnchangedCookie() {
+            // given
+            MockHttpServletRequest request = requestWithSession("session-1");
+            request.setCookies(new Cookie(COOKIE_NAME, repository.token("session-1")));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            repository.loadDeferredToken(request, response).get();
+            repository.saveToken(repository.loadToken(request), request, response);
+
+            // then
+            assertThat(response.getHeaders(HttpHeaders.SET_COOKIE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("세션이 있는데 쿠키가 없거나 세션 ID 가 바뀌면 새 토큰을 쓴다")
+        void writesChangedCookie() {
+            // given
+            MockHttpServletRequest request = requestWithSession("session-2");
+            request.setCookies(new Cookie(COOKIE_NAME, repository.token("session-1")));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            CsrfToken token = repository.generateToken(request);
+            repository.saveToken(token, request, response);
+
+            // then
+            assertThat(token.getToken()).isEqualTo(repository.token("session-2"));
+            assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(COOKIE_NAME + "=" + token.getToken());
+        }
+
+        @Test
+        @DisplayName("쿠키가 없는 기존 세션은 토큰을 계산하지 않아도 응답에 쿠키를 쓴다")
+        void bootstrapsMissingCookie() {
+            // given
+            MockHttpServletRequest request = requestWithSession("session-1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            repository.loadDeferredToken(request, response);
+
+            // then
+            assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(COOKIE_NAME + "=" + repository.token("session-1"));
+        }
+    }
+
+    private static MockHttpServletRequest requestWithSession(String sessionId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(new MockHttpSession(null, sessionId));
+        return request;
+    }
+
+    private static HmacCsrfTokenRepository repository(String secret) {
+        return new HmacCsrfTokenRepository(secret.getBytes(StandardCharsets.UTF_8), COOKIE_NAME, "X-XSRF-TOKEN");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.sessionauth.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PasswordUpgrader")
+class PasswordUpgraderTest {
+
+    private static final String RAW_PASSWORD = "password";
+
+    private final PasswordEncoder passwordEncoder = passwordEncoder(5);
+    private final UserDetailsPasswordService userDetailsPasswordService = mock(UserDetailsPasswordService.class);
+    private final PasswordUpgrader passwordUpgrader = new PasswordUpgrader(
+            passwordEncoder,
+            userDetailsPasswordService,
+            new TaskExecutorAdapter(Runnable::run)
+    );
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시는 현재 설정으로 재해시한다")
+    void upgradesLegacyHash() {
+        // given
+        String legacy = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+        CustomUserDetails user = user(legacy);
+
+        // when
+        passwordUpgrader.upgradeIfNeeded(user, RAW_PASSWORD);
+
+        // then
+        ArgumentCaptor<UserDetails> userCaptor = ArgumentCaptor.forClass(UserDetails.class);
+        ArgumentCaptor<String> passwordCaptor = ArgumentCaptor.forClass(String.class);
+        verify(userDetailsPasswordService).updatePassword(userCaptor.capture(), passwordCaptor.capture());
+        assertThat(userCaptor.getValue().getPassword()).isEqualTo(legacy);
+        assertThat(passwordCaptor.getValue()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches(RAW_PASSWORD, passwordCaptor.getValue())).isTrue();
+    }
+
+    @Test
+    @DisplayName("strength 가 낮은 해시는 재해시한다")
+    void upgradesWeakerHash() {
+        // given
+        CustomUserDetails user = user(passwordEncoder(4).encode(RAW_PASSWORD));
+
+        // when
+        passwordUpgrader.upgradeIfNeeded(user, RAW_PASSWORD);
+
+        // then
+        verify(userDetailsPasswordService).updatePassword(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("현재 설정으로 만든 해시는 재해시하지 않는다")
+    void keepsCurrentHash() {
+        // given
+        CustomUserDetails user = user(passwordEncoder.encode(RAW_PASSWORD));
+
+        // when
+        passwordUpgrader.upgradeIfNeeded(user, RAW_PASSWORD);
+
+        // then
+        verify(userDetailsPasswordService, never()).updatePassword(any(), anyString());
+    }
+
+    private static PasswordEncoder passwordEncoder(int strength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        return encoder;
+    }
+
+    private static CustomUserDetails user(String password) {
+        return CustomUserDetails.builder()
+                .userId(UUID.randomUUID())
+                .email("user@example.com")
+                .password(password)
+                .nickname("nick")
+                .authorities(Set.of(Role.USER.toGrantedAuthority()))
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+    }
+}
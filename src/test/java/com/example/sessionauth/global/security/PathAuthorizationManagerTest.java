@@ -0,0 +1,133 @@
+package com.example.sessionauth.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.SingleResultAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PathAuthorizationManager")
+class PathAuthorizationManagerTest {
+
+    private final PathAuthorizationManager manager = PathAuthorizationManager.builder()
+            .permitAll("/public/**", "/favicon.ico")
+            .permitAll("/api/auth/**")
+            .hasRole("ADMIN", "/api/admin/**")
+            .hasRole("USER", "/api/**")
+            .authenticated("/api/auth/status")
+            .anyRequest(SingleResultAuthorizationManager.denyAll(), "denyAll")
+            .build();
+
+    @Nested
+    @DisplayName("규칙 선택")
+    class Resolve {
+
+        @ParameterizedTest(name = "{0} → {1}")
+        @CsvSource({
+                "/favicon.ico, permitAll",
+                "/public, permitAll",
+                "/public/css/app.css, permitAll",
+                "/api/auth/login, permitAll",
+                "/api/auth/status, permitAll",
+                "/api/admin/sessions, hasRole(ADMIN)",
+                "/api/admin, hasRole(ADMIN)",
+                "/api, hasRole(USER)",
+                "/api/users/me, hasRole(USER)",
+                "/favicon.ico/x, denyAll",
+                "/, denyAll",
+                "/other/path, denyAll"
+        })
+        @DisplayName("선언 순서상 먼저 일치하는 규칙을 적용한다")
+        void firstMatchingRule(String path, String expected) {
+            assertThat(manager.resolve(request("", path)).name()).isEqualTo(expected);
+        }
+
+        @ParameterizedTest(name = "{0} → {1}")
+        @CsvSource({
+                "/api/%61dmin/sessions, hasRole(ADMIN)",
+                "/api/%61%64%6D%69%6E, hasRole(ADMIN)",
+                "/api/admin;x=1/sessions, hasRole(ADMIN)",
+                "/api;x=1/admin/sessions, hasRole(ADMIN)",
+                "/api/admin/sessions;jsessionid=abc, hasRole(ADMIN)",
+                "/%61pi/users/me, hasRole(USER)",
+                "/public;x=1/css/app.css, permitAll"
+        })
+        @DisplayName("인코딩된 경로와 ;파라미터는 MVC 매핑과 같이 디코딩하고 떼어낸 경로로 비교한다")
+        void canonicalizesEncodedAndMatrixSegments(String path, String expected) {
+            assertThat(manager.resolve(request("", path)).name()).isEqualTo(expected);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @CsvSource({
+                "/api/Admin/sessions",
+                "/api/ADMIN",
+                "/API/users/me",
+                "/api/%41dmin/sessions",
+                "/api/%zzadmin/sessions"
+        })
+        @DisplayName("규칙 경로와 대소문자만 다르거나 디코딩할 수 없는 경로는 규칙을 찾지 않는다 (거부)")
+        void rejectsCaseVariantsAndMalformedEncoding(String path) {
+            assertThat(manager.resolve(request("", path))).isNull();
+        }
+
+        @Test
+        @DisplayName("컨텍스트 경로를 제외하고 비교한다")
+        void stripsContextPath() {
+            assertThat(manager.resolve(request("/app", "/app/api/admin/x")).name()).isEqualTo("hasRole(ADMIN)");
+        }
+    }
+
+    @Test
+    @DisplayName("규칙의 인가 방식으로 판단한다")
+    void delegatesToRuleAccess() {
+        // given
+        Authentication user = UsernamePasswordAuthenticationToken.authenticated("user", null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymous", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+        // when & then
+        assertThat(manager.authorize(() -> user, context("/api/users/me")).isGranted()).isTrue();
+        assertThat(manager.authorize(() -> user, context("/api/admin/sessions")).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> anonymous, context("/api/auth/login")).isGranted()).isTrue();
+        assertThat(manager.authorize(() -> user, context("/api/%61dmin/sessions")).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> user, context("/api/admin;x=1/sessions")).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> user, context("/api/Admin/sessions")).isGranted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("앞선 규칙에 가려진 규칙을 알려준다")
+    void reportsShadowedRules() {
+        assertThat(manager.getShadowedRules())
+                .singleElement()
+                .satisfies(shadowed -> {
+                    assertThat(shadowed.rule()).contains("/api/auth/status");
+                    assertThat(shadowed.shadowedBy()).contains("/api/auth/**");
+                });
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 패턴은 기동 시 거절한다")
+    void rejectsUnsupportedPattern() {
+        assertThatThrownBy(() -> PathAuthorizationManager.builder().permitAll("/api/*/me").build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RequestAuthorizationContext context(String path) {
+        return new RequestAuthorizationContext(request("", path));
+    }
+
+    private static MockHttpServletRequest request(String contextPath, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath(contextPath);
+        return request;
+    }
+}
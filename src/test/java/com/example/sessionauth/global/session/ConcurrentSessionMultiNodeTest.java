@@ -0,0 +1,199 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.JacksonConfig;
+import com.example.sessionauth.global.config.SecurityConfig;
+import com.example.sessionauth.global.exception.ErrorCodeMetrics;
+import com.example.sessionauth.global.response.ErrorResponseWriter;
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.HmacCsrfTokenRepository;
+import com.example.sessionauth.global.security.Role;
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 하나를 공유하는 두 노드(각자 커넥션/세션 저장소/레지스트리 보유)로 동시 세션 제어를 검증
+ */
+@DisplayName("다중 노드 동시 세션 제어")
+class ConcurrentSessionMultiNodeTest {
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.template.getConnectionFactory().getConnection().serverCommands().flushAll();
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 로그인하면 기존 노드의 세션이 만료된다")
+    void loginOnAnotherNodeExpiresPreviousSession() {
+        // given
+        String sessionA = nodeA.login("user@example.com");
+
+        // when
+        String sessionB = nodeB.login("user@example.com");
+
+        // then
+        assertThat(nodeA.registry.getSessionInformation(sessionA).isExpired()).isTrue();
+        assertThat(nodeA.registry.getSessionInformation(sessionB).isExpired()).isFalse();
+        assertThat(nodeB.registry.getAllSessions(principal("user@example.com"), false))
+                .extracting(SessionInformation::getSessionId)
+                .containsExactly(sessionB);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 세션에는 영향을 주지 않는다")
+    void otherPrincipalsAreIsolated() {
+        // given
+        String sessionA = nodeA.login("first@example.com");
+
+        // when
+        nodeB.login("second@example.com");
+
+        // then
+        assertThat(nodeB.registry.getSessionInformation(sessionA).isExpired()).isFalse();
+        assertThat(nodeB.registry.getAllSessions(principal("first@example.com"), false)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("세션이 삭제되면 principal 인덱스에서도 제외된다")
+    void deletedSessionIsRemovedFromIndex() {
+        // given
+        String sessionA = nodeA.login("user@example.com");
+
+        // when
+        nodeB.repository.deleteById(sessionA);
+
+        // then
+        assertThat(nodeA.registry.getAllSessions(principal("user@example.com"), true)).isEmpty();
+    }
+
+    private static CustomUserDetails principal(String email) {
+        return CustomUserDetails.builder()
+                .userId(UUID.nameUUIDFromBytes(email.getBytes()))
+                .email(email)
+                .nickname(email)
+                .authorities(Set.of(Role.USER.toGrantedAuthority()))
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+    }
+
+    /**
+     * 애플리케이션 노드 하나 (SessionConfig / SecurityConfig 와 같은 구성)
+     */
+    private static class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisTemplate<String, Object> template;
+        private final RedisIndexedSessionRepository repository;
+        private final SpringSessionBackedSessionRegistry<RedisSession> registry;
+        private final SessionAuthenticationStrategy strategy;
+
+        Node() {
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            RedisSerializer<Object> serializer = new CompactSessionRedisSerializer(
+                    List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()),
+                    new JdkSerializationRedisSerializer()
+            );
+
+            template = new RedisTemplate<>();
+            template.setConnectionFactory(connectionFactory);
+            template.setKeySerializer(RedisSerializer.string());
+            template.setHashKeySerializer(RedisSerializer.string());
+            template.setDefaultSerializer(serializer);
+            template.afterPropertiesSet();
+
+            repository = new RedisIndexedSessionRepository(template);
+            repository.setDefaultSerializer(serializer);
+            registry = new SpringSessionBackedSessionRegistry<>(repository);
+            ErrorResponseWriter errorResponseWriter =
+                    new ErrorResponseWriter(JacksonConfig.objectMapper(), new ErrorCodeMetrics(new SimpleMeterRegistry()));
+            strategy = new SecurityConfig(errorResponseWriter, registry).sessionAuthenticationStrategy(
+                    new HmacCsrfTokenRepository("secret".getBytes(), "XSRF-TOKEN", "X-XSRF-TOKEN")
+            );
+        }
+
+        /**
+         * AuthApplicationService.login 과 같은 순서로 세션 처리 후 SecurityContext 저장
+         */
+        String login(String email) {
+            CustomUserDetails userDetails = principal(email);
+            Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities());
+            strategy.onAuthentication(authentication, new MockHttpServletRequest(), new MockHttpServletResponse());
+
+            RedisSession session = repository.createSession();
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(authentication));
+            repository.save(session);
+            return session.getId();
+        }
+
+        void close() {
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("NearCacheSessionRepository")
+class NearCacheSessionRepositoryTest {
+
+    private static final String CHANNEL = "spring:session:event:near-cache:invalidated";
+    private static final String CONTEXT_KEY = "SPRING_SECURITY_CONTEXT";
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("캐시에 적중하면 Redis 를 다시 조회하지 않는다")
+    void cacheHitSkipsRedis() {
+        // given
+        String id = nodeA.createSession();
+
+        // when
+        nodeA.cache.findById(id);
+        nodeA.cache.findById(id);
+        nodeA.cache.findById(id);
+
+        // then
+        assertThat(nodeA.loadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청마다 속성 객체를 새로 복원해 공유하지 않는다")
+    void attributesAreNotShared() {
+        // given
+        String id = nodeA.createSession();
+        nodeA.cache.findById(id);
+
+        // when
+        Object first = nodeA.cache.findById(id).getAttribute(CONTEXT_KEY);
+        Object second = nodeA.cache.findById(id).getAttribute(CONTEXT_KEY);
+
+        // then
+        assertThat(first).isNotNull().isNotSameAs(second);
+    }
+
+    @Test
+    @DisplayName("캐시된 세션을 변경해 저장하면 Redis 에 반영된다")
+    void writeThroughFromCachedSession() {
+        // given
+        String id = nodeA.createSession();
+        nodeA.cache.findById(id);
+        NearCachedSession<RedisSession> session = nodeA.cache.findById(id);
+
+        // when
+        session.setAttribute("theme", "dark");
+        nodeA.cache.save(session);
+
+        // then
+        assertThat(nodeA.redis.findById(id).<String>getAttribute("theme")).isEqualTo("dark");
+        assertThat(nodeA.redis.findById(id).<Object>getAttribute(CONTEXT_KEY)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 변경하면 캐시가 무효화된다")
+    void remoteUpdateInvalidates() {
+        // given
+        String id = nodeA.createSession();
+        nodeA.cache.findById(id);
+
+        // when
+        NearCachedSession<RedisSession> session = nodeB.cache.findById(id);
+        session.setAttribute("theme", "dark");
+        nodeB.cache.save(session);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(nodeA.cache.findById(id).<String>getAttribute("theme")).isEqualTo("dark"));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제(로그아웃)하면 캐시가 무효화된다")
+    void remoteDeleteInvalidates() {
+        // given
+        String id = nodeA.createSession();
+        nodeA.cache.findById(id);
+
+        // when
+        nodeB.cache.deleteById(id);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(nodeA.cache.findById(id)).isNull());
+    }
+
+    /**
+     * 애플리케이션 노드 하나 (SessionConfig 와 같은 구성)
+     */
+    private static class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final RedisIndexedSessionRepository redis;
+        private final NearCacheSessionRepository<RedisSession> cache;
+
+        Node() {
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            RedisSerializer<Object> serializer = new CompactSessionRedisSerializer(
+                    List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()),
+                    new JdkSerializationRedisSerializer()
+            );
+            RedisTemplate<String, Object> template = new RedisTemplate<>();
+            template.setConnectionFactory(connectionFactory);
+            template.setKeySerializer(RedisSerializer.string());
+            template.setHashKeySerializer(RedisSerializer.string());
+            template.setDefaultSerializer(serializer);
+            template.afterPropertiesSet();
+
+            redis = new RedisIndexedSessionRepository(template);
+            redis.setDefaultSerializer(serializer);
+
+            cache = new NearCacheSessionRepository<>(
+                    redis,
+                    serializer,
+                    new StringRedisTemplate(connectionFactory),
+                    CHANNEL,
+                    new AppSessionProperties.NearCache(true, 100, Duration.ofMinutes(1)),
+                    meterRegistry
+            );
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(cache, new ChannelTopic(CHANNEL));
+            container.afterPropertiesSet();
+            container.start();
+        }
+
+        String createSession() {
+            NearCachedSession<RedisSession> session = cache.createSession();
+            session.setAttribute(CONTEXT_KEY, new SecurityContextImpl(
+                    UsernamePasswordAuthenticationToken.authenticated("user@example.com", null, List.of())
+            ));
+            cache.save(session);
+            return session.getId();
+        }
+
+        long loadCount() {
+            return meterRegistry.get("session.near-cache.load").timer().count();
+        }
+
+        void close() {
+            container.stop();
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import org.springframework.session.events.SessionExpiredEvent;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내장 Redis 하나를 공유하는 두 노드의 세션 만료 엔진 검증
+ */
+@DisplayName("SessionExpiryEngine")
+class SessionExpiryEngineTest {
+
+    private static final AppSessionProperties.Expiry PROPERTIES =
+            new AppSessionProperties.Expiry(true, 4, Duration.ofSeconds(1), Duration.ofSeconds(1), 2, Duration.ofSeconds(30));
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisIndexedSessionRepository repository;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        RedisSerializer<Object> serializer = new CompactSessionRedisSerializer(
+                List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()),
+                new JdkSerializationRedisSerializer()
+        );
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setDefaultSerializer(serializer);
+        template.afterPropertiesSet();
+
+        nodeA = new Node(serializer);
+        nodeB = new Node(serializer);
+        repository = new RedisIndexedSessionRepository(template);
+        repository.setDefaultSerializer(serializer);
+        repository.setExpirationStore(nodeA.engine);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 한 노드에서만 만료 이벤트가 발행되고 principal 인덱스에서 제외된다")
+    void expiredSessionIsProcessedOnce() {
+        // given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(login("user@example.com", Duration.ofSeconds(1)));
+        }
+        long later = Instant.now().plusSeconds(10).toEpochMilli();
+
+        // when
+        nodeA.engine.processDueBuckets(later);
+        nodeB.engine.processDueBuckets(later);
+
+        // then
+        List<SessionExpiredEvent> events = new ArrayList<>(nodeA.events);
+        events.addAll(nodeB.events);
+        assertThat(events).extracting(SessionExpiredEvent::getSessionId).containsExactlyInAnyOrderElementsOf(ids);
+        Session expired = events.getFirst().getSession();
+        assertThat(expired.<Object>getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY))
+                .isInstanceOf(SecurityContextImpl.class);
+        assertThat(repository.findByPrincipalName("user@example.com")).isEmpty();
+        assertThat(count(nodeA.meterRegistry, "claimed") + count(nodeB.meterRegistry, "claimed")).isEqualTo(PROPERTIES.shards());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나지 않은 세션은 처리하지 않는다")
+    void activeSessionIsKept() {
+        // given
+        String id = login("user@example.com", Duration.ofMinutes(30));
+
+        // when
+        nodeA.engine.processDueBuckets(Instant.now().plusSeconds(10).toEpochMilli());
+
+        // then
+        assertThat(nodeA.events).isEmpty();
+        assertThat(repository.findByPrincipalName("user@example.com")).containsKey(id);
+    }
+
+    @Test
+    @DisplayName("삭제된 세션은 만료 인덱스에서 제외되어 만료 이벤트가 발행되지 않는다")
+    void deletedSessionIsNotExpired() {
+        // given
+        String id = login("user@example.com", Duration.ofSeconds(1));
+
+        // when
+        repository.deleteById(id);
+        nodeA.engine.processDueBuckets(Instant.now().plusSeconds(10).toEpochMilli());
+
+        // then
+        assertThat(nodeA.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이벤트 발행에 실패한 배치는 만료 인덱스로 되돌려 다음 버킷에서 다시 처리한다")
+    void failedBatchIsRequeued() {
+        // given
+        String id = login("user@example.com", Duration.ofSeconds(1));
+        long later = Instant.now().plusSeconds(10).toEpochMilli();
+        nodeA.failure = new IllegalStateException("리스너 실패");
+
+        // when
+        nodeA.engine.processDueBuckets(later);
+        nodeA.failure = null;
+        nodeA.engine.processDueBuckets(later + PROPERTIES.bucketWidth().toMillis());
+
+        // then
+        assertThat(nodeA.events).extracting(SessionExpiredEvent::getSessionId).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("처리 도중 중단된 노드가 꺼낸 세션은 lease 가 끝난 뒤 다른 노드가 처리한다")
+    void claimedSessionOfStoppedNodeIsRecovered() {
+        // given (nodeA 가 꺼낸 뒤 ack 전에 중단)
+        String id = login("user@example.com", Duration.ofSeconds(1));
+        long later = Instant.now().plusSeconds(10).toEpochMilli();
+        nodeA.failure = new Error("노드 중단");
+        assertThatThrownBy(() -> nodeA.engine.processDueBuckets(later)).isInstanceOf(Error.class);
+
+        // when
+        nodeB.engine.processDueBuckets(later + PROPERTIES.bucketWidth().toMillis());
+        List<SessionExpiredEvent> duringLease = List.copyOf(nodeB.events);
+        nodeB.engine.processDueBuckets(later + PROPERTIES.leaseTime().toMillis() + PROPERTIES.bucketWidth().toMillis());
+
+        // then
+        assertThat(duringLease).isEmpty();
+        assertThat(nodeA.events).isEmpty();
+        assertThat(nodeB.events).extracting(SessionExpiredEvent::getSessionId).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("keyspace 알림에서 만료 알림만 끈다")
+    void disablesExpiredNotifications() {
+        // given
+        connectionFactory.getConnection().serverCommands().setConfig("notify-keyspace-events", "Egx");
+
+        // when
+        SessionExpiryEngine.configureKeyspaceNotifications(connectionFactory.getConnection());
+
+        // then
+        assertThat(connectionFactory.getConnection().serverCommands().getConfig("notify-keyspace-events").values())
+                .singleElement()
+                .satisfies(options -> assertThat((String) options).contains("E", "g").doesNotContain("x"));
+    }
+
+    private String login(String email, Duration maxInactiveInterval) {
+        RedisSession session = repository.createSession();
+        session.setMaxInactiveInterval(maxInactiveInterval);
+        session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, email);
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(email, null, List.of())));
+        repository.save(session);
+        return session.getId();
+    }
+
+    private static double count(MeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("session.expiry.buckets").tag("result", result).counter().count();
+    }
+
+    /**
+     * 애플리케이션 노드 하나 (SessionConfig 와 같은 구성)
+     */
+    private class Node {
+
+        private final List<SessionExpiredEvent> events = new ArrayList<>();
+        private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final SessionExpiryEngine engine;
+        // 이벤트 발행 시 던질 예외 (리스너 실패, 노드 중단)
+        private Throwable failure;
+
+        Node(RedisSerializer<Object> serializer) {
+            engine = new SessionExpiryEngine(
+                    stringRedisTemplate,
+                    serializer,
+                    "spring:session",
+                    event -> {
+                        if (failure instanceof RuntimeException e) {
+                            throw e;
+                        }
+                        if (failure instanceof Error e) {
+                            throw e;
+                        }
+                        events.add((SessionExpiredEvent) event);
+                    },
+                    PROPERTIES,
+                    meterRegistry
+            );
+        }
+    }
+}
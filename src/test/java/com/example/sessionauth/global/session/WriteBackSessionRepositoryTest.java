@@ -0,0 +1,280 @@
+package com.example.sessionauth.global.session;
+
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.session.codec.CompactSessionRedisSerializer;
+import com.example.sessionauth.global.session.codec.IntegerCodec;
+import com.example.sessionauth.global.session.codec.LongCodec;
+import com.example.sessionauth.global.session.codec.SecurityContextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WriteBackSessionRepository")
+class WriteBackSessionRepositoryTest {
+
+    private static final String CONTEXT_KEY = "SPRING_SECURITY_CONTEXT";
+    private static final String PRINCIPAL = "user@example.com";
+    private static final Duration GRANULARITY = Duration.ofMinutes(1);
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private final LettuceConnectionFactory connectionFactory = connectionFactory();
+    private final RedisSerializer<Object> serializer = new CompactSessionRedisSerializer(
+            List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()),
+            new JdkSerializationRedisSerializer()
+    );
+    private final RedisIndexedSessionRepository redis = redisRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Nested
+    @DisplayName("lastAccessedTime 만 바뀐 요청")
+    class Touch {
+
+        @Test
+        @DisplayName("touchGranularity 이내면 저장하지 않는다")
+        void skipsWithinGranularity() {
+            // given
+            WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+            String id = createSession(repository);
+            Instant saved = redis.findById(id).getLastAccessedTime();
+
+            // when
+            WriteBackSession<RedisSession> session = repository.findById(id);
+            session.setLastAccessedTime(saved.plusSeconds(30));
+            repository.save(session);
+
+            // then
+            assertThat(redis.findById(id).getLastAccessedTime()).isEqualTo(saved);
+            assertThat(saves("skipped-touch")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("touchGranularity 를 넘기면 저장한다")
+        void writesBeyondGranularity() {
+            // given
+            WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+            String id = createSession(repository);
+            Instant touched = redis.findById(id).getLastAccessedTime().plus(GRANULARITY);
+
+            // when
+            WriteBackSession<RedisSession> session = repository.findById(id);
+            session.setLastAccessedTime(touched);
+            repository.save(session);
+
+            // then
+            assertThat(redis.findById(id).getLastAccessedTime()).isEqualTo(touched);
+        }
+
+        @Test
+        @DisplayName("세션 만료 시간이 touchGranularity 이하이면 매 요청 저장한다")
+        void writesWhenMaxInactiveIntervalWithinGranularity() {
+            // given
+            WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+            WriteBackSession<RedisSession> created = repository.createSession();
+            created.setMaxInactiveInterval(GRANULARITY);
+            repository.save(created);
+            Instant touched = redis.findById(created.getId()).getLastAccessedTime().plusSeconds(30);
+
+            // when
+            WriteBackSession<RedisSession> session = repository.findById(created.getId());
+            session.setLastAccessedTime(touched);
+            repository.save(session);
+
+            // then
+            assertThat(redis.findById(created.getId()).getLastAccessedTime()).isEqualTo(touched);
+            assertThat(saves("skipped-touch")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("속성 변경")
+    class Attributes {
+
+        @Test
+        @DisplayName("기존 값과 같은 값을 다시 설정하면 저장하지 않는다")
+        void equalValueIsNotDirty() {
+            // given
+            WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+            String id = createSession(repository);
+
+            // when
+            WriteBackSession<RedisSession> session = repository.findById(id);
+            session.setAttribute(CONTEXT_KEY, securityContext());
+            repository.save(session);
+
+            // then
+            assertThat(saves("skipped-clean")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("변경된 속성을 파이프라인으로 저장해도 principal 인덱스가 유지된다")
+        void pipelinedSaveKeepsPrincipalIndex() {
+            // given
+            WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+            String id = createSession(repository);
+
+            // when
+            WriteBackSession<RedisSession> session = repository.findById(id);
+            session.setAttribute("theme", "dark");
+            repository.save(session);
+
+            // then
+            assertThat(redis.findById(id).<String>getAttribute("theme")).isEqualTo("dark");
+            assertThat(repository.findByIndexNameAndIndexValue(
+                    FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, PRINCIPAL
+            )).containsOnlyKeys(id);
+        }
+
+        @Test
+        @DisplayName("세션 ID 를 바꾸면 이전 ID 로는 조회되지 않는다")
+        void changeSessionId() {
+            // given
+            WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+            String oldId = createSession(repository);
+
+            // when
+            WriteBackSession<RedisSession> session = repository.findById(oldId);
+            String newId = session.changeSessionId();
+            repository.save(session);
+
+            // then
+            assertThat(repository.findById(oldId)).isNull();
+            assertThat(repository.findById(newId).<Object>getAttribute(CONTEXT_KEY)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("세션 ID 변경과 삭제가 활성 세션 수에 반영된다")
+    void activeSessions() {
+        // given
+        WriteBackSessionRepository<RedisSession> repository = writeBack(redis);
+        String first = createSession(repository);
+        createSession(repository);
+
+        // when
+        WriteBackSession<RedisSession> session = repository.findById(first);
+        session.changeSessionId();
+        repository.save(session);
+        repository.deleteById(session.getId());
+
+        // then
+        assertThat(meterRegistry.get("session.active").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("near-cache 를 감싸도 캐시된 세션의 변경이 파이프라인으로 저장된다")
+    void pipelinedSaveThroughNearCache() {
+        // given
+        NearCacheSessionRepository<RedisSession> nearCache = new NearCacheSessionRepository<>(
+                redis,
+                serializer,
+                new StringRedisTemplate(connectionFactory),
+                "spring:session:event:near-cache:invalidated",
+                new AppSessionProperties.NearCache(true, 100, Duration.ofMinutes(1)),
+                meterRegistry
+        );
+        WriteBackSessionRepository<NearCachedSession<RedisSession>> repository = writeBack(nearCache);
+        String id = createSession(repository);
+        repository.findById(id);
+
+        // when
+        WriteBackSession<NearCachedSession<RedisSession>> session = repository.findById(id);
+        session.setAttribute("theme", "dark");
+        repository.save(session);
+
+        // then
+        assertThat(redis.findById(id).<String>getAttribute("theme")).isEqualTo("dark");
+        assertThat(redis.findById(id).<Object>getAttribute(CONTEXT_KEY)).isNotNull();
+    }
+
+    private <S extends Session> WriteBackSessionRepository<S> writeBack(FindByIndexNameSessionRepository<S> delegate) {
+        return new WriteBackSessionRepository<>(
+                delegate,
+                redis.getSessionRedisOperations(),
+                new AppSessionProperties.WriteBack(GRANULARITY, true),
+                meterRegistry
+        );
+    }
+
+    private static <S extends Session> String createSession(WriteBackSessionRepository<S> repository) {
+        WriteBackSession<S> session = repository.createSession();
+        session.setAttribute(CONTEXT_KEY, securityContext());
+        session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, PRINCIPAL);
+        repository.save(session);
+        return session.getId();
+    }
+
+    private static SecurityContextImpl securityContext() {
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(PRINCIPAL, null, List.of()));
+    }
+
+    private double saves(String result) {
+        return meterRegistry.get("session.write-back.saves").tag("result", result).counter().count();
+    }
+
+    private static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private RedisIndexedSessionRepository redisRepository() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setDefaultSerializer(serializer);
+        template.afterPropertiesSet();
+
+        RedisIndexedSessionRepository repository = new RedisIndexedSessionRepository(template);
+        repository.setDefaultSerializer(serializer);
+        return repository;
+    }
+}
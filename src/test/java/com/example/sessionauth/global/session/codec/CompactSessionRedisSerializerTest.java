@@ -0,0 +1,162 @@
+package com.example.sessionauth.global.session.codec;
+
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.example.sessionauth.global.security.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactSessionRedisSerializer")
+class CompactSessionRedisSerializerTest {
+
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    private final CompactSessionRedisSerializer serializer = new CompactSessionRedisSerializer(
+            List.of(new SecurityContextCodec(), new LongCodec(), new IntegerCodec()), jdk
+    );
+
+    @Nested
+    @DisplayName("SecurityContext")
+    class SecurityContextEncoding {
+
+        @Test
+        @DisplayName("로그인 컨텍스트를 왕복 직렬화할 수 있다")
+        void roundTrip() {
+            // given
+            SecurityContext context = createContext(Set.of(Role.USER.toGrantedAuthority(), Role.ADMIN.toGrantedAuthority()));
+
+            // when
+            SecurityContext restored = (SecurityContext) serializer.deserialize(serializer.serialize(context));
+
+            // then
+            CustomUserDetails expected = (CustomUserDetails) context.getAuthentication().getPrincipal();
+            CustomUserDetails actual = (CustomUserDetails) restored.getAuthentication().getPrincipal();
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+            assertThat(restored.getAuthentication().isAuthenticated()).isTrue();
+            assertThat(restored.getAuthentication().getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        }
+
+        @Test
+        @DisplayName("JDK 직렬화보다 크기가 작다")
+        void smallerThanJdk() {
+            // given
+            SecurityContext context = createContext(Set.of(Role.USER.toGrantedAuthority()));
+
+            // when
+            int compact = serializer.serialize(context).length;
+            int jdkSize = jdk.serialize(context).length;
+
+            // then
+            assertThat(compact).isLessThan(jdkSize / 5);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 권한이 있으면 JDK 직렬화로 위임한다")
+        void unknownAuthorityFallsBackToJdk() {
+            // given
+            SecurityContext context = createContext(Set.of(new SimpleGrantedAuthority("SCOPE_read")));
+
+            // when
+            byte[] bytes = serializer.serialize(context);
+
+            // then
+            assertThat(bytes[0]).isEqualTo((byte) 0xAC);
+            assertThat(serializer.deserialize(bytes)).isInstanceOf(SecurityContextImpl.class);
+        }
+
+        @Test
+        @DisplayName("다른 Authentication 구현은 JDK 직렬화로 위임한다")
+        void otherAuthenticationFallsBackToJdk() {
+            // given
+            SecurityContext context = new SecurityContextImpl(new TestingAuthenticationToken("user", null, "ROLE_USER"));
+
+            // when
+            byte[] bytes = serializer.serialize(context);
+
+            // then
+            assertThat(bytes[0]).isEqualTo((byte) 0xAC);
+        }
+    }
+
+    @Nested
+    @DisplayName("세션 메타데이터 및 호환성")
+    class Compatibility {
+
+        @Test
+        @DisplayName("Long, Integer 는 태그 포함 고정 길이로 저장된다")
+        void scalarValues() {
+            assertThat(serializer.serialize(1_700_000_000_000L)).hasSize(9);
+            assertThat(serializer.serialize(1800)).hasSize(5);
+            assertThat(serializer.deserialize(serializer.serialize(1_700_000_000_000L))).isEqualTo(1_700_000_000_000L);
+            assertThat(serializer.deserialize(serializer.serialize(1800))).isEqualTo(1800);
+        }
+
+        @Test
+        @DisplayName("기존 JDK 직렬화 값을 그대로 읽을 수 있다")
+        void readsLegacyJdkValues() {
+            // given
+            byte[] legacy = jdk.serialize(createContext(Set.of(Role.USER.toGrantedAuthority())));
+
+            // when
+            Object restored = serializer.deserialize(legacy);
+
+            // then
+            assertThat(restored).isInstanceOf(SecurityContextImpl.class);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 태그는 예외가 발생한다")
+        void unknownTag() {
+            assertThatThrownBy(() -> serializer.deserialize(new byte[]{0x7F, 0x00}))
+                    .isInstanceOf(SerializationException.class);
+        }
+
+        @Test
+        @DisplayName("JDK 예약 태그를 사용하는 코덱은 등록할 수 없다")
+        void reservedTag() {
+            SessionAttributeCodec<Object> reserved = new SessionAttributeCodec<>() {
+                public byte tag() { return (byte) 0xAC; }
+                public boolean supports(Object value) { return false; }
+                public void write(Object value, DataOutput out) { }
+                public Object read(DataInput in) { return null; }
+            };
+
+            assertThatThrownBy(() -> new CompactSessionRedisSerializer(List.of(reserved), jdk))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private SecurityContext createContext(Set<GrantedAuthority> authorities) {
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .userId(UUID.randomUUID())
+                .email("user@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuJ3v0lKjzZ1lMvF3U8o8Q9h6l5ZbX2Oa")
+                .nickname("닉네임")
+                .authorities(authorities)
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(userDetails, null, authorities));
+    }
+}
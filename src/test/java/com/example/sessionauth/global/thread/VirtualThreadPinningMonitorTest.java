@@ -0,0 +1,83 @@
+package com.example.sessionauth.global.thread;
+
+import com.example.sessionauth.global.config.AppThreadProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("VirtualThreadPinningMonitor")
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(new AppThreadProperties.Pinning(true, Duration.ofMillis(10), 100), meterRegistry);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("synchronized 블록 안에서 블로킹하면 발생 위치별로 기록한다")
+    void recordsPinnedSite() throws InterruptedException {
+        // when
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            Timer timer = meterRegistry.find("jvm.threads.virtual.pinned")
+                    .tag("site", VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("java.util.concurrent 락으로 대기하면 기록하지 않는다")
+    void ignoresUnpinnedBlocking() throws InterruptedException {
+        // given
+        ReentrantLock lock = new ReentrantLock();
+
+        // when
+        Thread.ofVirtual().start(() -> {
+            lock.lock();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        }).join();
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // then (뒤이은 pinning 이 기록될 때까지 기다린 뒤 다른 위치가 없는지 확인)
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> meterRegistry.find("jvm.threads.virtual.pinned").timer() != null);
+        assertThat(meterRegistry.find("jvm.threads.virtual.pinned").timers()).hasSize(1);
+    }
+
+    private synchronized void sleepWhileHoldingMonitor() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.example.sessionauth.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter")
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+        // when
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        // then
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain("user" + i + "@example.com"))).isTrue();
+        assertThat(filter.size()).isGreaterThan(INSERTIONS * 99L / 100);
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 false positive 비율이 목표치 근처다")
+    void falsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, INSERTIONS)
+                .filter(i -> filter.mightContain("unknown" + i + "@example.com"))
+                .count();
+
+        // then
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.sessionauth.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MpscRingBuffer")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("가득 차면 추가하지 않고, 꺼낸 만큼 다시 추가할 수 있다")
+    void rejectsWhenFull() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        IntStream.range(0, 4).forEach(buffer::offer);
+
+        // when
+        boolean overflow = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drain(drained::add, 2);
+
+        // then
+        assertThat(overflow).isFalse();
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 값을 잃거나 중복하지 않는다")
+    void concurrentProducers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        boolean[] seen = new boolean[producers * perProducer];
+        int[] count = {0};
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(value -> {
+                assertThat(seen[value]).isFalse();
+                seen[value] = true;
+                count[0]++;
+            }, 256);
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(count[0]).isEqualTo(producers * perProducer);
+    }
+}
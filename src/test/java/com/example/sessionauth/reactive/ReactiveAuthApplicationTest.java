@@ -0,0 +1,308 @@
+package com.example.sessionauth.reactive;
+
+import com.example.sessionauth.domains.auth.exception.AuthErrorCode;
+import com.example.sessionauth.domains.auth.service.LoginThrottle;
+import com.example.sessionauth.domains.session.dto.request.SessionCondition;
+import com.example.sessionauth.domains.session.service.SessionAdminService;
+import com.example.sessionauth.global.config.AppSecurityProperties;
+import com.example.sessionauth.global.config.AppSessionProperties;
+import com.example.sessionauth.global.exception.RateLimitException;
+import com.example.sessionauth.global.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import redis.embedded.RedisServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * reactive 인증 API (내장 Redis + R2DBC H2)
+ */
+@DisplayName("ReactiveAuthApplication")
+@ActiveProfiles(ReactiveAuthApplication.PROFILE)
+@SpringBootTest(
+        classes = ReactiveAuthApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactive-auth;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                "spring.r2dbc.username=sa",
+                "spring.r2dbc.password=",
+                "app.security.password-hashing.strength=4"
+        }
+)
+class ReactiveAuthApplicationTest {
+
+    private static final String SESSION_COOKIE = "SESSION";
+
+    private static RedisServer redisServer;
+    private static final int REDIS_PORT = freePort();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    @Nested
+    @DisplayName("회원가입 → 로그인 → /me → 로그아웃")
+    class Scenario {
+
+        @Test
+        @DisplayName("로그인 세션 쿠키로 /me 를 조회하고, 로그아웃하면 같은 쿠키로는 401 이다")
+        void loginMeLogout() {
+            // given
+            signup("flow@example.com", "flow").expectStatus().isCreated();
+
+            // when
+            ResponseCookie session = login("flow@example.com", "password1")
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.data.nickname").isEqualTo("flow")
+                    .returnResult().getResponseCookies().getFirst(SESSION_COOKIE);
+
+            // then
+            assertThat(session).isNotNull();
+            webTestClient.get().uri("/api/auth/me").cookie(SESSION_COOKIE, session.getValue())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.data.email").isEqualTo("flow@example.com");
+
+            webTestClient.post().uri("/api/auth/logout").cookie(SESSION_COOKIE, session.getValue())
+                    .exchange()
+                    .expectStatus().isNoContent();
+
+            webTestClient.get().uri("/api/auth/me").cookie(SESSION_COOKIE, session.getValue())
+                    .exchange()
+                    .expectStatus().isUnauthorized()
+                    .expectBody().jsonPath("$.code").isEqualTo("UNAUTHORIZED");
+        }
+
+        @Test
+        @DisplayName("로그인 세션은 서블릿 애플리케이션의 세션 저장소에서도 같은 SecurityContext 로 읽힌다")
+        void sessionIsReadableByServletRepository(
+                @Autowired RedisConnectionFactory connectionFactory,
+                @Autowired @Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> serializer
+        ) {
+            // given
+            signup("shared@example.com", "shared").expectStatus().isCreated();
+            ResponseCookie session = login("shared@example.com", "password1")
+                    .expectStatus().isOk()
+                    .returnResult(Void.class).getResponseCookies().getFirst(SESSION_COOKIE);
+            String sessionId = sessionId(session);
+
+            // when
+            Session servletSession = servletRepository(connectionFactory, serializer).findById(sessionId);
+
+            // then
+            assertThat(servletSession).isNotNull();
+            SecurityContext context = servletSession.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+            assertThat(context.getAuthentication().getPrincipal())
+                    .isInstanceOfSatisfying(CustomUserDetails.class, principal -> {
+                        assertThat(principal.getEmail()).isEqualTo("shared@example.com");
+                        assertThat(principal.getPassword()).isNull();
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("서블릿 노드와 공유하는 보호 장치")
+    class SharedWithServlet {
+
+        @Test
+        @DisplayName("reactive 로그인 실패는 서블릿 노드와 같은 실패 횟수 제한에 합산되고, 한도를 넘으면 429 와 Retry-After")
+        void loginFailuresCountAgainstSharedThrottle(
+                @Autowired LoginThrottle loginThrottle,
+                @Autowired StringRedisTemplate redisTemplate,
+                @Autowired AppSecurityProperties properties
+        ) {
+            // given
+            signup("throttle@example.com", "throttle").expectStatus().isCreated();
+            LoginThrottle servletNode = new LoginThrottle(properties, redisTemplate, new SimpleMeterRegistry());
+            int limit = properties.loginThrottle().maxFailuresPerEmail();
+
+            // when (reactive 노드에서 한도보다 한 번 적게 실패하고 Redis 와 동기화)
+            for (int i = 0; i < limit - 1; i++) {
+                login("throttle@example.com", "mismatch").expectStatus().isUnauthorized();
+            }
+            loginThrottle.synchronize();
+            servletNode.recordFailure("throttle@example.com", "10.0.0.1");
+            servletNode.synchronize();
+
+            // then (서블릿 노드는 합산된 횟수로 거절)
+            assertThatThrownBy(() -> servletNode.checkAllowed("throttle@example.com", "10.0.0.1"))
+                    .isInstanceOf(RateLimitException.class);
+
+            login("throttle@example.com", "mismatch").expectStatus().isUnauthorized();
+            login("throttle@example.com", "password1")
+                    .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                    .expectHeader().exists(HttpHeaders.RETRY_AFTER)
+                    .expectBody().jsonPath("$.code").isEqualTo(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getCode());
+        }
+
+        @Test
+        @DisplayName("reactive 로그인 세션은 서블릿 노드의 관리자 세션 조회와 principal 인덱스에 나타나고, 로그아웃하면 빠진다")
+        void sessionIsListedForAdmin(
+                @Autowired RedisConnectionFactory connectionFactory,
+                @Autowired @Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> serializer,
+                @Autowired AppSessionProperties properties,
+                @Autowired ObjectMapper objectMapper
+        ) {
+            // given
+            signup("listed@example.com", "listed").expectStatus().isCreated();
+            ResponseCookie session = login("listed@example.com", "password1")
+                    .expectStatus().isOk()
+                    .returnResult(Void.class).getResponseCookies().getFirst(SESSION_COOKIE);
+            String sessionId = sessionId(session);
+            RedisIndexedSessionRepository servletRepository = servletRepository(connectionFactory, serializer);
+            SessionAdminService adminService = new SessionAdminService(
+                    servletRepository, "spring:session", properties, objectMapper, new SimpleMeterRegistry());
+
+            // when
+            String listed = listSessions(adminService, "listed@example.com");
+
+            // then
+            assertThat(listed).contains(sessionId);
+            assertThat(servletRepository.findByPrincipalName("listed@example.com")).containsOnlyKeys(sessionId);
+            assertThat(servletRepository.getSessionRedisOperations().hasKey("spring:session:sessions:expires:" + sessionId)).isTrue();
+
+            webTestClient.post().uri("/api/auth/logout").cookie(SESSION_COOKIE, session.getValue())
+                    .exchange()
+                    .expectStatus().isNoContent();
+            assertThat(listSessions(adminService, "listed@example.com")).isEmpty();
+            assertThat(servletRepository.findByPrincipalName("listed@example.com")).isEmpty();
+        }
+
+        private static String listSessions(SessionAdminService adminService, String principal) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            adminService.stream(SessionCondition.ofPrincipal(principal), out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("에러 응답")
+    class Errors {
+
+        @Test
+        @DisplayName("이미 가입한 이메일/닉네임이면 409 와 서블릿 버전과 같은 에러 코드")
+        void duplicate() {
+            // given
+            signup("dup@example.com", "dup").expectStatus().isCreated();
+
+            // when & then
+            signup("dup@example.com", "other").expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                    .expectBody().jsonPath("$.code").isEqualTo("DUPLICATE_EMAIL");
+            signup("other@example.com", "dup").expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                    .expectBody().jsonPath("$.code").isEqualTo("DUPLICATE_NICKNAME");
+        }
+
+        @Test
+        @DisplayName("가입하지 않은 이메일은 404, 비밀번호가 틀리면 401")
+        void loginFailure() {
+            // given
+            signup("wrong@example.com", "wrong").expectStatus().isCreated();
+
+            // when & then
+            login("none@example.com", "password1").expectStatus().isNotFound()
+                    .expectBody().jsonPath("$.code").isEqualTo("NOT_FOUND_USER");
+            webTestClient.post().uri("/api/auth/login")
+                    .bodyValue(Map.of("email", "wrong@example.com", "password", "mismatch"))
+                    .exchange()
+                    .expectStatus().isUnauthorized()
+                    .expectBody().jsonPath("$.code").isEqualTo("INVALID_PASSWORD");
+        }
+
+        @Test
+        @DisplayName("입력값이 잘못되면 400 과 필드 오류")
+        void invalidInput() {
+            webTestClient.post().uri("/api/auth/signup")
+                    .bodyValue(Map.of("email", "not-an-email", "password", "password1", "nickname", "invalid"))
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.code").isEqualTo("INVALID_INPUT_VALUE")
+                    .jsonPath("$.errors[0].field").isEqualTo("email");
+        }
+    }
+
+    private WebTestClient.ResponseSpec signup(String email, String nickname) {
+        return webTestClient.post().uri("/api/auth/signup")
+                .bodyValue(Map.of("email", email, "password", "password1", "nickname", nickname))
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec login(String email, String password) {
+        return webTestClient.post().uri("/api/auth/login")
+                .bodyValue(Map.of("email", email, "password", password))
+                .exchange();
+    }
+
+    private static String sessionId(ResponseCookie session) {
+        return new String(Base64.getDecoder().decode(session.getValue()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 서블릿 애플리케이션과 같은 구성의 세션 저장소 (같은 Redis, 같은 직렬화기)
+     */
+    private static RedisIndexedSessionRepository servletRepository(RedisConnectionFactory connectionFactory, RedisSerializer<Object> serializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setDefaultSerializer(serializer);
+        template.afterPropertiesSet();
+        RedisIndexedSessionRepository servletRepository = new RedisIndexedSessionRepository(template);
+        servletRepository.setDefaultSerializer(serializer);
+        return servletRepository;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}